@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.3.5"
 	id("io.spring.dependency-management") version "1.1.6"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "be.kdg"
@@ -51,4 +52,33 @@ dependencies {
 
 tasks.withType<Test> {
 	useJUnitPlatform()
+	providers.gradleProperty("potPropertyRounds").orNull?.let { systemProperty("pot.property.rounds", it) }
+}
+
+jmh {
+	resultFormat = "JSON"
+	resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+}
+
+val handRankTableDir = layout.buildDirectory.dir("generated/resources/hand-ranks")
+
+val generateHandRankTable by tasks.registering(JavaExec::class) {
+	description = "Generates the hand rank lookup table that is packaged as a resource."
+	classpath = sourceSets.main.get().output.classesDirs
+	mainClass = "be.kdg.poker.engine.HandRankTable"
+	args(handRankTableDir.get().file("be/kdg/poker/engine/hand-ranks.bin").asFile.absolutePath)
+	outputs.dir(handRankTableDir)
+}
+
+sourceSets {
+	main {
+		resources.srcDir(generateHandRankTable)
+	}
+}
+
+val simulate by tasks.registering(JavaExec::class) {
+	description = "Plays bot games through the game services on in-memory repositories and reports the hands per second, e.g. -Psimulation=\"tables=1000 seats=6\"."
+	classpath = sourceSets["jmh"].runtimeClasspath
+	mainClass = "be.kdg.poker.simulation.Simulator"
+	providers.gradleProperty("simulation").orNull?.let { args(it.split(" ")) }
 }
@@ -0,0 +1,69 @@
+package be.kdg.poker.benchmarks;
+
+import be.kdg.poker.controllers.dto.CalculateRoundWinnerDto;
+import be.kdg.poker.domain.Game;
+import be.kdg.poker.domain.Player;
+import be.kdg.poker.engine.HandRankTable;
+import be.kdg.poker.repositories.*;
+import be.kdg.poker.services.AchievementService;
+import be.kdg.poker.services.DividePotService;
+import be.kdg.poker.services.HandRankService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DividePotBenchmark {
+    private static final int DEALS = 1024;
+
+    @Param({"2", "4", "6"})
+    public int players;
+
+    @Param({"false", "true"})
+    public boolean allIns;
+
+    private DividePotService dividePotService;
+    private List<CalculateRoundWinnerDto> deals;
+    private List<List<List<Player>>> winners;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        var game = new Game();
+        var playerRepository = StubRepositories.create(PlayerRepository.class, game);
+        var gameRepository = StubRepositories.create(GameRepository.class, game);
+        var handRankService = new HandRankService(HandRankTable.generate());
+        var achievementService = new AchievementService(
+                StubRepositories.create(AchievementRepository.class, game),
+                StubRepositories.create(AccountRepository.class, game),
+                playerRepository, handRankService, null);
+
+        dividePotService = new DividePotService(
+                StubRepositories.create(RoundRepository.class, game), gameRepository,
+                StubRepositories.create(TurnRepository.class, game), playerRepository,
+                handRankService, achievementService);
+
+        deals = RandomDeals.generate(DEALS, players, allIns, 7L);
+        winners = new ArrayList<>(DEALS);
+        for (var deal : deals) winners.add(dividePotService.calculateWinners(deal));
+    }
+
+    @Benchmark
+    public Object calculateWinners() {
+        next = (next + 1) & (DEALS - 1);
+        return dividePotService.calculateWinners(deals.get(next));
+    }
+
+    @Benchmark
+    public Object dividePot() {
+        next = (next + 1) & (DEALS - 1);
+        return dividePotService.dividePot(winners.get(next), deals.get(next));
+    }
+}
@@ -0,0 +1,81 @@
+package be.kdg.poker.benchmarks;
+
+import be.kdg.poker.controllers.dto.CalculateRoundWinnerDto;
+import be.kdg.poker.engine.CardCodec;
+import be.kdg.poker.engine.HandEvaluator;
+import be.kdg.poker.engine.HandRankTable;
+import be.kdg.poker.services.HandRankService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandEvaluationBenchmark {
+    private static final int DEALS = 1024;
+
+    @Param({"2", "4", "6"})
+    public int players;
+
+    private HandRankService handRankService;
+    private HandRankTable handRankTable;
+    private List<CalculateRoundWinnerDto> deals;
+    private long[] cardMasks;
+    private int[] ordinals;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        handRankTable = HandRankTable.generate();
+        handRankService = new HandRankService(handRankTable);
+        deals = RandomDeals.generate(DEALS, players, false, 42L);
+        cardMasks = deals.stream()
+                .flatMap(deal -> deal.hands().values().stream())
+                .mapToLong(CardCodec::toMask)
+                .toArray();
+        ordinals = new int[cardMasks.length];
+    }
+
+    @Benchmark
+    public Object calculateWinnersByHandRanks() {
+        var deal = nextDeal();
+        return handRankService.calculateWinnersByHandRanks(deal.players(), deal.hands());
+    }
+
+    @Benchmark
+    public int calculateHandScore() {
+        var deal = nextDeal();
+        return handRankService.calculateHandScore(deal.hands().get(deal.players().get(0)));
+    }
+
+    @Benchmark
+    public int bitmaskEvaluator() {
+        return HandEvaluator.evaluate(nextCardMask());
+    }
+
+    @Benchmark
+    public int lookupTable() {
+        return handRankTable.ordinal(nextCardMask());
+    }
+
+    @Benchmark
+    public int[] evaluateBatch() {
+        handRankService.evaluateBatch(cardMasks, ordinals);
+        return ordinals;
+    }
+
+    private CalculateRoundWinnerDto nextDeal() {
+        next = (next + 1) & (DEALS - 1);
+        return deals.get(next);
+    }
+
+    private long nextCardMask() {
+        next = (next + 1) % cardMasks.length;
+        return cardMasks[next];
+    }
+}
@@ -0,0 +1,55 @@
+package be.kdg.poker.benchmarks;
+
+import be.kdg.poker.controllers.dto.AllInDto;
+import be.kdg.poker.controllers.dto.CalculateRoundWinnerDto;
+import be.kdg.poker.domain.Card;
+import be.kdg.poker.domain.Player;
+import be.kdg.poker.domain.enums.Suit;
+
+import java.util.*;
+
+/**
+ * Seeded showdown situations: every player holds two cards plus a shared five-card board.
+ * Without all-ins everybody matched the same bet, with all-ins the stakes differ per player.
+ */
+final class RandomDeals {
+    private static final int BIG_BLIND = 10;
+
+    private RandomDeals() {
+    }
+
+    static List<CalculateRoundWinnerDto> generate(int count, int playerCount, boolean withAllIns, long seed) {
+        var random = new Random(seed);
+        var deck = new ArrayList<Card>();
+        for (var suit : Suit.values()) {
+            for (int rank = 2; rank <= 14; rank++) deck.add(new Card(suit, rank));
+        }
+
+        var deals = new ArrayList<CalculateRoundWinnerDto>(count);
+        for (int i = 0; i < count; i++) {
+            Collections.shuffle(deck, random);
+            var board = deck.subList(0, 5);
+            var players = new ArrayList<Player>(playerCount);
+            var hands = new HashMap<Player, List<Card>>();
+            var stakes = new HashMap<AllInDto, Integer>();
+            int matchedStake = BIG_BLIND * (1 + random.nextInt(20));
+
+            for (int p = 0; p < playerCount; p++) {
+                var player = new Player(UUID.randomUUID(), 1000);
+                players.add(player);
+
+                var hand = new ArrayList<Card>(7);
+                hand.add(deck.get(5 + p * 2));
+                hand.add(deck.get(6 + p * 2));
+                hand.addAll(board);
+                hands.put(player, hand);
+
+                boolean allIn = withAllIns && p < playerCount - 1 && random.nextBoolean();
+                int stake = allIn ? BIG_BLIND * (1 + random.nextInt(matchedStake / BIG_BLIND)) : matchedStake;
+                stakes.put(new AllInDto(player, allIn), stake);
+            }
+            deals.add(new CalculateRoundWinnerDto(players, hands, stakes));
+        }
+        return deals;
+    }
+}
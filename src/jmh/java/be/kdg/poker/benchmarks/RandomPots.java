@@ -0,0 +1,59 @@
+package be.kdg.poker.benchmarks;
+
+import be.kdg.poker.controllers.dto.AllInDto;
+import be.kdg.poker.controllers.dto.CalculateRoundWinnerDto;
+import be.kdg.poker.domain.Player;
+import be.kdg.poker.engine.SidePotEngine;
+
+import java.util.*;
+
+/**
+ * Seeded pot divisions without cards: players fold, go all-in short or call, and showdown ranks are drawn from a
+ * small range so split pots are common. Each pot is available both as engine arrays and as the service input.
+ */
+final class RandomPots {
+    private static final int MAX_BET = 200;
+
+    final int[][] contributions;
+    final int[][] ranks;
+    final List<List<List<Player>>> playersByWinIndex;
+    final List<CalculateRoundWinnerDto> rounds;
+
+    private RandomPots(int count) {
+        contributions = new int[count][];
+        ranks = new int[count][];
+        playersByWinIndex = new ArrayList<>(count);
+        rounds = new ArrayList<>(count);
+    }
+
+    static RandomPots generate(int count, int playerCount, long seed) {
+        var random = new Random(seed);
+        var pots = new RandomPots(count);
+
+        for (int i = 0; i < count; i++) {
+            int bet = 1 + random.nextInt(MAX_BET);
+            var contributions = new int[playerCount];
+            var ranks = new int[playerCount];
+            var stakes = new HashMap<AllInDto, Integer>();
+            var byRank = new TreeMap<Integer, List<Player>>();
+
+            for (int p = 0; p < playerCount; p++) {
+                var player = new Player(UUID.randomUUID(), 1000);
+                player.setPosition(p);
+                boolean inHand = p == 0 || random.nextInt(4) != 0;
+                boolean allIn = inHand && random.nextInt(3) == 0;
+                contributions[p] = allIn || !inHand ? random.nextInt(bet + 1) : bet;
+                ranks[p] = inHand ? random.nextInt(3) : SidePotEngine.NOT_ELIGIBLE;
+
+                stakes.put(new AllInDto(player, allIn), contributions[p]);
+                if (inHand) byRank.computeIfAbsent(ranks[p], rank -> new ArrayList<>()).add(player);
+            }
+
+            pots.contributions[i] = contributions;
+            pots.ranks[i] = ranks;
+            pots.playersByWinIndex.add(new ArrayList<>(byRank.values()));
+            pots.rounds.add(new CalculateRoundWinnerDto(null, null, stakes));
+        }
+        return pots;
+    }
+}
@@ -0,0 +1,54 @@
+package be.kdg.poker.benchmarks;
+
+import be.kdg.poker.domain.Game;
+import be.kdg.poker.engine.SidePotEngine;
+import be.kdg.poker.repositories.*;
+import be.kdg.poker.services.DividePotService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pot divisions per second on synthetic rounds with folds, short all-ins and split pots, for the engine alone and
+ * through the service including the conversion from and to players.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SidePotBenchmark {
+    private static final int POTS = 4096;
+
+    @Param({"2", "6", "9"})
+    public int players;
+
+    private DividePotService dividePotService;
+    private RandomPots pots;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        var game = new Game();
+        dividePotService = new DividePotService(
+                StubRepositories.create(RoundRepository.class, game),
+                StubRepositories.create(GameRepository.class, game),
+                StubRepositories.create(TurnRepository.class, game),
+                StubRepositories.create(PlayerRepository.class, game),
+                null, null);
+        pots = RandomPots.generate(POTS, players, 11L);
+    }
+
+    @Benchmark
+    public int[] divide() {
+        next = (next + 1) & (POTS - 1);
+        return SidePotEngine.divide(pots.contributions[next], pots.ranks[next]);
+    }
+
+    @Benchmark
+    public Object dividePot() {
+        next = (next + 1) & (POTS - 1);
+        return dividePotService.dividePot(pots.playersByWinIndex.get(next), pots.rounds.get(next));
+    }
+}
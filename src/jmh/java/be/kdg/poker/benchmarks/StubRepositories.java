@@ -0,0 +1,48 @@
+package be.kdg.poker.benchmarks;
+
+import be.kdg.poker.domain.Game;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository stand-ins for benchmarks: saves return their argument, game lookups return the given game and every
+ * other query comes back empty, so the measured time stays inside the services.
+ */
+final class StubRepositories {
+
+    private StubRepositories() {
+    }
+
+    static <T> T create(Class<T> repositoryType, Game game) {
+        return repositoryType.cast(Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    var returnType = method.getReturnType();
+                    switch (method.getName()) {
+                        case "save", "saveAndFlush", "saveAll", "saveAllAndFlush" -> {
+                            return args[0];
+                        }
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        case "toString" -> {
+                            return repositoryType.getSimpleName() + "Stub";
+                        }
+                        default -> {
+                            if (returnType == Optional.class) {
+                                return method.getName().startsWith("findGame") ? Optional.of(game) : Optional.empty();
+                            }
+                            if (List.class.isAssignableFrom(returnType)) return List.of();
+                            if (returnType == boolean.class) return false;
+                            if (returnType == int.class) return 0;
+                            if (returnType == long.class) return 0L;
+                            return null;
+                        }
+                    }
+                }));
+    }
+}
@@ -0,0 +1,36 @@
+package be.kdg.poker.simulation;
+
+import be.kdg.poker.engine.TableState;
+
+import java.util.SplittableRandom;
+
+/**
+ * Decides the move of a simulated player. The simulator turns the decision into a legal move: folding when there is
+ * nothing to call checks, calling or raising more than the stack goes all-in and a raise is at least one big blind.
+ */
+public interface BotStrategy {
+
+    /**
+     * @param hand  mask of the two cards of the player
+     * @param board mask of the community cards dealt so far
+     */
+    Decision decide(TableState state, int seat, long hand, long board, SplittableRandom random);
+
+    enum Move {
+        FOLD,
+        CALL,
+        RAISE
+    }
+
+    /**
+     * @param raiseBy chips to raise on top of calling; only used for {@link Move#RAISE}
+     */
+    record Decision(Move move, int raiseBy) {
+        static final Decision FOLD = new Decision(Move.FOLD, 0);
+        static final Decision CALL = new Decision(Move.CALL, 0);
+
+        static Decision raise(int raiseBy) {
+            return new Decision(Move.RAISE, raiseBy);
+        }
+    }
+}
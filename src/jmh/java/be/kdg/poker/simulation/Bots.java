@@ -0,0 +1,57 @@
+package be.kdg.poker.simulation;
+
+import be.kdg.poker.engine.HandEvaluator;
+
+import java.util.Locale;
+
+/**
+ * The strategies the simulator can seat, by name.
+ */
+final class Bots {
+
+    private Bots() {
+    }
+
+    static BotStrategy byName(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "calling-station" -> callingStation();
+            case "random" -> random();
+            case "hand-strength" -> handStrength();
+            default -> throw new IllegalArgumentException("unknown bot strategy " + name);
+        };
+    }
+
+    /**
+     * Calls every bet and never raises, so most hands go to showdown.
+     */
+    static BotStrategy callingStation() {
+        return (state, seat, hand, board, random) -> BotStrategy.Decision.CALL;
+    }
+
+    /**
+     * Folds to a bet one time in five and raises the pot one time in ten.
+     */
+    static BotStrategy random() {
+        return (state, seat, hand, board, random) -> {
+            int roll = random.nextInt(10);
+            if (roll < 2 && state.toCall(seat) > 0) return BotStrategy.Decision.FOLD;
+            if (roll == 9) return BotStrategy.Decision.raise(state.pot());
+            return BotStrategy.Decision.CALL;
+        };
+    }
+
+    /**
+     * Raises with two pair or better, calls small bets with a pair or a high pocket card and folds the rest.
+     */
+    static BotStrategy handStrength() {
+        return (state, seat, hand, board, random) -> {
+            int category = HandEvaluator.category(HandEvaluator.evaluate(hand | board));
+            if (category >= HandEvaluator.TWO_PAIR) return BotStrategy.Decision.raise(Math.max(state.pot() / 2, 1));
+            boolean cheap = state.toCall(seat) <= state.pot() / 3;
+            int highRank = Math.max(Long.numberOfTrailingZeros(hand) % 13, (63 - Long.numberOfLeadingZeros(hand)) % 13);
+            boolean highCard = highRank >= 9;
+            if (category == HandEvaluator.PAIR || (board == 0 && highCard) || cheap) return BotStrategy.Decision.CALL;
+            return BotStrategy.Decision.FOLD;
+        };
+    }
+}
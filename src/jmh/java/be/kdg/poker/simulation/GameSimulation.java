@@ -0,0 +1,204 @@
+package be.kdg.poker.simulation;
+
+import be.kdg.poker.controllers.dto.GameDto;
+import be.kdg.poker.domain.Account;
+import be.kdg.poker.domain.Configuration;
+import be.kdg.poker.domain.Player;
+import be.kdg.poker.domain.Round;
+import be.kdg.poker.domain.Turn;
+import be.kdg.poker.domain.enums.Phase;
+import be.kdg.poker.domain.enums.PlayerStatus;
+import be.kdg.poker.engine.CardCodec;
+import be.kdg.poker.engine.TableState;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Plays one game of bots against the services of a {@link SimulatedServer} the way the clients and controllers do:
+ * the first bot creates the game, the others join and the creator starts it. Every move, pot division and new round
+ * runs on the {@link be.kdg.poker.services.TableActors} of the game, and the bots decide from the turns of the round
+ * like a client does. The game ends when a single player has all the chips or the hand limit is reached; every hand
+ * checks that no chips were created or lost.
+ */
+final class GameSimulation {
+    private static final int MAX_MOVES_PER_HAND = 1_000;
+
+    private final SimulatedServer server;
+    private final BotStrategy[] bots;
+    private final int startingStack;
+    private final int bigBlind;
+    private final SplittableRandom random;
+    private final String name;
+    private final Map<UUID, BotStrategy> botByPlayer = new HashMap<>();
+    private UUID gameId;
+
+    GameSimulation(SimulatedServer server, BotStrategy[] bots, int startingStack, int bigBlind, long seed) {
+        this.server = server;
+        this.bots = bots.clone();
+        this.startingStack = startingStack;
+        this.bigBlind = bigBlind;
+        this.random = new SplittableRandom(seed);
+        this.name = "simulation-" + seed;
+    }
+
+    /**
+     * @return the number of hands played
+     */
+    int play(int maxHands) {
+        try {
+            startGame();
+            int hands = 0;
+            var round = currentRound();
+            while (true) {
+                playHand(round);
+                hands++;
+                if (hands >= maxHands) return hands;
+
+                var finished = round;
+                var next = server.tableActors.call(gameId, () -> {
+                    var game = server.roundService.getGameWithPlayers(gameId);
+                    return game.getPlayers().size() > 1 ? server.roundService.createNewRoundIfFinished(game, finished.getId()) : null;
+                });
+                if (next == null) return hands;
+                server.repositories.forgetRound(finished.getId());
+                round = currentRound();
+            }
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private void startGame() {
+        var emails = new ArrayList<String>();
+        for (int seat = 0; seat < bots.length; seat++) {
+            var username = name + "-seat-" + seat;
+            var account = new Account(username + "@simulation.local", username, username, null, null, null);
+            emails.add(server.accountRepository.save(account).getEmail());
+        }
+        var settings = new Configuration();
+        settings.setSmallBlind(Math.max(bigBlind / 2, 1));
+        settings.setBigBlind(bigBlind);
+        settings.setStartingChips(startingStack);
+
+        logIn(emails.get(0));
+        gameId = server.gameRoundService.createGame(new GameDto(null, null, bots.length, null, null, null, name, settings)).id();
+        for (var email : emails.subList(1, emails.size())) {
+            logIn(email);
+            server.gameRoundService.addLoggedInPlayerToGame(gameId);
+        }
+        logIn(emails.get(0));
+        server.gameRoundService.startGame(gameId);
+
+        for (var player : server.roundService.getGameWithPlayers(gameId).getPlayers()) {
+            botByPlayer.put(player.getId(), bots[player.getPosition()]);
+        }
+    }
+
+    private void playHand(Round round) {
+        int chipsBefore = bots.length * startingStack;
+        for (int moves = 0; round.getPhase() != Phase.FINISHED; moves++) {
+            if (moves == MAX_MOVES_PER_HAND) {
+                throw new IllegalStateException("round with id " + round.getId() + " did not finish in " + moves + " moves");
+            }
+            move(round);
+            round = currentRound();
+        }
+
+        var roundId = round.getId();
+        server.tableActors.run(gameId, () -> server.dividePotService.getCalculateRoundWinnerDto(roundId).ifPresent(calculation -> {
+            var playersByWinIndex = server.dividePotService.calculateWinners(calculation);
+            server.dividePotService.dividePot(playersByWinIndex, calculation);
+            server.gameRoundService.removeAllBrokePlayersFromLastRound(roundId);
+        }));
+
+        int chipsAfter = server.roundService.getGameWithPlayers(gameId).getPlayers().stream().mapToInt(Player::getMoney).sum();
+        if (chipsAfter != chipsBefore) {
+            throw new IllegalStateException("round with id " + roundId + " changed the chips in the game from " + chipsBefore + " to " + chipsAfter);
+        }
+    }
+
+    private void move(Round round) {
+        var turn = round.getTurns().stream()
+                .filter(candidate -> candidate.getMoveMade() == PlayerStatus.ON_MOVE)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("nobody is on move in round with id " + round.getId()));
+        var players = new ArrayList<>(server.roundService.getGameWithPlayers(gameId).getPlayers());
+        players.sort(Comparator.comparing(Player::getPosition));
+        var player = turn.getPlayer();
+        int seat = players.indexOf(player);
+
+        var state = replay(players, round);
+        var decision = botByPlayer.get(player.getId())
+                .decide(state, seat, CardCodec.toMask(player.getHand()), CardCodec.toMask(round.getCommunityCards()), random);
+        var action = toAction(decision, state.toCall(seat), player.getMoney());
+        server.tableActors.run(gameId, () -> server.roundService.handleTurnAction(turn.getId(), gameId, round.getId(), action));
+    }
+
+    /**
+     * Turns a decision into the request a client sends: folding when there is nothing to call checks, calling or
+     * raising the whole stack or more goes all-in and a raise is at least one big blind.
+     */
+    private Consumer<Turn> toAction(BotStrategy.Decision decision, int toCall, int stack) {
+        var turnService = server.turnService;
+        int amount = switch (decision.move()) {
+            case FOLD -> 0;
+            case CALL -> toCall;
+            case RAISE -> toCall + Math.max(decision.raiseBy(), bigBlind);
+        };
+        if (amount > 0 && amount >= stack) {
+            return turn -> {
+                turnService.allin(turn, stack);
+                server.playerService.updatePlayerMoney(turn.getId(), -stack);
+            };
+        }
+        if (toCall == 0 && amount == 0) return turnService::check;
+        return switch (decision.move()) {
+            case FOLD -> turnService::fold;
+            case CALL -> turn -> {
+                turnService.call(turn, amount);
+                server.playerService.updatePlayerMoney(turn.getId(), -amount);
+            };
+            case RAISE -> turn -> {
+                turnService.raise(turn, amount);
+                server.playerService.updatePlayerMoney(turn.getId(), -amount);
+            };
+        };
+    }
+
+    /**
+     * Replays the turns of the round on a fresh table state, which is what a client sees of the hand. Moves of players
+     * that already folded or went all-in do not change the hand.
+     *
+     * @param seats the players of the game by position
+     */
+    private static TableState replay(List<Player> seats, Round round) {
+        var stacks = new int[seats.size()];
+        for (int seat = 0; seat < stacks.length; seat++) stacks[seat] = seats.get(seat).getMoney();
+        for (var turn : round.getTurns()) {
+            int seat = seats.indexOf(turn.getPlayer());
+            if (seat >= 0 && turn.getMoveMade() != PlayerStatus.ON_MOVE) stacks[seat] += turn.getMoneyGambled();
+        }
+
+        var state = new TableState(stacks, round.getDealerIndex());
+        for (var turn : round.getTurns()) {
+            int seat = seats.indexOf(turn.getPlayer());
+            if (seat < 0 || turn.getMoveMade() == PlayerStatus.ON_MOVE || state.isFolded(seat) || state.isAllIn(seat)) continue;
+            if (turn.getMadeInPhase() != state.phase()) state.startStreet(turn.getMadeInPhase());
+            state.apply(seat, turn.getMoveMade(), turn.getMoneyGambled());
+        }
+        if (round.getPhase() != state.phase()) state.startStreet(round.getPhase());
+        return state;
+    }
+
+    private Round currentRound() {
+        return server.roundService.getLatestByGameWithTurns(gameId)
+                .orElseThrow(() -> new IllegalStateException("game with id " + gameId + " has no round"));
+    }
+
+    private static void logIn(String email) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+}
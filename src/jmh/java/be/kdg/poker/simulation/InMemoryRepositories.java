@@ -0,0 +1,300 @@
+package be.kdg.poker.simulation;
+
+import be.kdg.poker.domain.*;
+import be.kdg.poker.repositories.*;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Repositories for the simulator that keep the entities in maps instead of a database. Saving assigns an id and indexes
+ * the entity; a game is read back with the players stored for it and a round with its turns in the order they were
+ * saved, like a fresh fetch join would. Only the queries the game flow uses are answered, any other query fails.
+ * Tables of different games can be played in parallel; the rows of one game are only touched by one thread at a time.
+ */
+final class InMemoryRepositories {
+    private final Rows<Account> accounts = new Rows<>(Account::getId, Account::setId);
+    private final Rows<Configuration> configurations = new Rows<>(Configuration::getId, Configuration::setId);
+    private final Rows<Game> games = new Rows<>(Game::getId, Game::setId);
+    private final Rows<Player> players = new Rows<>(Player::getId, Player::setId);
+    private final Rows<Round> rounds = new Rows<>(Round::getId, Round::setId);
+    private final Rows<Turn> turns = new Rows<>(Turn::getId, Turn::setId);
+    private final Rows<RoundAction> roundActions = new Rows<>(RoundAction::getId, RoundAction::setId);
+    private final Rows<RoundSnapshot> roundSnapshots = new Rows<>(RoundSnapshot::getId, RoundSnapshot::setId);
+
+    private final Map<String, Account> accountsByEmail = new ConcurrentHashMap<>();
+    private final Map<UUID, List<Player>> playersByGame = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> gameOfPlayer = new ConcurrentHashMap<>();
+    private final Map<UUID, List<Round>> roundsByGame = new ConcurrentHashMap<>();
+    private final Map<UUID, List<Turn>> turnsByRound = new ConcurrentHashMap<>();
+    private final Map<UUID, List<RoundAction>> actionsByRound = new ConcurrentHashMap<>();
+    private final Map<UUID, List<RoundSnapshot>> snapshotsByRound = new ConcurrentHashMap<>();
+
+    InMemoryRepositories() {
+        accounts.onSave = (account, inserted) -> accountsByEmail.put(account.getEmail(), account);
+        players.onSave = (player, inserted) -> {
+            var game = player.getGame() == null ? null : player.getGame().getId();
+            var previous = game == null ? gameOfPlayer.remove(player.getId()) : gameOfPlayer.put(player.getId(), game);
+            if (Objects.equals(previous, game)) return;
+            if (previous != null) playersOf(previous).remove(player);
+            if (game != null) playersOf(game).add(player);
+        };
+        players.onDelete = player -> {
+            var game = gameOfPlayer.remove(player.getId());
+            if (game != null) playersOf(game).remove(player);
+        };
+        rounds.onSave = (round, inserted) -> {
+            if (inserted) roundsByGame.computeIfAbsent(round.getGame().getId(), id -> new ArrayList<>()).add(round);
+        };
+        turns.onSave = (turn, inserted) -> {
+            if (inserted) turnsOf(turn.getRound().getId()).add(turn);
+        };
+        roundActions.onSave = (action, inserted) -> {
+            if (inserted) actionsByRound.computeIfAbsent(action.getRoundId(), id -> new ArrayList<>()).add(action);
+        };
+        roundSnapshots.onSave = (snapshot, inserted) -> {
+            if (inserted) snapshotsByRound.computeIfAbsent(snapshot.getRoundId(), id -> new ArrayList<>()).add(snapshot);
+        };
+    }
+
+    AccountRepository accountRepository() {
+        return repository(AccountRepository.class, accounts, Map.of(
+                "findAccountByEmail", args -> Optional.ofNullable(accountsByEmail.get((String) args[0]))));
+    }
+
+    ConfigurationRepository configurationRepository() {
+        return repository(ConfigurationRepository.class, configurations, Map.of());
+    }
+
+    GameRepository gameRepository() {
+        Function<Object[], Object> byId = args -> findGame((UUID) args[0]);
+        return repository(GameRepository.class, games, Map.of(
+                "findById", byId,
+                "findByIdWithPlayers", byId,
+                "findByIdWithSettings", byId,
+                "findByIdWithRounds", args -> findGame((UUID) args[0]).map(game -> {
+                    game.setRounds(new ArrayList<>(roundsOf(game.getId())));
+                    return game;
+                }),
+                "findByRoundId", args -> Optional.ofNullable(rounds.rows.get((UUID) args[0]))
+                        .flatMap(round -> findGame(round.getGame().getId())),
+                "findGameByPlayerId", args -> Optional.ofNullable(gameOfPlayer.get((UUID) args[0])).flatMap(this::findGame)));
+    }
+
+    PlayerRepository playerRepository() {
+        Function<Object[], Object> byId = args -> Optional.ofNullable(players.rows.get((UUID) args[0]));
+        return repository(PlayerRepository.class, players, Map.of(
+                "findAllByGameId", args -> new ArrayList<>(playersOf((UUID) args[0])),
+                "findByIdWithAccount", byId,
+                "findByIdWithGame", byId));
+    }
+
+    RoundRepository roundRepository() {
+        Function<Object[], Object> latest = args -> {
+            var gameRounds = roundsOf((UUID) args[0]);
+            return gameRounds.isEmpty() ? Optional.empty() : Optional.of(withTurns(gameRounds.get(gameRounds.size() - 1)));
+        };
+        return repository(RoundRepository.class, rounds, Map.of(
+                "findByIdWithTurns", args -> Optional.ofNullable(rounds.rows.get((UUID) args[0])).map(this::withTurns),
+                "findByIdWithGame", args -> Optional.ofNullable(rounds.rows.get((UUID) args[0])),
+                "findLatestByGame", latest,
+                "findLatestByGameWithTurns", latest,
+                "findAllByGameId", args -> new ArrayList<>(roundsOf((UUID) args[0]))));
+    }
+
+    TurnRepository turnRepository() {
+        Function<Object[], Object> byId = args -> Optional.ofNullable(turns.rows.get((UUID) args[0]));
+        return repository(TurnRepository.class, turns, Map.of(
+                "findByIdWithRound", byId,
+                "findByIdWithPlayer", byId,
+                "findByRoundIdWithPlayer", args -> new ArrayList<>(turnsOf((UUID) args[0])),
+                "findLastTurnByRoundIdWithPlayer", args -> {
+                    var roundTurns = turnsOf((UUID) args[0]);
+                    return roundTurns.isEmpty() ? Optional.empty() : Optional.of(roundTurns.get(roundTurns.size() - 1));
+                },
+                "findAllByPlayerId", args -> turnsOfPlayer((UUID) args[0], null),
+                "findAllByPlayerIdAndRoundId", args -> turnsOfPlayer((UUID) args[0], (UUID) args[1])));
+    }
+
+    RoundActionRepository roundActionRepository() {
+        return repository(RoundActionRepository.class, roundActions, Map.of(
+                "findTail", args -> {
+                    int sequence = (int) args[1];
+                    return actionsByRound.getOrDefault((UUID) args[0], List.of()).stream()
+                            .filter(action -> action.getSequence() > sequence)
+                            .sorted(Comparator.comparingInt(RoundAction::getSequence))
+                            .toList();
+                },
+                "deleteByRoundId", args -> {
+                    deleteAll(roundActions, actionsByRound.remove((UUID) args[0]));
+                    return null;
+                }));
+    }
+
+    RoundSnapshotRepository roundSnapshotRepository() {
+        return repository(RoundSnapshotRepository.class, roundSnapshots, Map.of(
+                "findLatest", args -> snapshotsByRound.getOrDefault((UUID) args[0], List.of()).stream()
+                        .max(Comparator.comparingInt(RoundSnapshot::getSequence)),
+                "deleteByRoundId", args -> {
+                    deleteAll(roundSnapshots, snapshotsByRound.remove((UUID) args[0]));
+                    return null;
+                }));
+    }
+
+    /**
+     * Answers every query with nothing, for the tables the game flow reads but the simulator does not fill, like the
+     * achievements and the chat messages.
+     */
+    static <R> R empty(Class<R> repositoryType) {
+        return repositoryType.cast(Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    var returnType = method.getReturnType();
+                    if (method.getName().startsWith("save")) return args[0];
+                    if (returnType == Optional.class) return Optional.empty();
+                    if (List.class.isAssignableFrom(returnType)) return new ArrayList<>();
+                    return switch (method.getName()) {
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "toString" -> "Empty" + repositoryType.getSimpleName();
+                        default -> throw new UnsupportedOperationException(
+                                repositoryType.getSimpleName() + "." + method.getName() + " is not simulated");
+                    };
+                }));
+    }
+
+    /**
+     * Drops a finished round with its turns and action log, so the memory of a long simulation stays bounded. The
+     * database keeps them, but the game flow only reads the rounds that are still being played or divided.
+     */
+    void forgetRound(UUID roundId) {
+        var round = rounds.rows.remove(roundId);
+        if (round == null) return;
+        roundsOf(round.getGame().getId()).remove(round);
+        deleteAll(turns, turnsByRound.remove(roundId));
+        deleteAll(roundActions, actionsByRound.remove(roundId));
+        deleteAll(roundSnapshots, snapshotsByRound.remove(roundId));
+    }
+
+    private Optional<Game> findGame(UUID gameId) {
+        return Optional.ofNullable(games.rows.get(gameId)).map(game -> {
+            game.setPlayers(new ArrayList<>(playersOf(gameId)));
+            return game;
+        });
+    }
+
+    private Round withTurns(Round round) {
+        round.setTurns(new ArrayList<>(turnsOf(round.getId())));
+        return round;
+    }
+
+    private List<Turn> turnsOfPlayer(UUID playerId, UUID roundId) {
+        var game = gameOfPlayer.get(playerId);
+        if (game == null) return new ArrayList<>();
+        var result = new ArrayList<Turn>();
+        for (var round : roundsOf(game)) {
+            if (roundId != null && !roundId.equals(round.getId())) continue;
+            for (var turn : turnsOf(round.getId())) {
+                if (turn.getPlayer() != null && playerId.equals(turn.getPlayer().getId())) result.add(turn);
+            }
+        }
+        return result;
+    }
+
+    private List<Player> playersOf(UUID gameId) {
+        return playersByGame.computeIfAbsent(gameId, id -> new ArrayList<>());
+    }
+
+    private List<Round> roundsOf(UUID gameId) {
+        return roundsByGame.getOrDefault(gameId, List.of());
+    }
+
+    private List<Turn> turnsOf(UUID roundId) {
+        return turnsByRound.computeIfAbsent(roundId, id -> new ArrayList<>());
+    }
+
+    private static <T> void deleteAll(Rows<T> rows, List<T> deleted) {
+        if (deleted != null) deleted.forEach(row -> rows.rows.remove(rows.id.apply(row)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R, T> R repository(Class<R> repositoryType, Rows<T> rows, Map<String, Function<Object[], Object>> queries) {
+        return repositoryType.cast(Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    var query = queries.get(method.getName());
+                    if (query != null) return query.apply(args);
+                    switch (method.getName()) {
+                        case "save", "saveAndFlush" -> {
+                            return rows.save((T) args[0]);
+                        }
+                        case "saveAll", "saveAllAndFlush" -> {
+                            var saved = new ArrayList<T>();
+                            for (var row : (Iterable<T>) args[0]) saved.add(rows.save(row));
+                            return saved;
+                        }
+                        case "findById" -> {
+                            return Optional.ofNullable(rows.rows.get(args[0]));
+                        }
+                        case "findAll" -> {
+                            return new ArrayList<>(rows.rows.values());
+                        }
+                        case "findAllById" -> {
+                            var found = new ArrayList<T>();
+                            for (var id : (Iterable<?>) args[0]) Optional.ofNullable(rows.rows.get(id)).ifPresent(found::add);
+                            return found;
+                        }
+                        case "delete" -> {
+                            rows.delete((T) args[0]);
+                            return null;
+                        }
+                        case "flush" -> {
+                            return null;
+                        }
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        case "toString" -> {
+                            return "InMemory" + repositoryType.getSimpleName();
+                        }
+                        default -> throw new UnsupportedOperationException(
+                                repositoryType.getSimpleName() + "." + method.getName() + " is not simulated");
+                    }
+                }));
+    }
+
+    private static final class Rows<T> {
+        private final Map<UUID, T> rows = new ConcurrentHashMap<>();
+        private final Function<T, UUID> id;
+        private final BiConsumer<T, UUID> setId;
+        private SaveListener<T> onSave = (row, inserted) -> {
+        };
+        private Consumer<T> onDelete = row -> {
+        };
+
+        private Rows(Function<T, UUID> id, BiConsumer<T, UUID> setId) {
+            this.id = id;
+            this.setId = setId;
+        }
+
+        private T save(T row) {
+            if (id.apply(row) == null) setId.accept(row, UUID.randomUUID());
+            boolean inserted = rows.put(id.apply(row), row) == null;
+            onSave.saved(row, inserted);
+            return row;
+        }
+
+        private void delete(T row) {
+            if (rows.remove(id.apply(row)) != null) onDelete.accept(row);
+        }
+    }
+
+    private interface SaveListener<T> {
+        void saved(T row, boolean inserted);
+    }
+}
@@ -0,0 +1,102 @@
+package be.kdg.poker.simulation;
+
+import be.kdg.poker.config.HandRankTableConfig;
+import be.kdg.poker.domain.Account;
+import be.kdg.poker.domain.Achievement;
+import be.kdg.poker.domain.Game;
+import be.kdg.poker.domain.Player;
+import be.kdg.poker.domain.events.game.GameBetEvent;
+import be.kdg.poker.domain.events.game.GameDecisionEvent;
+import be.kdg.poker.domain.events.game.GameResultEvent;
+import be.kdg.poker.domain.events.game.GameSessionEvent;
+import be.kdg.poker.domain.events.user.UserActivityEvent;
+import be.kdg.poker.domain.events.user.UserProfileEvent;
+import be.kdg.poker.repositories.*;
+import be.kdg.poker.services.*;
+
+/**
+ * The game services of the backend wired by hand the way Spring wires them, on top of {@link InMemoryRepositories}
+ * and with the default settings of the application. Notifications and analytics events are dropped and there are no
+ * transactions, so a simulation measures the services themselves.
+ */
+final class SimulatedServer implements AutoCloseable {
+    final InMemoryRepositories repositories = new InMemoryRepositories();
+    final AccountRepository accountRepository = repositories.accountRepository();
+    final GameRoundService gameRoundService;
+    final RoundService roundService;
+    final TurnService turnService;
+    final PlayerService playerService;
+    final DividePotService dividePotService;
+    final TableActors tableActors = new TableActors(0, 64);
+    private final TurnTimeoutScheduler turnTimeoutScheduler = new TurnTimeoutScheduler(60, 250);
+    private final TableUpdates tableUpdates;
+
+    SimulatedServer() {
+        var gameRepository = repositories.gameRepository();
+        var playerRepository = repositories.playerRepository();
+        var roundRepository = repositories.roundRepository();
+        var turnRepository = repositories.turnRepository();
+        var achievementRepository = InMemoryRepositories.empty(AchievementRepository.class);
+
+        var notificationService = new NotificationService(InMemoryRepositories.empty(NotificationRepository.class), accountRepository, gameRepository) {
+            @Override
+            public void notifyPlayerOnMove(Player player, Game game) {
+            }
+
+            @Override
+            public void notifyAchievementObtained(Account account, Achievement achievement) {
+            }
+        };
+        var eventService = new EventService(null, null) {
+            @Override
+            public void sendUserProfileEvent(UserProfileEvent event) {
+            }
+
+            @Override
+            public void sendUserActivityEvent(UserActivityEvent event) {
+            }
+
+            @Override
+            public void sendGameSessionEvent(GameSessionEvent event) {
+            }
+
+            @Override
+            public void sendGameBetEvent(GameBetEvent event) {
+            }
+
+            @Override
+            public void sendGameDecisionEvent(GameDecisionEvent event) {
+            }
+
+            @Override
+            public void sendGameResultEvent(GameResultEvent event) {
+            }
+        };
+        var accountService = new AccountService(accountRepository, InMemoryRepositories.empty(AvatarRepository.class), eventService, achievementRepository);
+        var deckService = new DeckService();
+        var shuffleService = new ShuffleService();
+
+        playerService = new PlayerService(playerRepository, turnRepository, gameRepository, roundRepository);
+        turnService = new TurnService(turnRepository, playerRepository, playerService, roundRepository, eventService, turnTimeoutScheduler);
+        gameRoundService = new GameRoundService(gameRepository, roundRepository, deckService, shuffleService, turnService,
+                playerRepository, accountService, accountRepository, repositories.configurationRepository(), turnRepository,
+                eventService, InMemoryRepositories.empty(GameMessageRepository.class), new LobbyIndex(gameRepository, playerRepository));
+
+        var tableStateRegistry = new TableStateRegistry(new RoundActionLog(repositories.roundActionRepository(), repositories.roundSnapshotRepository()));
+        tableUpdates = new TableUpdates(tableStateRegistry, shuffleService, 32, 1_800_000, 64, 600_000);
+        roundService = new RoundService(roundRepository, gameRepository, turnRepository, turnService, gameRoundService,
+                notificationService, new ShowdownEquityService(false, 2_000_000), new HandStrengthCache(), tableStateRegistry,
+                turnTimeoutScheduler, tableUpdates, deckService, shuffleService);
+
+        var handRankService = new HandRankService(new HandRankTableConfig().handRankTable());
+        dividePotService = new DividePotService(roundRepository, gameRepository, turnRepository, playerRepository, handRankService,
+                new AchievementService(achievementRepository, accountRepository, playerRepository, handRankService, notificationService));
+    }
+
+    @Override
+    public void close() {
+        tableActors.shutdown();
+        turnTimeoutScheduler.shutdown();
+        tableUpdates.shutdown();
+    }
+}
@@ -0,0 +1,76 @@
+package be.kdg.poker.simulation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Headless load generator: plays many games of bots in parallel through the game services on in-memory repositories
+ * and reports the hands per second. Each of the {@code threads} plays one game at a time, like a client waiting for
+ * its requests. Arguments are {@code name=value} pairs, e.g. {@code tables=1000 seats=6 hands=500 bots=random,hand-strength}.
+ */
+public final class Simulator {
+
+    private Simulator() {
+    }
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        var settings = Settings.parse(args);
+        var server = new SimulatedServer();
+        var pool = Executors.newFixedThreadPool(settings.threads());
+        var tables = new ArrayList<Future<Integer>>(settings.tables());
+        long start = System.nanoTime();
+        try (server) {
+            for (int table = 0; table < settings.tables(); table++) {
+                long seed = settings.seed() + table;
+                tables.add(pool.submit(() -> settings.newGame(server, seed).play(settings.hands())));
+            }
+            long hands = 0;
+            for (var table : tables) hands += table.get();
+            double seconds = (System.nanoTime() - start) / (double) TimeUnit.SECONDS.toNanos(1);
+
+            System.out.printf("%d tables of %d seats on %d threads: %d hands in %.2f s, %.0f hands/s%n",
+                    settings.tables(), settings.seats(), settings.threads(), hands, seconds, hands / seconds);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    record Settings(int tables, int seats, int hands, int threads, int stack, int bigBlind, String[] bots, long seed) {
+
+        private static final Set<String> NAMES = Set.of("tables", "seats", "hands", "threads", "stack", "bigBlind", "bots", "seed");
+
+        static Settings parse(String[] args) {
+            var values = new HashMap<String, String>();
+            for (var arg : args) {
+                var pair = arg.split("=", 2);
+                if (pair.length != 2 || !NAMES.contains(pair[0])) throw new IllegalArgumentException("unknown setting " + arg);
+                values.put(pair[0], pair[1]);
+            }
+            var settings = new Settings(
+                    Integer.parseInt(values.getOrDefault("tables", "1000")),
+                    Integer.parseInt(values.getOrDefault("seats", "6")),
+                    Integer.parseInt(values.getOrDefault("hands", "500")),
+                    Integer.parseInt(values.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors()))),
+                    Integer.parseInt(values.getOrDefault("stack", "1000")),
+                    Integer.parseInt(values.getOrDefault("bigBlind", "10")),
+                    values.getOrDefault("bots", "random,hand-strength,calling-station").split(","),
+                    Long.parseLong(values.getOrDefault("seed", "42")));
+            if (settings.seats < 2 || settings.seats > 6) throw new IllegalArgumentException("a table has 2 to 6 seats");
+            return settings;
+        }
+
+        /**
+         * Seats the bots round-robin in the order they are listed.
+         */
+        GameSimulation newGame(SimulatedServer server, long seed) {
+            var strategies = new BotStrategy[seats];
+            for (int seat = 0; seat < seats; seat++) strategies[seat] = Bots.byName(bots[seat % bots.length]);
+            return new GameSimulation(server, strategies, stack, bigBlind, seed);
+        }
+    }
+}
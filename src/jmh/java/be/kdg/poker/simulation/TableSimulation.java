@@ -0,0 +1,163 @@
+package be.kdg.poker.simulation;
+
+import be.kdg.poker.domain.enums.Phase;
+import be.kdg.poker.domain.enums.PlayerStatus;
+import be.kdg.poker.engine.HandEvaluator;
+import be.kdg.poker.engine.SeededDeck;
+import be.kdg.poker.engine.SidePotEngine;
+import be.kdg.poker.engine.TableState;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Plays one table in memory until a single player has all the chips or the hand limit is reached: the deck is shuffled
+ * from a seed like a live round, the betting runs on {@link TableState} and pots are divided by {@link SidePotEngine}.
+ * Every hand checks that no chips were created or lost. Only the engine is measured here, see
+ * {@link TableSimulationBenchmark}; the {@link Simulator} plays through the services with {@link GameSimulation}.
+ */
+final class TableSimulation {
+    private final BotStrategy[] bots;
+    private final int[] stacks;
+    private final int smallBlind;
+    private final int bigBlind;
+    private final SplittableRandom random;
+    private final byte[] seed = new byte[SeededDeck.SEED_BYTES];
+    private int dealer;
+
+    TableSimulation(BotStrategy[] bots, int startingStack, int bigBlind, long seed) {
+        this.bots = bots.clone();
+        this.stacks = new int[bots.length];
+        Arrays.fill(stacks, startingStack);
+        this.smallBlind = Math.max(bigBlind / 2, 1);
+        this.bigBlind = bigBlind;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * @return the number of hands played
+     */
+    int play(int maxHands) {
+        int hands = 0;
+        while (hands < maxHands && playersWithChips() > 1) {
+            playHand();
+            hands++;
+        }
+        return hands;
+    }
+
+    private void playHand() {
+        // the hand is played by the seats that still have chips, in seating order
+        int players = playersWithChips();
+        var seats = new int[players];
+        var handStacks = new int[players];
+        int dealerIndex = 0;
+        for (int seat = 0, i = 0; seat < stacks.length; seat++) {
+            if (stacks[seat] == 0) continue;
+            if (seat == dealer) dealerIndex = i;
+            seats[i] = seat;
+            handStacks[i++] = stacks[seat];
+        }
+        int chipsBefore = sum(stacks);
+
+        for (int i = 0; i < seed.length; i += 8) {
+            long bits = random.nextLong();
+            for (int b = 0; b < 8; b++) seed[i + b] = (byte) (bits >>> (b * 8));
+        }
+        var deck = SeededDeck.deal(seed);
+        int cursor = 0;
+        var hands = new long[players];
+        for (int i = 0; i < players; i++) hands[i] = 1L << deck[cursor++] | 1L << deck[cursor++];
+        long board = 0;
+
+        var state = new TableState(handStacks, dealerIndex);
+        var transition = postBlind(state, (dealerIndex + 1) % players, smallBlind, PlayerStatus.SMALL_BLIND);
+        if (transition == TableState.Transition.NEXT_PLAYER) {
+            transition = postBlind(state, (dealerIndex + 2) % players, bigBlind, PlayerStatus.BIG_BLIND);
+        }
+
+        while (true) {
+            if (transition == TableState.Transition.NEXT_PLAYER) {
+                int seat = state.actionSeat();
+                transition = act(state, seat, bots[seats[seat]].decide(state, seat, hands[seat], board, random));
+            } else if (transition == TableState.Transition.NEXT_STREET && state.phase() != Phase.RIVER) {
+                var next = Phase.values()[state.phase().ordinal() + 1];
+                for (int card = next == Phase.FLOP ? 3 : 1; card > 0; card--) board |= 1L << deck[cursor++];
+                state.startStreet(next);
+                transition = TableState.Transition.NEXT_PLAYER;
+            } else {
+                break;
+            }
+        }
+        if (transition != TableState.Transition.FINISHED) {
+            while (Long.bitCount(board) < 5) board |= 1L << deck[cursor++];
+        }
+
+        var payouts = SidePotEngine.divide(contributions(state), ranks(state, hands, board, transition));
+        for (int i = 0; i < players; i++) stacks[seats[i]] = state.stack(i) + payouts[i];
+        if (sum(stacks) != chipsBefore) {
+            throw new IllegalStateException("hand changed the chips on the table from " + chipsBefore + " to " + sum(stacks));
+        }
+        do {
+            dealer = (dealer + 1) % stacks.length;
+        } while (stacks[dealer] == 0 && playersWithChips() > 0);
+    }
+
+    private TableState.Transition postBlind(TableState state, int seat, int blind, PlayerStatus move) {
+        int stack = state.stack(seat);
+        return blind >= stack ? state.apply(seat, PlayerStatus.ALL_IN, stack) : state.apply(seat, move, blind);
+    }
+
+    private TableState.Transition act(TableState state, int seat, BotStrategy.Decision decision) {
+        int toCall = state.toCall(seat);
+        int stack = state.stack(seat);
+        return switch (decision.move()) {
+            case FOLD -> toCall == 0 ? state.apply(seat, PlayerStatus.CHECK, 0) : state.apply(seat, PlayerStatus.FOLD, 0);
+            case CALL -> {
+                if (toCall == 0) yield state.apply(seat, PlayerStatus.CHECK, 0);
+                yield toCall >= stack ? state.apply(seat, PlayerStatus.ALL_IN, stack) : state.apply(seat, PlayerStatus.CALL, toCall);
+            }
+            case RAISE -> {
+                int amount = toCall + Math.max(decision.raiseBy(), bigBlind);
+                yield amount >= stack ? state.apply(seat, PlayerStatus.ALL_IN, stack) : state.apply(seat, PlayerStatus.RAISE, amount);
+            }
+        };
+    }
+
+    private static int[] contributions(TableState state) {
+        var contributions = new int[state.seats()];
+        for (int seat = 0; seat < contributions.length; seat++) contributions[seat] = state.totalBet(seat);
+        return contributions;
+    }
+
+    private static int[] ranks(TableState state, long[] hands, long board, TableState.Transition transition) {
+        var strengths = new int[hands.length];
+        for (int seat = 0; seat < hands.length; seat++) {
+            strengths[seat] = state.isFolded(seat) ? -1
+                    : transition == TableState.Transition.FINISHED ? 0 : HandEvaluator.evaluate(hands[seat] | board);
+        }
+        var ranks = new int[hands.length];
+        for (int seat = 0; seat < hands.length; seat++) {
+            if (strengths[seat] < 0) {
+                ranks[seat] = SidePotEngine.NOT_ELIGIBLE;
+                continue;
+            }
+            for (int other = 0; other < hands.length; other++) {
+                if (strengths[other] > strengths[seat]) ranks[seat]++;
+            }
+        }
+        return ranks;
+    }
+
+    private int playersWithChips() {
+        int players = 0;
+        for (int stack : stacks) if (stack > 0) players++;
+        return players;
+    }
+
+    private static int sum(int[] values) {
+        int sum = 0;
+        for (int value : values) sum += value;
+        return sum;
+    }
+}
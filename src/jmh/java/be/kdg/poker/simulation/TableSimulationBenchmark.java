@@ -0,0 +1,45 @@
+package be.kdg.poker.simulation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands per second of the betting and pot engine alone, without the services and repositories around it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TableSimulationBenchmark {
+
+    @Param({"2", "6"})
+    public int seats;
+
+    private TableSimulation table;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        table = newTable();
+    }
+
+    @Benchmark
+    public int playHand() {
+        int played = table.play(1);
+        if (played == 0) {
+            // one player has all the chips, the next table starts over
+            table = newTable();
+            played = table.play(1);
+        }
+        return played;
+    }
+
+    private TableSimulation newTable() {
+        var bots = new BotStrategy[seats];
+        for (int seat = 0; seat < seats; seat++) bots[seat] = seat % 2 == 0 ? Bots.random() : Bots.handStrength();
+        return new TableSimulation(bots, 1000, 10, seed++);
+    }
+}
@@ -0,0 +1,37 @@
+package be.kdg.poker.config;
+
+import be.kdg.poker.engine.HandRankTable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+@Slf4j
+@Configuration
+public class HandRankTableConfig {
+
+    @Bean
+    public HandRankTable handRankTable() {
+        long start = System.nanoTime();
+        try (var in = HandRankTable.class.getResourceAsStream(HandRankTable.RESOURCE_NAME)) {
+            if (in != null) {
+                var table = HandRankTable.read(in);
+                log.info("loaded hand rank table with {} classes in {} ms", table.classCount(), elapsedMillis(start));
+                return table;
+            }
+            log.warn("hand rank table resource {} not found, generating it at startup", HandRankTable.RESOURCE_NAME);
+        } catch (IOException e) {
+            log.warn("failed to read hand rank table, generating it at startup: {}", e.getMessage());
+        }
+
+        start = System.nanoTime();
+        var table = HandRankTable.generate();
+        log.info("generated hand rank table with {} classes in {} ms", table.classCount(), elapsedMillis(start));
+        return table;
+    }
+
+    private long elapsedMillis(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -1,15 +1,16 @@
 package be.kdg.poker.controllers;
 
+import be.kdg.poker.controllers.dto.EquityDto;
 import be.kdg.poker.controllers.dto.PlayersHandDto;
+import be.kdg.poker.exceptions.GameNotFoundException;
 import be.kdg.poker.exceptions.PlayersHandNotFoundException;
+import be.kdg.poker.exceptions.RoundNotFoundException;
 import be.kdg.poker.services.CardService;
+import be.kdg.poker.services.EquityService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
 
@@ -18,9 +19,11 @@ import java.util.UUID;
 @RequestMapping("/api/cards")
 public class CardsController {
     private final CardService cardService;
+    private final EquityService equityService;
 
-    public CardsController(CardService cardService) {
+    public CardsController(CardService cardService, EquityService equityService) {
         this.cardService = cardService;
+        this.equityService = equityService;
     }
 
     @GetMapping("/player/{playerId}")
@@ -36,4 +39,22 @@ public class CardsController {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    @GetMapping("/player/{playerId}/equity")
+    @PreAuthorize("hasAuthority('user')")
+    public ResponseEntity<EquityDto> getPlayersEquity(@PathVariable UUID playerId,
+                                                      @RequestParam(defaultValue = "1") int opponents,
+                                                      @RequestParam(defaultValue = "0.01") double marginOfError,
+                                                      @RequestParam(required = false) Long seed) {
+        log.info("Received request to calculate equity for player with id: {}", playerId);
+        try {
+            return ResponseEntity.ok(equityService.calculateEquity(playerId, opponents, marginOfError, seed));
+        } catch (PlayersHandNotFoundException | IllegalArgumentException e) {
+            log.error("Error calculating equity for player with id: {}", playerId, e);
+            return ResponseEntity.badRequest().build();
+        } catch (GameNotFoundException | RoundNotFoundException e) {
+            log.error("No running hand found for player with id: {}", playerId, e);
+            return ResponseEntity.notFound().build();
+        }
+    }
 }
@@ -3,13 +3,21 @@ package be.kdg.poker.controllers;
 
 import be.kdg.poker.controllers.dto.GameDto;
 import be.kdg.poker.controllers.dto.GameMessageDto;
+import be.kdg.poker.controllers.dto.LobbyPageDto;
+import be.kdg.poker.controllers.dto.TableSyncDto;
+import be.kdg.poker.domain.enums.GameStatus;
 import be.kdg.poker.exceptions.GameNotFoundException;
 import be.kdg.poker.services.GameRoundService;
 import be.kdg.poker.services.GameService;
+import be.kdg.poker.services.TableUpdates;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.UUID;
@@ -21,10 +29,12 @@ public class GamesController {
 
     private final GameService gameService;
     private final GameRoundService gameRoundService;
+    private final TableUpdates tableUpdates;
 
-    public GamesController(GameService gameService, GameRoundService gameRoundService) {
+    public GamesController(GameService gameService, GameRoundService gameRoundService, TableUpdates tableUpdates) {
         this.gameService = gameService;
         this.gameRoundService = gameRoundService;
+        this.tableUpdates = tableUpdates;
     }
 
     @GetMapping("/{gameId}")
@@ -43,12 +53,26 @@ public class GamesController {
 
     @GetMapping
     @PreAuthorize("hasAuthority('user')")
-    public ResponseEntity<List<GameDto>> getGames() {
+    public ResponseEntity<List<GameDto>> getGames(WebRequest request) {
         log.info("Received request to get all game");
-        List<GameDto> games = gameService.getGames();
+        var lobby = gameService.getGames();
+        if (request.checkNotModified(lobby.etag())) {
+            log.info("Games did not change since version {}", lobby.etag());
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(lobby.etag()).build();
+        }
         log.info("Successfully retrieved all the games");
-        log.info("Returning {} games", games.size());
-        return ResponseEntity.ok(games);
+        log.info("Returning {} games", lobby.games().size());
+        return ResponseEntity.ok().eTag(lobby.etag()).body(lobby.games());
+    }
+
+    @GetMapping("/lobby")
+    @PreAuthorize("hasAuthority('user')")
+    public ResponseEntity<LobbyPageDto> getLobby(@RequestParam(required = false) GameStatus status,
+                                                 @RequestParam(defaultValue = "0") int page,
+                                                 @RequestParam(defaultValue = "20") int size) {
+        log.info("Received request to get page {} of the lobby", page);
+        if (page < 0 || size < 1 || size > 100) return ResponseEntity.badRequest().build();
+        return ResponseEntity.ok(gameService.getLobby(status, page, size));
     }
 
     @PostMapping
@@ -74,6 +98,31 @@ public class GamesController {
         return ResponseEntity.ok(isOnMove);
     }
 
+    @GetMapping(value = "/{gameId}/updates", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAuthority('user')")
+    public SseEmitter subscribeToUpdates(@PathVariable UUID gameId) {
+        log.info("Received request to subscribe to updates of game with id: {}", gameId);
+        return tableUpdates.subscribe(gameId);
+    }
+
+    @GetMapping("/{gameId}/sync")
+    @PreAuthorize("hasAuthority('user')")
+    public ResponseEntity<TableSyncDto> syncTable(@PathVariable UUID gameId, @RequestParam(defaultValue = "0") long since) {
+        log.info("Received request to sync game with id {} since version {}", gameId, since);
+        var updates = tableUpdates.since(gameId, since);
+        if (updates.isPresent()) {
+            return ResponseEntity.ok(new TableSyncDto(since + updates.get().size(), null, updates.get()));
+        }
+        try {
+            // the version is read before the game, so updates that land in between are sent again rather than missed
+            long version = tableUpdates.version(gameId);
+            return ResponseEntity.ok(new TableSyncDto(version, gameService.getGame(gameId), List.of()));
+        } catch (GameNotFoundException e) {
+            log.error("Error syncing game", e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/messages")
     @PreAuthorize("hasAuthority('user')")
     public ResponseEntity<List<GameMessageDto>> getMessages(@RequestParam UUID gameId) {
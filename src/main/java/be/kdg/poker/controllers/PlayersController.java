@@ -3,8 +3,11 @@ package be.kdg.poker.controllers;
 import be.kdg.poker.controllers.dto.PlayerDto;
 import be.kdg.poker.controllers.dto.PlayerGameDto;
 import be.kdg.poker.controllers.dto.WinnerDto;
+import be.kdg.poker.domain.Game;
+import be.kdg.poker.exceptions.PlayerNotFoundException;
 import be.kdg.poker.services.GameService;
 import be.kdg.poker.services.PlayerService;
+import be.kdg.poker.services.TableActors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -20,10 +23,12 @@ public class PlayersController {
 
     private final PlayerService playerService;
     private final GameService gameService;
+    private final TableActors tableActors;
 
-    public PlayersController(PlayerService playerService, GameService gameService) {
+    public PlayersController(PlayerService playerService, GameService gameService, TableActors tableActors) {
         this.playerService = playerService;
         this.gameService = gameService;
+        this.tableActors = tableActors;
     }
 
     @GetMapping("/winner")
@@ -33,7 +38,10 @@ public class PlayersController {
 
         WinnerDto winnerDto = playerService.getWinner(winnerId);
         log.info("Successfully got winner");
-        gameService.endGame(winnerId);
+        var gameId = gameService.getByPlayerId(winnerId)
+                .map(Game::getId)
+                .orElseThrow(() -> new PlayerNotFoundException("Player not found with ID: " + winnerId));
+        tableActors.run(gameId, () -> gameService.endGame(winnerId));
         return ResponseEntity.ok(winnerDto);
     }
 
@@ -30,15 +30,17 @@ public class RoundsController {
     private final DividePotService dividePotService;
     private final CardService cardService;
     private final GameRoundService gameRoundService;
+    private final TableActors tableActors;
     private final Map<String, List<Long>> requestMap = new HashMap<>();
 
 
-    public RoundsController(RoundService roundService, GameService gameService, DividePotService dividePotService, CardService cardService, GameRoundService gameRoundService) {
+    public RoundsController(RoundService roundService, GameService gameService, DividePotService dividePotService, CardService cardService, GameRoundService gameRoundService, TableActors tableActors) {
         this.roundService = roundService;
         this.gameService = gameService;
         this.dividePotService = dividePotService;
         this.cardService = cardService;
         this.gameRoundService = gameRoundService;
+        this.tableActors = tableActors;
     }
 
     @GetMapping("/communityCards")
@@ -73,7 +75,10 @@ public class RoundsController {
     @PreAuthorize("hasAuthority('user')")
     public ResponseEntity<List<UUID>> dividePot(@PathVariable UUID id) throws InvalidWinnerException, InterruptedException {
         try {
-            return dividePotService.getCalculateRoundWinnerDto(id)
+            var gameId = gameService.getByRoundId(id)
+                    .map(Game::getId)
+                    .orElseThrow(() -> new RoundNotFoundException("round with id " + id + " does not have a game"));
+            return tableActors.call(gameId, () -> dividePotService.getCalculateRoundWinnerDto(id)
                             .map(calculation -> {
                                 var playersByWinIndex = dividePotService.calculateWinners(calculation);
                                 var playersWithEarning = dividePotService.dividePot(playersByWinIndex, calculation);
@@ -82,7 +87,7 @@ public class RoundsController {
                                         .map(Player::getId)
                                         .toList());
                             })
-                            .orElseGet(() -> ResponseEntity.notFound().build());
+                            .orElseGet(() -> ResponseEntity.notFound().build()));
         } catch (RoundNotFoundException e) {
             log.error("round with id " + id + " does not exist");
             return ResponseEntity.notFound().build();
@@ -93,6 +98,10 @@ public class RoundsController {
     @PreAuthorize("hasAuthority('user')")
     public ResponseEntity<Void> createNewRoundIfFinished(@RequestParam UUID gameId, @RequestParam UUID roundId) {
         log.info("Received request to create a new round if finished for game with id: {}", gameId);
+        return tableActors.call(gameId, () -> createNewRoundIfFinishedOnTable(gameId, roundId));
+    }
+
+    private ResponseEntity<Void> createNewRoundIfFinishedOnTable(UUID gameId, UUID roundId) {
         Game game = gameService.getByIdWithPlayers(gameId)
                 .orElseThrow(() -> new GameNotFoundException("Game not found while trying to create a new round if finished"));
         if (game.getPlayers().size() <= 1) {
@@ -9,6 +9,7 @@ import be.kdg.poker.exceptions.TurnNotFoundException;
 import be.kdg.poker.services.GameService;
 import be.kdg.poker.services.PlayerService;
 import be.kdg.poker.services.RoundService;
+import be.kdg.poker.services.TableActors;
 import be.kdg.poker.services.TurnService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -26,12 +27,14 @@ public class TurnsController {
     private final GameService gameService;
     private final RoundService roundService;
     private final PlayerService playerService;
+    private final TableActors tableActors;
 
-    public TurnsController(TurnService turnService, GameService gameService, RoundService roundService, PlayerService playerService) {
+    public TurnsController(TurnService turnService, GameService gameService, RoundService roundService, PlayerService playerService, TableActors tableActors) {
         this.turnService = turnService;
         this.gameService = gameService;
         this.roundService = roundService;
         this.playerService = playerService;
+        this.tableActors = tableActors;
     }
 
     @PutMapping("/{turnId}/checkAndMove")
@@ -39,7 +42,7 @@ public class TurnsController {
     public ResponseEntity<Void> checkAndMove(@PathVariable UUID turnId, @RequestParam UUID gameId, @RequestParam UUID roundId) {
         log.info("Received request to check and move for turn with id: {}", turnId);
         try {
-            roundService.handleTurnAction(turnId, gameId, roundId, turnService::check);
+            tableActors.run(gameId, () -> roundService.handleTurnAction(turnId, gameId, roundId, turnService::check));
             return ResponseEntity.ok().build();
         } catch (TurnNotFoundException e) {
             log.error("Error executing action for turn with id: {}", turnId);
@@ -51,7 +54,7 @@ public class TurnsController {
     public ResponseEntity<Void> foldAndMove(@PathVariable UUID turnId, @RequestParam UUID gameId, @RequestParam UUID roundId) {
         log.info("Received request to fold and move for turn with id: {}", turnId);
         try {
-            roundService.handleTurnAction(turnId, gameId, roundId, turnService::fold);
+            tableActors.run(gameId, () -> roundService.handleTurnAction(turnId, gameId, roundId, turnService::fold));
             return ResponseEntity.ok().build();
         } catch (TurnNotFoundException e) {
             log.error(e.getMessage());
@@ -64,10 +67,10 @@ public class TurnsController {
     public ResponseEntity<Void> callAndMove(@PathVariable UUID turnId, @RequestParam UUID gameId, @RequestParam UUID roundId, @RequestParam int amount) {
         log.info("Received request to call and move for turn with id: {}", turnId);
         try {
-            roundService.handleTurnAction(turnId, gameId, roundId, turn -> {
+            tableActors.run(gameId, () -> roundService.handleTurnAction(turnId, gameId, roundId, turn -> {
                 turnService.call(turn, amount);
                 playerService.updatePlayerMoney(turn.getId(), -amount);
-            });
+            }));
             return ResponseEntity.ok().build();
         } catch (TurnNotFoundException e) {
             log.error(e.getMessage());
@@ -79,10 +82,10 @@ public class TurnsController {
     public ResponseEntity<Void> raiseAndMove(@PathVariable UUID turnId, @RequestParam UUID gameId, @RequestParam UUID roundId, @RequestParam int amount) {
         log.info("Received request to raise and move for turn with id: {}", turnId);
         try {
-            roundService.handleTurnAction(turnId, gameId, roundId, turn -> {
+            tableActors.run(gameId, () -> roundService.handleTurnAction(turnId, gameId, roundId, turn -> {
                 turnService.raise(turn, amount);
                 playerService.updatePlayerMoney(turn.getId(), -amount);
-            });
+            }));
             return ResponseEntity.ok().build();
         } catch (TurnNotFoundException e) {
             log.error(e.getMessage());
@@ -94,12 +97,12 @@ public class TurnsController {
     public ResponseEntity<Void> allInAndMove(@PathVariable UUID turnId, @RequestParam UUID gameId, @RequestParam UUID roundId) {
         log.info("Received request to go all in and move for turn with id: {}", turnId);
         try {
-            roundService.handleTurnAction(turnId, gameId, roundId, turn -> {
+            tableActors.run(gameId, () -> roundService.handleTurnAction(turnId, gameId, roundId, turn -> {
                 var player = turn.getPlayer();
                 var amount = player.getMoney();
                 turnService.allin(turn, amount);
                 playerService.updatePlayerMoney(turn.getId(), -amount);
-            });
+            }));
             return ResponseEntity.ok().build();
         } catch (TurnNotFoundException e) {
             log.error(e.getMessage());
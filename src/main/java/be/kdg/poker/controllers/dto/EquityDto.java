@@ -0,0 +1,6 @@
+package be.kdg.poker.controllers.dto;
+
+import java.util.UUID;
+
+public record EquityDto(UUID playerId, int opponents, long trials, double win, double tie, double loss, double equity, double marginOfError, long seed) {
+}
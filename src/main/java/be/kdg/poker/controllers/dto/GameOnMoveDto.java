@@ -0,0 +1,8 @@
+package be.kdg.poker.controllers.dto;
+
+import be.kdg.poker.domain.enums.GameStatus;
+
+import java.util.UUID;
+
+public record GameOnMoveDto(UUID gameId, GameStatus status, UUID roundId, UUID playerId, Integer money, String username, Integer position) {
+}
@@ -5,5 +5,5 @@ import be.kdg.poker.domain.Card;
 import java.util.List;
 
 
-public record HandRankDto(int score, List<Card> cardsWithCombination, List<Card> cardsWithoutCombination) {
+public record HandRankDto(int score, int strength, List<Card> cardsWithCombination, List<Card> cardsWithoutCombination) {
 }
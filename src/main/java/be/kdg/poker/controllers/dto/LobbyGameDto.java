@@ -0,0 +1,9 @@
+package be.kdg.poker.controllers.dto;
+
+import be.kdg.poker.domain.Configuration;
+import be.kdg.poker.domain.enums.GameStatus;
+
+import java.util.UUID;
+
+public record LobbyGameDto(UUID id, GameStatus status, int maxPlayers, String name, Configuration settings) {
+}
@@ -0,0 +1,10 @@
+package be.kdg.poker.controllers.dto;
+
+import java.util.List;
+
+public record LobbyPageDto(
+        List<GameDto> games,
+        int page,
+        int size,
+        long totalGames) {
+}
@@ -0,0 +1,6 @@
+package be.kdg.poker.controllers.dto;
+
+import java.util.UUID;
+
+public record LobbySeatDto(UUID gameId, UUID playerId, int money, String username, int position) {
+}
@@ -1,4 +0,0 @@
-package be.kdg.poker.controllers.dto;
-
-public record ProcessDuoComboDto(int firstComboRank, int secondComboRank) {
-}
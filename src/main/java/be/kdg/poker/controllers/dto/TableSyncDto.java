@@ -0,0 +1,9 @@
+package be.kdg.poker.controllers.dto;
+
+import java.util.List;
+
+public record TableSyncDto(
+        long version,
+        GameDto game,
+        List<TableUpdateDto> updates) {
+}
@@ -0,0 +1,29 @@
+package be.kdg.poker.controllers.dto;
+
+import be.kdg.poker.domain.enums.Phase;
+import be.kdg.poker.domain.enums.PlayerStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public record TableUpdateDto(
+        long version,
+        UUID gameId,
+        UUID roundId,
+        Phase phase,
+        UUID playerId,
+        PlayerStatus move,
+        int amount,
+        int pot,
+        Map<UUID, Integer> stacks,
+        List<CardDto> communityCards,
+        UUID playerOnMove,
+        UUID turnOnMove,
+        String shuffleCommitment,
+        String shuffleSeed) {
+
+    public TableUpdateDto withVersion(long version) {
+        return new TableUpdateDto(version, gameId, roundId, phase, playerId, move, amount, pot, stacks, communityCards, playerOnMove, turnOnMove, shuffleCommitment, shuffleSeed);
+    }
+}
@@ -42,6 +42,6 @@ public class Card {
 
     @Override
     public int hashCode() {
-        return Objects.hash(suit, rank);
+        return 31 * Objects.hashCode(suit) + rank;
     }
 }
@@ -0,0 +1,30 @@
+package be.kdg.poker.domain;
+
+import be.kdg.poker.engine.CardCodec;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores an ordered list of cards as one byte per card, using the card codes of {@link CardCodec}, so a hand or a
+ * board is a single column of its row instead of a join table. Every card is read back as a new card with the fixed
+ * id of its code, so entities never share a card.
+ */
+@Converter
+public class CardsConverter implements AttributeConverter<List<Card>, byte[]> {
+    @Override
+    public byte[] convertToDatabaseColumn(List<Card> cards) {
+        return cards == null ? null : CardCodec.encode(cards);
+    }
+
+    @Override
+    public List<Card> convertToEntityAttribute(byte[] codes) {
+        var cards = new ArrayList<Card>(codes == null ? 0 : codes.length);
+        if (codes != null) {
+            for (byte code : codes) cards.add(CardCodec.decode(code));
+        }
+        return cards;
+    }
+}
@@ -23,7 +23,7 @@ public class Player {
     private Game game;
     @OneToMany
     private List<Turn> turns;
-    @ManyToMany
+    @Convert(converter = CardsConverter.class)
     private List<Card> hand;
     private int position;
     @ManyToOne
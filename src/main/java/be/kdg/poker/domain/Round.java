@@ -1,17 +1,18 @@
 package be.kdg.poker.domain;
 
 import be.kdg.poker.domain.enums.Phase;
+import be.kdg.poker.engine.SeededDeck;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 
 @Getter
 @Setter
@@ -24,14 +25,25 @@ public class Round {
     @Min(0)
     @Max(5)
     private int dealerIndex;
-    @OneToMany
+    @OneToMany(mappedBy = "round")
+    @OrderBy("createdAt")
     private List<Turn> turns;
-    @ManyToMany
+    @Convert(converter = CardsConverter.class)
     private List<Card> communityCards;
-    @ManyToMany
-    private List<Card> deck;
+    private byte[] shuffleSeed;
+    private byte[] shuffleCommitment;
+    /**
+     * Card codes in dealing order; only the seed is stored and the deck is dealt from it again when first needed.
+     */
+    @Transient
+    private byte[] deck;
+    @Column(columnDefinition = "integer default 0")
+    private int deckCursor;
     @ManyToOne
     private Game game;
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb default '{}'")
+    private Map<UUID, Double> showdownEquities = new HashMap<>();
 
     @CreationTimestamp
     private LocalDateTime createdAt;
@@ -39,12 +51,21 @@ public class Round {
     public Round() {
     }
 
-    public Round(Phase phase, List<Card> deck, Game game) {
+    public Round(Phase phase, Game game) {
         this.phase = phase;
-        this.deck = deck;
         this.communityCards = new ArrayList<>();
         this.turns = new ArrayList<>();
         this.game = game;
         this.createdAt = LocalDateTime.now();
     }
+
+    public void setShuffleSeed(byte[] shuffleSeed) {
+        this.shuffleSeed = shuffleSeed;
+        this.deck = null;
+    }
+
+    public byte[] getDeck() {
+        if (deck == null && shuffleSeed != null) deck = SeededDeck.deal(shuffleSeed);
+        return deck;
+    }
 }
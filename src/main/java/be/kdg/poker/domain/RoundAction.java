@@ -0,0 +1,32 @@
+package be.kdg.poker.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+/**
+ * Entry of the append-only action log of a round. The round is referenced by id only so an append never loads it.
+ */
+@Getter
+@Setter
+@Entity
+@Table(indexes = @Index(columnList = "roundId, sequence", unique = true))
+public class RoundAction {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+    private UUID roundId;
+    private int sequence;
+    private byte[] record;
+
+    public RoundAction() {
+    }
+
+    public RoundAction(UUID roundId, int sequence, byte[] record) {
+        this.roundId = roundId;
+        this.sequence = sequence;
+        this.record = record;
+    }
+}
@@ -0,0 +1,34 @@
+package be.kdg.poker.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+/**
+ * Table state of a round after the action with the given sequence number, with the ids of the players in seat order.
+ */
+@Getter
+@Setter
+@Entity
+@Table(indexes = @Index(columnList = "roundId, sequence"))
+public class RoundSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+    private UUID roundId;
+    private int sequence;
+    private byte[] seats;
+    private byte[] state;
+
+    public RoundSnapshot() {
+    }
+
+    public RoundSnapshot(UUID roundId, int sequence, byte[] seats, byte[] state) {
+        this.roundId = roundId;
+        this.sequence = sequence;
+        this.seats = seats;
+        this.state = state;
+    }
+}
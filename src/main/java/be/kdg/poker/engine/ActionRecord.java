@@ -0,0 +1,27 @@
+package be.kdg.poker.engine;
+
+import be.kdg.poker.domain.enums.PlayerStatus;
+
+import java.nio.ByteBuffer;
+
+/**
+ * One move in the action log of a round, stored as six bytes: the seat, the move and the amount.
+ */
+public record ActionRecord(int seat, PlayerStatus move, int amount) {
+    public static final int BYTES = 6;
+
+    private static final PlayerStatus[] MOVES = PlayerStatus.values();
+
+    public byte[] encode() {
+        return ByteBuffer.allocate(BYTES).put((byte) seat).put((byte) move.ordinal()).putInt(amount).array();
+    }
+
+    public static ActionRecord decode(byte[] record) {
+        var buffer = ByteBuffer.wrap(record);
+        return new ActionRecord(buffer.get(), MOVES[buffer.get()], buffer.getInt());
+    }
+
+    public TableState.Transition applyTo(TableState state) {
+        return state.apply(seat, move, amount);
+    }
+}
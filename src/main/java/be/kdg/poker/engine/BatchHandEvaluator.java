@@ -0,0 +1,61 @@
+package be.kdg.poker.engine;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Evaluates large arrays of card masks with a {@link HandRankTable}, splitting the work over a fork-join pool.
+ * Every chunk writes to its own range of the output array, so no synchronisation is needed.
+ */
+public final class BatchHandEvaluator {
+    private static final int HANDS_PER_TASK = 8192;
+
+    private final HandRankTable handRankTable;
+    private final ForkJoinPool pool;
+
+    public BatchHandEvaluator(HandRankTable handRankTable, ForkJoinPool pool) {
+        this.handRankTable = handRankTable;
+        this.pool = pool;
+    }
+
+    /**
+     * Writes the ordinal of hands[i] to ordinals[i] for every i in [from, to).
+     */
+    public void evaluate(long[] hands, int[] ordinals, int from, int to) {
+        if (to - from <= HANDS_PER_TASK) {
+            evaluateRange(hands, ordinals, from, to);
+        } else {
+            pool.invoke(new EvaluateTask(hands, ordinals, from, to));
+        }
+    }
+
+    private void evaluateRange(long[] hands, int[] ordinals, int from, int to) {
+        for (int i = from; i < to; i++) {
+            ordinals[i] = handRankTable.ordinal(hands[i]);
+        }
+    }
+
+    private final class EvaluateTask extends RecursiveAction {
+        private final long[] hands;
+        private final int[] ordinals;
+        private final int from;
+        private final int to;
+
+        private EvaluateTask(long[] hands, int[] ordinals, int from, int to) {
+            this.hands = hands;
+            this.ordinals = ordinals;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= HANDS_PER_TASK) {
+                evaluateRange(hands, ordinals, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new EvaluateTask(hands, ordinals, from, middle), new EvaluateTask(hands, ordinals, middle, to));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package be.kdg.poker.engine;
+
+import be.kdg.poker.domain.enums.Phase;
+import be.kdg.poker.domain.enums.PlayerStatus;
+
+/**
+ * Betting bookkeeping of a round that is updated once per recorded move: the chips each seat committed, the highest
+ * bet, bitsets of the seats that folded or went all-in, and the moves of every seat since the last aggressive move of
+ * the current phase. Every question about the round is then answered with a single pass over the seats, instead of
+ * rescanning all turns of the round.
+ * Seats are indexed in the order of the players of the game; a table has at most 64 seats.
+ */
+public final class BettingRoundTracker {
+    private final int seats;
+    private final Phase phase;
+    private final int[] committed;
+    private final int[] moves;
+    private final int[] allInMoves;
+    private final int[] movesSinceRaise;
+    private final int[] movesSinceAllIn;
+
+    private long folded;
+    private long allIn;
+    private long outInEarlierPhase;
+    private int highestBet;
+    private int phaseMoves;
+    private int phaseHighestBet;
+    private int lastRaise = -1;
+    private int lastAllInAtHighestBet = -1;
+
+    /**
+     * @param phase the phase the round is in; only moves of this phase count as moves in the betting round
+     */
+    public BettingRoundTracker(int seats, Phase phase) {
+        if (seats > Long.SIZE) throw new IllegalArgumentException("a table has at most " + Long.SIZE + " seats");
+        this.seats = seats;
+        this.phase = phase;
+        this.committed = new int[seats];
+        this.moves = new int[seats];
+        this.allInMoves = new int[seats];
+        this.movesSinceRaise = new int[seats];
+        this.movesSinceAllIn = new int[seats];
+    }
+
+    /**
+     * Records a move in the order it was made.
+     *
+     * @param amount chips the seat added to the pot with this move
+     */
+    public void record(int seat, PlayerStatus move, Phase madeInPhase, int amount) {
+        long bit = 1L << seat;
+        committed[seat] += amount;
+        highestBet = Math.max(highestBet, amount);
+        if (move == PlayerStatus.FOLD) folded |= bit;
+        if (move == PlayerStatus.ALL_IN) allIn |= bit;
+        if (madeInPhase != phase) {
+            if (move == PlayerStatus.FOLD || move == PlayerStatus.ALL_IN) outInEarlierPhase |= bit;
+            return;
+        }
+        if (move == PlayerStatus.FOLD || move == PlayerStatus.SMALL_BLIND || move == PlayerStatus.BIG_BLIND) return;
+
+        // an all-in only counts as aggressive when it is the highest bet of the phase, so a bigger bet that is not
+        // a raise takes that away from it
+        if (amount > phaseHighestBet) {
+            phaseHighestBet = amount;
+            lastAllInAtHighestBet = -1;
+        }
+        if (move == PlayerStatus.ALL_IN && amount == phaseHighestBet) {
+            lastAllInAtHighestBet = phaseMoves;
+            System.arraycopy(allInMoves, 0, movesSinceAllIn, 0, seats);
+        }
+        if (move == PlayerStatus.RAISE) {
+            lastRaise = phaseMoves;
+            System.arraycopy(allInMoves, 0, movesSinceRaise, 0, seats);
+        }
+
+        moves[seat]++;
+        if (move == PlayerStatus.ALL_IN) allInMoves[seat]++;
+        if (lastRaise >= 0) movesSinceRaise[seat]++;
+        if (lastAllInAtHighestBet >= 0) movesSinceAllIn[seat]++;
+        phaseMoves++;
+    }
+
+    public boolean hasFolded(int seat) {
+        return (folded & (1L << seat)) != 0;
+    }
+
+    public boolean isAllIn(int seat) {
+        return (allIn & (1L << seat)) != 0;
+    }
+
+    /**
+     * Seats that neither folded nor went all-in.
+     */
+    public int playersLeft() {
+        return Long.bitCount(~(folded | allIn) & allSeats());
+    }
+
+    public int playersAllIn() {
+        return Long.bitCount(allIn);
+    }
+
+    /**
+     * Whether every seat that can still bet committed at least the highest single bet of the round.
+     */
+    public boolean haveBetsBeenMatched() {
+        for (int seat = 0; seat < seats; seat++) {
+            if (!hasFolded(seat) && !isAllIn(seat) && committed[seat] < highestBet) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Chips a seat still has to add to match the highest single bet of the round, by the same rule as
+     * {@link #haveBetsBeenMatched()}.
+     */
+    public int toCall(int seat) {
+        return Math.max(0, highestBet - committed[seat]);
+    }
+
+    /**
+     * Whether every seat that is still in the betting round made the same number of moves since the last raise, or
+     * since the last all-in at the highest bet of the phase. All-in moves before that aggressive move keep counting.
+     */
+    public boolean haveAllPlayersMadeEqualMoves() {
+        int[] counted = lastRaise < 0 && lastAllInAtHighestBet < 0 ? moves
+                : lastRaise > lastAllInAtHighestBet ? movesSinceRaise : movesSinceAllIn;
+        long inBettingRound = ~(folded | outInEarlierPhase) & allSeats();
+        int expected = -1;
+        for (int seat = 0; seat < seats; seat++) {
+            if ((inBettingRound & (1L << seat)) == 0 && counted[seat] == 0) continue;
+            if (expected < 0) expected = counted[seat];
+            else if (counted[seat] != expected) return false;
+        }
+        return true;
+    }
+
+    private long allSeats() {
+        return seats == Long.SIZE ? -1L : (1L << seats) - 1;
+    }
+}
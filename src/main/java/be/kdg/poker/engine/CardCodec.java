@@ -0,0 +1,89 @@
+package be.kdg.poker.engine;
+
+import be.kdg.poker.domain.Card;
+import be.kdg.poker.domain.enums.Suit;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Converts between domain cards and the primitive encodings the engine works with: a card code 0-51
+ * ({@code suit * 13 + rank - 2}), a 52-bit mask for an unordered set of cards and a byte array for an ordered deck.
+ * Conversion happens once at the service boundary so the engine itself never touches Card entities.
+ * Every card code has a fixed id, the id of its row in the card table, so a decoded card is a new copy of that row.
+ */
+public final class CardCodec {
+    public static final int DECK_SIZE = 52;
+
+    private static final Suit[] SUITS = Suit.values();
+    private static final UUID[] IDS = new UUID[DECK_SIZE];
+
+    static {
+        for (int code = 0; code < DECK_SIZE; code++) IDS[code] = new UUID(0L, code + 1);
+    }
+
+    private CardCodec() {
+    }
+
+    public static byte encode(Card card) {
+        return encode(card.getSuit(), card.getRank());
+    }
+
+    public static byte encode(Suit suit, int rank) {
+        return (byte) HandEvaluator.cardIndex(suit.ordinal(), rank);
+    }
+
+    public static byte[] encode(List<Card> cards) {
+        var codes = new byte[cards.size()];
+        for (int i = 0; i < codes.length; i++) codes[i] = encode(cards.get(i));
+        return codes;
+    }
+
+    public static Suit suit(int code) {
+        return SUITS[code / 13];
+    }
+
+    public static int rank(int code) {
+        return code % 13 + 2;
+    }
+
+    public static UUID id(int code) {
+        return IDS[code];
+    }
+
+    /**
+     * @return a new card for the code, with the id of that card in the card table
+     */
+    public static Card decode(int code) {
+        var card = new Card(suit(code), rank(code));
+        card.setId(IDS[code]);
+        return card;
+    }
+
+    public static long toMask(Collection<Card> cards) {
+        long mask = 0L;
+        for (var card : cards) {
+            mask |= 1L << encode(card);
+        }
+        return mask;
+    }
+
+    public static long toMask(byte[] codes) {
+        long mask = 0L;
+        for (byte code : codes) mask |= 1L << code;
+        return mask;
+    }
+
+    /**
+     * Returns the codes of all cards that are not in the mask, in ascending order.
+     */
+    public static byte[] remainingDeck(long usedCards) {
+        var deck = new byte[DECK_SIZE - Long.bitCount(usedCards)];
+        int size = 0;
+        for (int code = 0; code < DECK_SIZE; code++) {
+            if ((usedCards & (1L << code)) == 0) deck[size++] = (byte) code;
+        }
+        return deck;
+    }
+}
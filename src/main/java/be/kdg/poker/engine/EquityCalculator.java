@@ -0,0 +1,161 @@
+package be.kdg.poker.engine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Monte Carlo equity of two hole cards against random opponent hands.
+ * Trials run in batches that are split over a fork-join pool; after every batch the 95% confidence interval of the
+ * equity is checked and sampling stops as soon as it is narrow enough. Given the same seed the result is identical,
+ * whatever the number of worker threads.
+ */
+public final class EquityCalculator {
+    public static final int MAX_OPPONENTS = 9;
+
+    private static final int BOARD_SIZE = 5;
+    private static final int TRIALS_PER_TASK = 512;
+    private static final int TRIALS_PER_BATCH = 4096;
+    private static final double Z_95 = 1.959964;
+
+    private final ForkJoinPool pool;
+
+    public EquityCalculator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public EquityResult calculate(long holeCards, long board, int opponents, double marginOfError, int maxTrials, long seed) {
+        if (Long.bitCount(holeCards) != 2) throw new IllegalArgumentException("exactly two hole cards are required");
+        if (Long.bitCount(board) > BOARD_SIZE) throw new IllegalArgumentException("a board holds at most five cards");
+        if ((holeCards & board) != 0) throw new IllegalArgumentException("hole cards and board overlap");
+        if (opponents < 1 || opponents > MAX_OPPONENTS) throw new IllegalArgumentException("opponents must be between 1 and " + MAX_OPPONENTS);
+
+        var deck = CardCodec.remainingDeck(holeCards | board);
+        var random = new SplittableRandom(seed);
+        var total = new Tally();
+        while (total.trials() < maxTrials) {
+            int batch = (int) Math.min(TRIALS_PER_BATCH, maxTrials - total.trials());
+            total.add(pool.invoke(new TrialTask(holeCards, board, opponents, deck, batch, random.split())));
+            if (total.marginOfError() <= marginOfError) break;
+        }
+        return total.toResult();
+    }
+
+    private static final class TrialTask extends RecursiveTask<Tally> {
+        private final long holeCards;
+        private final long board;
+        private final int opponents;
+        private final byte[] deck;
+        private final int trials;
+        private final SplittableRandom random;
+
+        private TrialTask(long holeCards, long board, int opponents, byte[] deck, int trials, SplittableRandom random) {
+            this.holeCards = holeCards;
+            this.board = board;
+            this.opponents = opponents;
+            this.deck = deck;
+            this.trials = trials;
+            this.random = random;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (trials > TRIALS_PER_TASK) {
+                int half = trials / 2;
+                var right = new TrialTask(holeCards, board, opponents, deck, trials - half, random.split());
+                right.fork();
+                var tally = new TrialTask(holeCards, board, opponents, deck, half, random).compute();
+                tally.add(right.join());
+                return tally;
+            }
+            return runTrials();
+        }
+
+        private Tally runTrials() {
+            var tally = new Tally();
+            var cards = deck.clone();
+            int missingBoardCards = BOARD_SIZE - Long.bitCount(board);
+            int cardsToDeal = missingBoardCards + 2 * opponents;
+
+            for (int trial = 0; trial < trials; trial++) {
+                for (int i = 0; i < cardsToDeal; i++) {
+                    int j = i + random.nextInt(cards.length - i);
+                    byte card = cards[j];
+                    cards[j] = cards[i];
+                    cards[i] = card;
+                }
+
+                long fullBoard = board;
+                for (int i = 0; i < missingBoardCards; i++) fullBoard |= 1L << cards[i];
+
+                int ownStrength = HandEvaluator.evaluate(holeCards | fullBoard);
+                int bestOpponent = -1;
+                int playersOnBest = 0;
+                for (int opponent = 0, i = missingBoardCards; opponent < opponents; opponent++, i += 2) {
+                    int strength = HandEvaluator.evaluate((1L << cards[i]) | (1L << cards[i + 1]) | fullBoard);
+                    if (strength > bestOpponent) {
+                        bestOpponent = strength;
+                        playersOnBest = 1;
+                    } else if (strength == bestOpponent) {
+                        playersOnBest++;
+                    }
+                }
+
+                if (ownStrength > bestOpponent) tally.win();
+                else if (ownStrength == bestOpponent) tally.tie(playersOnBest + 1);
+                else tally.lose();
+            }
+            return tally;
+        }
+    }
+
+    private static final class Tally {
+        private long wins;
+        private long ties;
+        private long losses;
+        private double equitySum;
+        private double equitySquareSum;
+
+        void win() {
+            wins++;
+            equitySum += 1;
+            equitySquareSum += 1;
+        }
+
+        void tie(int playersSharing) {
+            double share = 1.0 / playersSharing;
+            ties++;
+            equitySum += share;
+            equitySquareSum += share * share;
+        }
+
+        void lose() {
+            losses++;
+        }
+
+        void add(Tally other) {
+            wins += other.wins;
+            ties += other.ties;
+            losses += other.losses;
+            equitySum += other.equitySum;
+            equitySquareSum += other.equitySquareSum;
+        }
+
+        long trials() {
+            return wins + ties + losses;
+        }
+
+        double marginOfError() {
+            long trials = trials();
+            if (trials < 2) return Double.POSITIVE_INFINITY;
+            double mean = equitySum / trials;
+            double variance = Math.max(0, (equitySquareSum - trials * mean * mean) / (trials - 1));
+            return Z_95 * Math.sqrt(variance / trials);
+        }
+
+        EquityResult toResult() {
+            long trials = trials();
+            return new EquityResult(trials, wins, ties, losses, trials == 0 ? 0 : equitySum / trials, marginOfError());
+        }
+    }
+}
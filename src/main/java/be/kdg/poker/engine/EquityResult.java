@@ -0,0 +1,16 @@
+package be.kdg.poker.engine;
+
+public record EquityResult(long trials, long wins, long ties, long losses, double equity, double marginOfError) {
+
+    public double winRate() {
+        return trials == 0 ? 0 : (double) wins / trials;
+    }
+
+    public double tieRate() {
+        return trials == 0 ? 0 : (double) ties / trials;
+    }
+
+    public double lossRate() {
+        return trials == 0 ? 0 : (double) losses / trials;
+    }
+}
@@ -0,0 +1,119 @@
+package be.kdg.poker.engine;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Exact showdown equity of known hands by enumerating every board that can still be dealt.
+ * The boards are split over a fork-join pool by their lowest remaining card; pots that are tied on a board are
+ * shared equally between the hands that tie, so the equities of all hands add up to 1.
+ */
+public final class ExactEquityCalculator {
+    private static final int BOARD_SIZE = 5;
+
+    private final ForkJoinPool pool;
+    private final long maxBoards;
+
+    public ExactEquityCalculator(ForkJoinPool pool, long maxBoards) {
+        this.pool = pool;
+        this.maxBoards = maxBoards;
+    }
+
+    public double[] calculate(long[] hands, long board) {
+        if (hands.length < 2) throw new IllegalArgumentException("at least two hands are required");
+        if (Long.bitCount(board) > BOARD_SIZE) throw new IllegalArgumentException("a board holds at most five cards");
+        long usedCards = board;
+        for (long hand : hands) {
+            if ((usedCards & hand) != 0) throw new IllegalArgumentException("hands and board overlap");
+            usedCards |= hand;
+        }
+
+        var deck = CardCodec.remainingDeck(usedCards);
+        int missingCards = BOARD_SIZE - Long.bitCount(board);
+        long boards = boardCount(deck.length, missingCards);
+        if (boards > maxBoards) {
+            throw new IllegalArgumentException(boards + " boards exceed the limit of " + maxBoards);
+        }
+
+        double[] shares;
+        if (missingCards == 0) {
+            shares = new double[hands.length];
+            showdown(hands, board, shares);
+        } else {
+            var tasks = new ArrayList<BoardTask>();
+            for (int first = 0; first <= deck.length - missingCards; first++) {
+                tasks.add(new BoardTask(hands, deck, board | (1L << deck[first]), first + 1, missingCards - 1));
+            }
+            shares = new double[hands.length];
+            tasks.forEach(pool::execute);
+            for (var task : tasks) {
+                double[] taskShares = task.join();
+                for (int i = 0; i < shares.length; i++) shares[i] += taskShares[i];
+            }
+        }
+
+        for (int i = 0; i < shares.length; i++) shares[i] /= boards;
+        return shares;
+    }
+
+    public static long boardCount(int deckSize, int missingCards) {
+        long count = 1;
+        for (int i = 0; i < missingCards; i++) count = count * (deckSize - i) / (i + 1);
+        return count;
+    }
+
+    private static void enumerate(long[] hands, byte[] deck, long board, int start, int missingCards, double[] shares) {
+        if (missingCards == 0) {
+            showdown(hands, board, shares);
+            return;
+        }
+        for (int i = start; i <= deck.length - missingCards; i++) {
+            enumerate(hands, deck, board | (1L << deck[i]), i + 1, missingCards - 1, shares);
+        }
+    }
+
+    private static void showdown(long[] hands, long board, double[] shares) {
+        int best = -1;
+        int winners = 0;
+        long winnerMask = 0L;
+        for (int i = 0; i < hands.length; i++) {
+            int strength = HandEvaluator.evaluate(hands[i] | board);
+            if (strength > best) {
+                best = strength;
+                winners = 1;
+                winnerMask = 1L << i;
+            } else if (strength == best) {
+                winners++;
+                winnerMask |= 1L << i;
+            }
+        }
+        double share = 1.0 / winners;
+        for (; winnerMask != 0; winnerMask &= winnerMask - 1) {
+            shares[Long.numberOfTrailingZeros(winnerMask)] += share;
+        }
+    }
+
+    private static final class BoardTask extends RecursiveTask<double[]> {
+        private final long[] hands;
+        private final byte[] deck;
+        private final long board;
+        private final int start;
+        private final int missingCards;
+
+        private BoardTask(long[] hands, byte[] deck, long board, int start, int missingCards) {
+            this.hands = hands;
+            this.deck = deck;
+            this.board = board;
+            this.start = start;
+            this.missingCards = missingCards;
+        }
+
+        @Override
+        protected double[] compute() {
+            var shares = new double[hands.length];
+            enumerate(hands, deck, board, start, missingCards, shares);
+            return shares;
+        }
+    }
+}
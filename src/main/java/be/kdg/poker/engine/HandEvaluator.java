@@ -0,0 +1,151 @@
+package be.kdg.poker.engine;
+
+/**
+ * Allocation-free hand evaluator working on a 52-bit card mask.
+ * Bit {@code suit * 13 + (rank - 2)} is set for every card in the hand, so each suit occupies a 13-bit rank mask.
+ * The returned strength is {@code category << 20} followed by up to five 4-bit ranks (most significant first),
+ * which means two strengths can be compared directly as ints.
+ */
+public final class HandEvaluator {
+    public static final int HIGH_CARD = 0;
+    public static final int PAIR = 1;
+    public static final int TWO_PAIR = 2;
+    public static final int THREE_OF_A_KIND = 3;
+    public static final int STRAIGHT = 4;
+    public static final int FLUSH = 5;
+    public static final int FULL_HOUSE = 6;
+    public static final int FOUR_OF_A_KIND = 7;
+    public static final int STRAIGHT_FLUSH = 8;
+
+    public static final int ROYAL_FLUSH_SCORE = 900;
+
+    private static final int RANK_MASK = 0x1FFF;
+    private static final int CATEGORY_SHIFT = 20;
+    private static final int ACE = 14;
+
+    private HandEvaluator() {
+    }
+
+    public static int cardIndex(int suitOrdinal, int rank) {
+        return suitOrdinal * 13 + (rank - 2);
+    }
+
+    public static long cardBit(int suitOrdinal, int rank) {
+        return 1L << cardIndex(suitOrdinal, rank);
+    }
+
+    public static int evaluate(long cards) {
+        int s0 = (int) (cards & RANK_MASK);
+        int s1 = (int) ((cards >>> 13) & RANK_MASK);
+        int s2 = (int) ((cards >>> 26) & RANK_MASK);
+        int s3 = (int) ((cards >>> 39) & RANK_MASK);
+
+        int flushRanks = 0;
+        if (Integer.bitCount(s0) >= 5) flushRanks = s0;
+        else if (Integer.bitCount(s1) >= 5) flushRanks = s1;
+        else if (Integer.bitCount(s2) >= 5) flushRanks = s2;
+        else if (Integer.bitCount(s3) >= 5) flushRanks = s3;
+
+        if (flushRanks != 0) {
+            int straightFlushHigh = straightHigh(flushRanks);
+            if (straightFlushHigh != 0) return strength(STRAIGHT_FLUSH, straightFlushHigh);
+        }
+
+        int ranks = s0 | s1 | s2 | s3;
+        int quads = s0 & s1 & s2 & s3;
+        int atLeastThree = (s0 & s1 & s2) | (s0 & s1 & s3) | (s0 & s2 & s3) | (s1 & s2 & s3);
+        int atLeastTwo = (s0 & s1) | (s0 & s2) | (s0 & s3) | (s1 & s2) | (s1 & s3) | (s2 & s3);
+        int trips = atLeastThree & ~quads;
+        int pairs = atLeastTwo & ~atLeastThree;
+
+        if (quads != 0) {
+            int quadRank = highestRank(quads);
+            return strength(FOUR_OF_A_KIND, quadRank, highestRank(ranks & ~rankBit(quadRank)));
+        }
+
+        if (trips != 0) {
+            int tripRank = highestRank(trips);
+            int pairRank = highestRank((trips & ~rankBit(tripRank)) | pairs);
+            if (pairRank != 0) return strength(FULL_HOUSE, tripRank, pairRank);
+        }
+
+        if (flushRanks != 0) return kickers(FLUSH, 0, 0, flushRanks, 5);
+
+        int straightHigh = straightHigh(ranks);
+        if (straightHigh != 0) return strength(STRAIGHT, straightHigh);
+
+        if (trips != 0) {
+            int tripRank = highestRank(trips);
+            return kickers(THREE_OF_A_KIND, tripRank, 1, ranks & ~rankBit(tripRank), 2);
+        }
+
+        if (Integer.bitCount(pairs) >= 2) {
+            int highPair = highestRank(pairs);
+            int lowPair = highestRank(pairs & ~rankBit(highPair));
+            int rest = ranks & ~rankBit(highPair) & ~rankBit(lowPair);
+            return kickers(TWO_PAIR, (highPair << 4) | lowPair, 2, rest, 1);
+        }
+
+        if (pairs != 0) {
+            int pairRank = highestRank(pairs);
+            return kickers(PAIR, pairRank, 1, ranks & ~rankBit(pairRank), 3);
+        }
+
+        return kickers(HIGH_CARD, 0, 0, ranks, 5);
+    }
+
+    public static int category(int strength) {
+        return strength >>> CATEGORY_SHIFT;
+    }
+
+    /**
+     * Returns the rank stored at the given position of the strength, position 0 being the most significant one.
+     * Unused positions return 0.
+     */
+    public static int rankAt(int strength, int position) {
+        return (strength >>> (16 - position * 4)) & 0xF;
+    }
+
+    public static int score(int strength) {
+        int category = category(strength);
+        if (category == STRAIGHT_FLUSH && rankAt(strength, 0) == ACE) return ROYAL_FLUSH_SCORE;
+        return category * 100;
+    }
+
+    public static int straightHigh(int rankMask) {
+        int withLowAce = (rankMask << 1) | ((rankMask >>> 12) & 1);
+        int runs = withLowAce & (withLowAce >>> 1) & (withLowAce >>> 2) & (withLowAce >>> 3) & (withLowAce >>> 4);
+        if (runs == 0) return 0;
+        return 31 - Integer.numberOfLeadingZeros(runs) + 5;
+    }
+
+    private static int highestRank(int rankMask) {
+        if (rankMask == 0) return 0;
+        return 31 - Integer.numberOfLeadingZeros(rankMask) + 2;
+    }
+
+    private static int rankBit(int rank) {
+        return rank == 0 ? 0 : 1 << (rank - 2);
+    }
+
+    private static int strength(int category, int first) {
+        return (category << CATEGORY_SHIFT) | (first << 16);
+    }
+
+    private static int strength(int category, int first, int second) {
+        return (category << CATEGORY_SHIFT) | (first << 16) | (second << 12);
+    }
+
+    private static int kickers(int category, int prefix, int prefixLength, int rankMask, int count) {
+        int value = prefix;
+        int used = prefixLength;
+        int remaining = rankMask;
+        for (int i = 0; i < count; i++) {
+            int rank = highestRank(remaining);
+            remaining &= ~rankBit(rank);
+            value = (value << 4) | rank;
+            used++;
+        }
+        return (category << CATEGORY_SHIFT) | (value << ((5 - used) * 4));
+    }
+}
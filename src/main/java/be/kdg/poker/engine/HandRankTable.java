@@ -0,0 +1,241 @@
+package be.kdg.poker.engine;
+
+import java.io.*;
+import java.util.Arrays;
+
+/**
+ * Lookup-table evaluator for 5, 6 and 7 card hands.
+ * Every hand is mapped to one of the 7462 distinct five-card equivalence classes; ordinal 1 is the worst
+ * high card and 7462 the royal flush. Non-flush hands are indexed by a minimal perfect hash over their
+ * rank multiset, flushes by the 13-bit rank mask of the flush suit (with at most 7 cards a flush rules out
+ * quads and full houses, so the flush suit alone decides the ordinal).
+ */
+public final class HandRankTable {
+    public static final String RESOURCE_NAME = "hand-ranks.bin";
+
+    private static final int MAGIC = 0x48524B54;
+    private static final int VERSION = 1;
+    private static final int RANKS = 13;
+    private static final int MAX_RANK_COUNT = 4;
+    private static final int MIN_CARDS = 5;
+    private static final int MAX_CARDS = 7;
+    private static final int RANK_MASK = 0x1FFF;
+
+    // MULTISETS[r][k]: number of ways to spread k cards over ranks r..12 with at most 4 per rank
+    private static final int[][] MULTISETS = new int[RANKS + 1][MAX_CARDS + 1];
+    // OFFSETS[offsetIndex(r, k, c)]: hash contribution of holding c cards of rank r while k cards are still to be placed
+    private static final int[] OFFSETS = new int[RANKS * (MAX_CARDS + 1) * (MAX_RANK_COUNT + 1)];
+
+    static {
+        MULTISETS[RANKS][0] = 1;
+        for (int r = RANKS - 1; r >= 0; r--) {
+            for (int k = 0; k <= MAX_CARDS; k++) {
+                for (int c = 0; c <= Math.min(k, MAX_RANK_COUNT); c++) {
+                    MULTISETS[r][k] += MULTISETS[r + 1][k - c];
+                }
+            }
+        }
+        for (int r = 0; r < RANKS; r++) {
+            for (int k = 0; k <= MAX_CARDS; k++) {
+                int offset = 0;
+                for (int c = 0; c <= Math.min(k, MAX_RANK_COUNT); c++) {
+                    OFFSETS[offsetIndex(r, k, c)] = offset;
+                    offset += MULTISETS[r + 1][k - c];
+                }
+            }
+        }
+    }
+
+    private final int[] strengths;
+    private final short[][] rankOrdinals;
+    private final short[] flushOrdinals;
+
+    private HandRankTable(int[] strengths, short[][] rankOrdinals, short[] flushOrdinals) {
+        this.strengths = strengths;
+        this.rankOrdinals = rankOrdinals;
+        this.flushOrdinals = flushOrdinals;
+    }
+
+    /**
+     * Returns the ordinal of the best five-card hand in the mask, or 0 when the mask does not hold 5 to 7 cards.
+     */
+    public int ordinal(long cards) {
+        int s0 = (int) (cards & RANK_MASK);
+        int s1 = (int) ((cards >>> 13) & RANK_MASK);
+        int s2 = (int) ((cards >>> 26) & RANK_MASK);
+        int s3 = (int) ((cards >>> 39) & RANK_MASK);
+
+        if (Integer.bitCount(s0) >= 5) return flushOrdinals[s0];
+        if (Integer.bitCount(s1) >= 5) return flushOrdinals[s1];
+        if (Integer.bitCount(s2) >= 5) return flushOrdinals[s2];
+        if (Integer.bitCount(s3) >= 5) return flushOrdinals[s3];
+
+        int cardCount = Long.bitCount(cards);
+        if (cardCount < MIN_CARDS || cardCount > MAX_CARDS) return 0;
+
+        int atLeastTwo = (s0 & s1) | (s0 & s2) | (s0 & s3) | (s1 & s2) | (s1 & s3) | (s2 & s3);
+        int atLeastThree = (s0 & s1 & s2) | (s0 & s1 & s3) | (s0 & s2 & s3) | (s1 & s2 & s3);
+        int quads = s0 & s1 & s2 & s3;
+
+        int index = 0;
+        int remaining = cardCount;
+        for (int ranks = s0 | s1 | s2 | s3; ranks != 0; ranks &= ranks - 1) {
+            int rank = Integer.numberOfTrailingZeros(ranks);
+            int count = 1 + ((atLeastTwo >>> rank) & 1) + ((atLeastThree >>> rank) & 1) + ((quads >>> rank) & 1);
+            index += OFFSETS[offsetIndex(rank, remaining, count)];
+            remaining -= count;
+        }
+        return rankOrdinals[cardCount - MIN_CARDS][index];
+    }
+
+    /**
+     * Maps an ordinal back to the {@link HandEvaluator} strength of its equivalence class.
+     */
+    public int strength(int ordinal) {
+        return strengths[ordinal];
+    }
+
+    public int classCount() {
+        return strengths.length - 1;
+    }
+
+    public static HandRankTable generate() {
+        int[] strengths = collectClassStrengths();
+
+        var rankOrdinals = new short[MAX_CARDS - MIN_CARDS + 1][];
+        for (int cards = MIN_CARDS; cards <= MAX_CARDS; cards++) {
+            var ordinals = new short[MULTISETS[0][cards]];
+            fillRankOrdinals(ordinals, strengths, new int[RANKS], 0, cards, 0);
+            rankOrdinals[cards - MIN_CARDS] = ordinals;
+        }
+
+        var flushOrdinals = new short[RANK_MASK + 1];
+        for (int mask = 0; mask <= RANK_MASK; mask++) {
+            int bits = Integer.bitCount(mask);
+            if (bits >= MIN_CARDS && bits <= MAX_CARDS) {
+                flushOrdinals[mask] = (short) ordinalOf(strengths, HandEvaluator.evaluate(mask));
+            }
+        }
+        return new HandRankTable(strengths, rankOrdinals, flushOrdinals);
+    }
+
+    public static HandRankTable read(InputStream inputStream) throws IOException {
+        var in = new DataInputStream(new BufferedInputStream(inputStream));
+        if (in.readInt() != MAGIC) throw new IOException("not a hand rank table");
+        int version = in.readInt();
+        if (version != VERSION) throw new IOException("unsupported hand rank table version " + version);
+
+        var strengths = new int[in.readInt() + 1];
+        for (int i = 1; i < strengths.length; i++) strengths[i] = in.readInt();
+
+        var rankOrdinals = new short[MAX_CARDS - MIN_CARDS + 1][];
+        for (int cards = MIN_CARDS; cards <= MAX_CARDS; cards++) {
+            rankOrdinals[cards - MIN_CARDS] = readShorts(in, MULTISETS[0][cards]);
+        }
+        var flushOrdinals = readShorts(in, RANK_MASK + 1);
+        return new HandRankTable(strengths, rankOrdinals, flushOrdinals);
+    }
+
+    public void write(OutputStream outputStream) throws IOException {
+        var out = new DataOutputStream(new BufferedOutputStream(outputStream));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(classCount());
+        for (int i = 1; i < strengths.length; i++) out.writeInt(strengths[i]);
+        for (var ordinals : rankOrdinals) writeShorts(out, ordinals);
+        writeShorts(out, flushOrdinals);
+        out.flush();
+    }
+
+    /**
+     * Writes the table to the file given as first argument; used by the build to package it as a resource.
+     */
+    public static void main(String[] args) throws IOException {
+        long start = System.nanoTime();
+        var table = generate();
+        long generated = System.nanoTime();
+        var file = new File(args[0]);
+        file.getParentFile().mkdirs();
+        try (var out = new FileOutputStream(file)) {
+            table.write(out);
+        }
+        System.out.printf("hand rank table: %d classes, %d bytes, generated in %.1f ms, written in %.1f ms%n",
+                table.classCount(), file.length(), (generated - start) / 1e6, (System.nanoTime() - generated) / 1e6);
+    }
+
+    private static int[] collectClassStrengths() {
+        var strengths = new int[8192];
+        int size = 0;
+        for (int mask = 0; mask <= RANK_MASK; mask++) {
+            if (Integer.bitCount(mask) == MIN_CARDS) strengths[size++] = HandEvaluator.evaluate(mask);
+        }
+        int[] counts = new int[RANKS];
+        size = collectRankStrengths(strengths, size, counts, 0, MIN_CARDS);
+
+        var sorted = Arrays.copyOf(strengths, size);
+        Arrays.sort(sorted);
+        var classes = new int[size + 1];
+        classes[0] = Integer.MIN_VALUE;
+        System.arraycopy(sorted, 0, classes, 1, size);
+        return classes;
+    }
+
+    private static int collectRankStrengths(int[] strengths, int size, int[] counts, int rank, int remaining) {
+        if (rank == RANKS) {
+            if (remaining == 0) strengths[size++] = HandEvaluator.evaluate(withoutFlush(counts));
+            return size;
+        }
+        for (int c = 0; c <= Math.min(remaining, MAX_RANK_COUNT); c++) {
+            counts[rank] = c;
+            size = collectRankStrengths(strengths, size, counts, rank + 1, remaining - c);
+        }
+        counts[rank] = 0;
+        return size;
+    }
+
+    private static void fillRankOrdinals(short[] ordinals, int[] strengths, int[] counts, int rank, int remaining, int index) {
+        if (rank == RANKS) {
+            if (remaining == 0) ordinals[index] = (short) ordinalOf(strengths, HandEvaluator.evaluate(withoutFlush(counts)));
+            return;
+        }
+        for (int c = 0; c <= Math.min(remaining, MAX_RANK_COUNT); c++) {
+            counts[rank] = c;
+            fillRankOrdinals(ordinals, strengths, counts, rank + 1, remaining - c, index + OFFSETS[offsetIndex(rank, remaining, c)]);
+        }
+        counts[rank] = 0;
+    }
+
+    private static int offsetIndex(int rank, int remaining, int count) {
+        return (rank * (MAX_CARDS + 1) + remaining) * (MAX_RANK_COUNT + 1) + count;
+    }
+
+    private static long withoutFlush(int[] counts) {
+        long cards = 0L;
+        int suit = 0;
+        for (int rank = 0; rank < RANKS; rank++) {
+            for (int c = 0; c < counts[rank]; c++) {
+                cards |= 1L << ((suit++ & 3) * 13 + rank);
+            }
+        }
+        return cards;
+    }
+
+    private static int ordinalOf(int[] strengths, int strength) {
+        int ordinal = Arrays.binarySearch(strengths, 1, strengths.length, strength);
+        if (ordinal < 0) throw new IllegalStateException("no equivalence class for strength " + Integer.toHexString(strength));
+        return ordinal;
+    }
+
+    private static short[] readShorts(DataInputStream in, int expectedLength) throws IOException {
+        int length = in.readInt();
+        if (length != expectedLength) throw new IOException("expected " + expectedLength + " entries but found " + length);
+        var values = new short[length];
+        for (int i = 0; i < length; i++) values[i] = in.readShort();
+        return values;
+    }
+
+    private static void writeShorts(DataOutputStream out, short[] values) throws IOException {
+        out.writeInt(values.length);
+        for (short value : values) out.writeShort(value);
+    }
+}
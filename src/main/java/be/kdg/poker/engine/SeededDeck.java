@@ -0,0 +1,86 @@
+package be.kdg.poker.engine;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.ChaCha20ParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+/**
+ * Derives the order of a deck from a 32-byte seed: a Fisher-Yates shuffle that draws from the ChaCha20 keystream of
+ * the seed, with rejection sampling so every order is equally likely. The same seed always gives the same deck, so a
+ * round can be replayed from its seed, and the SHA-256 commitment of the seed lets it be checked afterwards.
+ */
+public final class SeededDeck {
+    public static final int SEED_BYTES = 32;
+
+    private static final int BLOCK_BYTES = 64;
+
+    private SeededDeck() {
+    }
+
+    /**
+     * @return the codes of all 52 cards in the order the seed deals them
+     */
+    public static byte[] deal(byte[] seed) {
+        var deck = new byte[CardCodec.DECK_SIZE];
+        for (int code = 0; code < deck.length; code++) deck[code] = (byte) code;
+
+        var keystream = new Keystream(seed);
+        for (int i = deck.length - 1; i > 0; i--) {
+            int j = keystream.nextInt(i + 1);
+            byte card = deck[i];
+            deck[i] = deck[j];
+            deck[j] = card;
+        }
+        return deck;
+    }
+
+    public static byte[] commitment(byte[] seed) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(seed);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class Keystream {
+        private final Cipher cipher;
+        private final byte[] zeros = new byte[BLOCK_BYTES];
+        private byte[] block = new byte[0];
+        private int position;
+
+        private Keystream(byte[] seed) {
+            if (seed.length != SEED_BYTES) throw new IllegalArgumentException("a seed has " + SEED_BYTES + " bytes");
+            try {
+                cipher = Cipher.getInstance("ChaCha20");
+                cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(seed, "ChaCha20"), new ChaCha20ParameterSpec(new byte[12], 0));
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("ChaCha20 is not available", e);
+            }
+        }
+
+        /**
+         * @return a uniform value in {@code [0, bound)}
+         */
+        private int nextInt(int bound) {
+            long limit = (1L << 32) - (1L << 32) % bound;
+            long value;
+            do {
+                value = nextUnsignedInt();
+            } while (value >= limit);
+            return (int) (value % bound);
+        }
+
+        private long nextUnsignedInt() {
+            if (position == block.length) {
+                block = cipher.update(zeros);
+                position = 0;
+            }
+            long value = (block[position] & 0xFFL) | (block[position + 1] & 0xFFL) << 8
+                    | (block[position + 2] & 0xFFL) << 16 | (block[position + 3] & 0xFFL) << 24;
+            position += 4;
+            return value;
+        }
+    }
+}
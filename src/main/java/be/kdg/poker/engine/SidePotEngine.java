@@ -0,0 +1,82 @@
+package be.kdg.poker.engine;
+
+import java.util.Arrays;
+
+/**
+ * Splits a pot into its main and side pots and awards each pot to the best eligible hands.
+ * Players are identified by their index in the input arrays, which must be in seating order: when a pot cannot be
+ * split evenly, the odd chips go one by one to the winners that come first in that order.
+ * Contributions are sorted once; walking them from the highest down, a new pot starts at every lower contribution
+ * of a player who is still in the hand, so every pot is awarded exactly once.
+ */
+public final class SidePotEngine {
+    /**
+     * Rank of a player who contributed to the pot but cannot win it, e.g. because they folded.
+     */
+    public static final int NOT_ELIGIBLE = -1;
+
+    private SidePotEngine() {
+    }
+
+    /**
+     * @param contributions chips each player put in the pot
+     * @param ranks         showdown rank of each player, 0 being the best hand; equal ranks split, {@link #NOT_ELIGIBLE} never wins
+     * @return the chips each player receives; the payouts always add up to the sum of the contributions
+     */
+    public static int[] divide(int[] contributions, int[] ranks) {
+        int players = contributions.length;
+        if (ranks.length != players) throw new IllegalArgumentException("every contribution needs a rank");
+
+        // contribution in the high bits and the player index in the low bits: one primitive sort orders the pot layers
+        var sorted = new long[players];
+        for (int i = 0; i < players; i++) {
+            if (contributions[i] < 0) throw new IllegalArgumentException("contributions cannot be negative");
+            sorted[i] = ((long) contributions[i] << 32) | i;
+        }
+        Arrays.sort(sorted);
+
+        var payouts = new int[players];
+        var winners = new int[players];
+        int winnerCount = 0;
+        int bestRank = Integer.MAX_VALUE;
+        long lowestEligibleLevel = Long.MAX_VALUE;
+        long pot = 0;
+
+        for (int k = players - 1; k >= 0; k--) {
+            int player = (int) sorted[k];
+            long level = sorted[k] >>> 32;
+            long previousLevel = k == 0 ? 0 : sorted[k - 1] >>> 32;
+
+            if (ranks[player] != NOT_ELIGIBLE) {
+                // the chips collected above this level form a pot this player cannot claim; chips above the highest
+                // eligible contribution (only possible from players who folded) are added to the first pot that has an owner
+                if (winnerCount > 0 && level < lowestEligibleLevel) {
+                    award(pot, winners, winnerCount, payouts);
+                    pot = 0;
+                }
+                lowestEligibleLevel = level;
+                if (winnerCount == 0 || ranks[player] < bestRank) {
+                    bestRank = ranks[player];
+                    winnerCount = 0;
+                }
+                if (ranks[player] == bestRank) winners[winnerCount++] = player;
+            }
+            pot += (level - previousLevel) * (players - k);
+        }
+
+        if (winnerCount == 0) throw new IllegalArgumentException("nobody is eligible to win the pot");
+        award(pot, winners, winnerCount, payouts);
+        return payouts;
+    }
+
+    private static void award(long pot, int[] winners, int winnerCount, int[] payouts) {
+        if (pot == 0) return;
+        var inSeatOrder = Arrays.copyOf(winners, winnerCount);
+        Arrays.sort(inSeatOrder);
+        int share = (int) (pot / winnerCount);
+        int oddChips = (int) (pot % winnerCount);
+        for (int i = 0; i < winnerCount; i++) {
+            payouts[inSeatOrder[i]] += share + (i < oddChips ? 1 : 0);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package be.kdg.poker.engine;
+
+import be.kdg.poker.domain.enums.Phase;
+import be.kdg.poker.domain.enums.PlayerStatus;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Betting state of one live round: stack, bets and status per seat, the current bet, the pot and the seat on move.
+ * Seats are indexed in seating order. Every action updates the state in place, so deciding what happens next never
+ * needs the turn history; the only loops run over the seats of the table.
+ * Not thread-safe: callers apply the actions of a table one at a time.
+ */
+public final class TableState {
+    public enum Transition {
+        /** the street continues with the player on {@link #actionSeat()} */
+        NEXT_PLAYER,
+        /** every active player acted and matched the bet */
+        NEXT_STREET,
+        /** the street is complete and at most one player can still bet, so the board is dealt out */
+        RUN_OUT,
+        /** only one player is left in the hand */
+        FINISHED
+    }
+
+    private static final int SNAPSHOT_HEADER_BYTES = 12;
+    private static final int SNAPSHOT_SEAT_BYTES = 13;
+
+    private final int seats;
+    private final int dealerSeat;
+    private final int[] stacks;
+    private final int[] streetBets;
+    private final int[] totalBets;
+    private final boolean[] folded;
+    private final boolean[] allIn;
+    private final boolean[] acted;
+
+    private Phase phase = Phase.PRE_FLOP;
+    private int currentBet;
+    private int pot;
+    private int actionSeat;
+    private int playersInHand;
+    private int activePlayers;
+
+    /**
+     * @param stacks     chips of every seat before the blinds are posted
+     * @param dealerSeat seat of the dealer; blinds are posted by the next two seats and the one after them acts first
+     */
+    public TableState(int[] stacks, int dealerSeat) {
+        if (stacks.length < 2) throw new IllegalArgumentException("a table needs at least two seats");
+        this.seats = stacks.length;
+        this.dealerSeat = Math.floorMod(dealerSeat, seats);
+        this.stacks = stacks.clone();
+        this.streetBets = new int[seats];
+        this.totalBets = new int[seats];
+        this.folded = new boolean[seats];
+        this.allIn = new boolean[seats];
+        this.acted = new boolean[seats];
+        this.playersInHand = seats;
+        this.activePlayers = seats;
+        this.actionSeat = (this.dealerSeat + 3) % seats;
+    }
+
+    /**
+     * Serializes the complete state; {@link #fromSnapshot(byte[])} restores it.
+     */
+    public byte[] toSnapshot() {
+        var buffer = ByteBuffer.allocate(SNAPSHOT_HEADER_BYTES + seats * SNAPSHOT_SEAT_BYTES);
+        buffer.put((byte) seats).put((byte) dealerSeat).put((byte) phase.ordinal()).put((byte) actionSeat);
+        buffer.putInt(currentBet).putInt(pot);
+        for (int seat = 0; seat < seats; seat++) {
+            buffer.putInt(stacks[seat]).putInt(streetBets[seat]).putInt(totalBets[seat]);
+            buffer.put((byte) ((folded[seat] ? 1 : 0) | (allIn[seat] ? 2 : 0) | (acted[seat] ? 4 : 0)));
+        }
+        return buffer.array();
+    }
+
+    public static TableState fromSnapshot(byte[] snapshot) {
+        var buffer = ByteBuffer.wrap(snapshot);
+        int seats = buffer.get();
+        var state = new TableState(new int[seats], buffer.get());
+        state.phase = Phase.values()[buffer.get()];
+        state.actionSeat = buffer.get();
+        state.currentBet = buffer.getInt();
+        state.pot = buffer.getInt();
+        state.playersInHand = 0;
+        state.activePlayers = 0;
+        for (int seat = 0; seat < seats; seat++) {
+            state.stacks[seat] = buffer.getInt();
+            state.streetBets[seat] = buffer.getInt();
+            state.totalBets[seat] = buffer.getInt();
+            int flags = buffer.get();
+            state.folded[seat] = (flags & 1) != 0;
+            state.allIn[seat] = (flags & 2) != 0;
+            state.acted[seat] = (flags & 4) != 0;
+            if (!state.folded[seat]) state.playersInHand++;
+            if (state.isActive(seat)) state.activePlayers++;
+        }
+        return state;
+    }
+
+    /**
+     * Applies the move of a seat. Blinds add to the bet without counting as the seat's action; any bet above the
+     * current bet reopens the action for every other seat.
+     *
+     * @param amount chips the seat adds to the pot with this move
+     */
+    public Transition apply(int seat, PlayerStatus move, int amount) {
+        if (folded[seat] || allIn[seat]) throw new IllegalStateException("seat " + seat + " is no longer in the hand");
+        if (amount < 0) throw new IllegalArgumentException("amount cannot be negative");
+
+        switch (move) {
+            case FOLD -> {
+                folded[seat] = true;
+                playersInHand--;
+                activePlayers--;
+            }
+            case CHECK -> {
+            }
+            case CALL, RAISE, ALL_IN, SMALL_BLIND, BIG_BLIND -> bet(seat, amount);
+            default -> throw new IllegalArgumentException(move + " is not a move");
+        }
+        if (move == PlayerStatus.ALL_IN) {
+            allIn[seat] = true;
+            activePlayers--;
+        }
+        if (move != PlayerStatus.SMALL_BLIND && move != PlayerStatus.BIG_BLIND) acted[seat] = true;
+
+        return nextTransition(seat);
+    }
+
+    /**
+     * Starts a new street: bets are moved into the pot and the first active seat after the dealer is on move.
+     */
+    public void startStreet(Phase next) {
+        phase = next;
+        currentBet = 0;
+        Arrays.fill(streetBets, 0);
+        Arrays.fill(acted, false);
+        actionSeat = nextActiveSeat(dealerSeat);
+    }
+
+    public void moveActionTo(int seat) {
+        actionSeat = seat;
+    }
+
+    private void bet(int seat, int amount) {
+        stacks[seat] -= amount;
+        streetBets[seat] += amount;
+        totalBets[seat] += amount;
+        pot += amount;
+        if (streetBets[seat] > currentBet) {
+            currentBet = streetBets[seat];
+            for (int other = 0; other < seats; other++) {
+                if (other != seat) acted[other] = false;
+            }
+        }
+    }
+
+    private Transition nextTransition(int lastSeat) {
+        if (playersInHand <= 1) return Transition.FINISHED;
+        if (!isStreetComplete()) {
+            actionSeat = nextActiveSeat(lastSeat);
+            return Transition.NEXT_PLAYER;
+        }
+        return activePlayers <= 1 ? Transition.RUN_OUT : Transition.NEXT_STREET;
+    }
+
+    private boolean isStreetComplete() {
+        for (int seat = 0; seat < seats; seat++) {
+            if (isActive(seat) && (!acted[seat] || streetBets[seat] < currentBet)) return false;
+        }
+        return true;
+    }
+
+    private int nextActiveSeat(int from) {
+        for (int i = 1; i <= seats; i++) {
+            int seat = (from + i) % seats;
+            if (isActive(seat)) return seat;
+        }
+        return from;
+    }
+
+    private boolean isActive(int seat) {
+        return !folded[seat] && !allIn[seat];
+    }
+
+    public int seats() {
+        return seats;
+    }
+
+    public Phase phase() {
+        return phase;
+    }
+
+    public int actionSeat() {
+        return actionSeat;
+    }
+
+    public int currentBet() {
+        return currentBet;
+    }
+
+    public int pot() {
+        return pot;
+    }
+
+    public int stack(int seat) {
+        return stacks[seat];
+    }
+
+    public int streetBet(int seat) {
+        return streetBets[seat];
+    }
+
+    public int totalBet(int seat) {
+        return totalBets[seat];
+    }
+
+    public int toCall(int seat) {
+        return Math.max(0, currentBet - streetBets[seat]);
+    }
+
+    public boolean isFolded(int seat) {
+        return folded[seat];
+    }
+
+    public boolean isAllIn(int seat) {
+        return allIn[seat];
+    }
+
+    public int playersInHand() {
+        return playersInHand;
+    }
+
+    public int activePlayers() {
+        return activePlayers;
+    }
+}
@@ -0,0 +1,134 @@
+package be.kdg.poker.engine;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: four levels of 64 slots, where a slot of level {@code n} spans {@code 64^n} ticks.
+ * A timeout is put in the lowest level whose range reaches its deadline and moves down a level every time the wheel
+ * turns past its slot, so scheduling and cancelling are constant time and a tick only touches the timeouts that are
+ * due or cascade. Deadlines beyond the top level wait in its furthest slot and are placed again when it is reached.
+ * Not thread-safe: callers schedule, cancel and advance under one lock.
+ */
+public final class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    @SuppressWarnings("unchecked")
+    private final Timeout<T>[] heads = new Timeout[LEVELS * SLOTS];
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param startTick the tick the wheel starts at; deadlines are absolute ticks
+     */
+    public TimingWheel(long startTick) {
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Schedules a value; a deadline that already passed expires on the next tick.
+     */
+    public Timeout<T> schedule(long deadlineTick, T value) {
+        var timeout = new Timeout<>(Math.max(deadlineTick, currentTick + 1), value);
+        insert(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * @return false when the timeout already expired or was cancelled
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.slot < 0) return false;
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Turns the wheel up to and including the given tick and hands every expired value to the consumer, in order of
+     * deadline.
+     */
+    public void advance(long tick, Consumer<T> expired) {
+        while (currentTick < tick) {
+            currentTick++;
+            int level = 0;
+            while (level < LEVELS - 1 && (currentTick & ((1L << (SLOT_BITS * (level + 1))) - 1)) == 0) level++;
+            for (; level > 0; level--) {
+                cascade(level * SLOTS + (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK));
+            }
+
+            int slot = (int) (currentTick & SLOT_MASK);
+            for (var timeout = heads[slot]; timeout != null; timeout = heads[slot]) {
+                unlink(timeout);
+                size--;
+                expired.accept(timeout.value);
+            }
+        }
+    }
+
+    public long currentTick() {
+        return currentTick;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void cascade(int slot) {
+        var timeout = heads[slot];
+        heads[slot] = null;
+        while (timeout != null) {
+            var next = timeout.next;
+            timeout.prev = null;
+            timeout.next = null;
+            insert(timeout);
+            timeout = next;
+        }
+    }
+
+    private void insert(Timeout<T> timeout) {
+        long delta = timeout.deadline - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) level++;
+        long target = Math.min(timeout.deadline, currentTick + (1L << (SLOT_BITS * LEVELS)) - 1);
+        int slot = level * SLOTS + (int) ((target >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        timeout.slot = slot;
+        timeout.next = heads[slot];
+        if (heads[slot] != null) heads[slot].prev = timeout;
+        heads[slot] = timeout;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.prev != null) timeout.prev.next = timeout.next;
+        else heads[timeout.slot] = timeout.next;
+        if (timeout.next != null) timeout.next.prev = timeout.prev;
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.slot = -1;
+    }
+
+    public static final class Timeout<T> {
+        private final long deadline;
+        private final T value;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+        private int slot = -1;
+
+        private Timeout(long deadline, T value) {
+            this.deadline = deadline;
+            this.value = value;
+        }
+
+        public long deadline() {
+            return deadline;
+        }
+
+        public T value() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package be.kdg.poker.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class TableBusyException extends RuntimeException {
+    public TableBusyException(String message) {
+        super(message);
+    }
+}
@@ -1,10 +1,17 @@
 package be.kdg.poker.repositories;
 
+import be.kdg.poker.controllers.dto.GameOnMoveDto;
+import be.kdg.poker.controllers.dto.LobbyGameDto;
 import be.kdg.poker.domain.Game;
+import be.kdg.poker.domain.enums.GameStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,12 +19,19 @@ import java.util.UUID;
 @Repository
 public interface GameRepository extends JpaRepository<Game, UUID> {
 
+    /**
+     * Every game with its latest round and the players of the game that are on move in that round, in one query.
+     * A game has a row without round when it has no rounds, and a row without player when nobody is on move.
+     */
     @Query("""
-    SELECT g
+    SELECT new be.kdg.poker.controllers.dto.GameOnMoveDto(g.id, g.status, r.id, p.id, p.money, p.username, p.position)
     FROM Game g
-    LEFT JOIN FETCH g.players
+    LEFT JOIN Round r ON r.game = g AND r.createdAt = (SELECT max(latest.createdAt) FROM Round latest WHERE latest.game = g)
+    LEFT JOIN Turn t ON t.round = r AND t.moveMade = be.kdg.poker.domain.enums.PlayerStatus.ON_MOVE
+    LEFT JOIN Player p ON p = t.player AND p.game = g
+    ORDER BY p.position
     """)
-    List<Game> findAllGamesWithPlayers();
+    List<GameOnMoveDto> findPlayersOnMove();
 
     @Query("SELECT g FROM Game g LEFT JOIN FETCH g.rounds WHERE g.id = :gameId")
     Optional<Game> findByIdWithRounds(UUID gameId);
@@ -41,12 +55,26 @@ public interface GameRepository extends JpaRepository<Game, UUID> {
     """)
     Optional<Game> findByIdWithSettings(UUID id);
 
+    /**
+     * Lobby rows of the games with the given status, or of all games when the status is null. Only the columns the
+     * lobby shows are selected, so no players, rounds or winner are loaded with the games.
+     */
+    @Query(value = """
+    SELECT new be.kdg.poker.controllers.dto.LobbyGameDto(g.id, g.status, g.maxPlayers, g.name, s)
+    FROM Game g
+    LEFT JOIN g.settings s
+    WHERE :status IS NULL OR g.status = :status
+    ORDER BY g.name, g.id
+    """, countQuery = "SELECT count(g) FROM Game g WHERE :status IS NULL OR g.status = :status")
+    Page<LobbyGameDto> findLobby(@Param("status") GameStatus status, Pageable pageable);
+
     @Query("""
-    SELECT g
+    SELECT new be.kdg.poker.controllers.dto.LobbyGameDto(g.id, g.status, g.maxPlayers, g.name, s)
     FROM Game g
-    LEFT JOIN FETCH g.settings
+    LEFT JOIN g.settings s
+    WHERE g.id IN :gameIds
     """)
-    List<Game> findAllWithSettings();
+    List<LobbyGameDto> findLobbyGames(Collection<UUID> gameIds);
 
     @Query("SELECT g FROM Game g LEFT JOIN FETCH g.messages WHERE g.id = :id")
     Optional<Game> findByIdWithMessages(UUID id);
@@ -1,10 +1,12 @@
 package be.kdg.poker.repositories;
 
+import be.kdg.poker.controllers.dto.LobbySeatDto;
 import be.kdg.poker.domain.Player;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,20 +14,16 @@ import java.util.UUID;
 @Repository
 public interface PlayerRepository extends JpaRepository<Player, UUID> {
 
-    @Query("SELECT p FROM Player p LEFT JOIN FETCH p.hand WHERE p.id = :playerId")
-    Optional<Player> findByIdWithHand(UUID playerId);
-
     @Query("SELECT p FROM Player p WHERE p.game.id = :gameId")
     List<Player> findAllByGameId(UUID gameId);
 
     @Query("""
-    SELECT p
+    SELECT new be.kdg.poker.controllers.dto.LobbySeatDto(p.game.id, p.id, p.money, p.username, p.position)
     FROM Player p
-    LEFT JOIN p.game g
-    LEFT JOIN FETCH p.hand
-    WHERE g.id = :gameId
+    WHERE p.game.id IN :gameIds
+    ORDER BY p.position
     """)
-    List<Player> findByGameIdWithHands(UUID gameId);
+    List<LobbySeatDto> findLobbySeats(Collection<UUID> gameIds);
 
     @Query("SELECT p FROM Player p LEFT JOIN FETCH p.account WHERE p.id = :playerId")
     Optional<Player> findByIdWithAccount(UUID playerId);
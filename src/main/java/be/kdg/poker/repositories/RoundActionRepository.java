@@ -0,0 +1,20 @@
+package be.kdg.poker.repositories;
+
+import be.kdg.poker.domain.RoundAction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RoundActionRepository extends JpaRepository<RoundAction, UUID> {
+    @Query("SELECT a FROM RoundAction a WHERE a.roundId = :roundId AND a.sequence > :sequence ORDER BY a.sequence")
+    List<RoundAction> findTail(UUID roundId, int sequence);
+
+    @Modifying
+    @Query("DELETE FROM RoundAction a WHERE a.roundId = :roundId")
+    void deleteByRoundId(UUID roundId);
+}
@@ -0,0 +1,20 @@
+package be.kdg.poker.repositories;
+
+import be.kdg.poker.domain.RoundSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface RoundSnapshotRepository extends JpaRepository<RoundSnapshot, UUID> {
+    @Query("SELECT s FROM RoundSnapshot s WHERE s.roundId = :roundId ORDER BY s.sequence DESC LIMIT 1")
+    Optional<RoundSnapshot> findLatest(UUID roundId);
+
+    @Modifying
+    @Query("DELETE FROM RoundSnapshot s WHERE s.roundId = :roundId")
+    void deleteByRoundId(UUID roundId);
+}
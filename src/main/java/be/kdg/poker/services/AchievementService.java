@@ -1,8 +1,8 @@
 package be.kdg.poker.services;
 
 import be.kdg.poker.controllers.dto.AchievementDto;
-import be.kdg.poker.controllers.dto.HandRankDto;
 import be.kdg.poker.domain.*;
+import be.kdg.poker.engine.HandEvaluator;
 import be.kdg.poker.repositories.AccountRepository;
 import be.kdg.poker.repositories.AchievementRepository;
 import be.kdg.poker.repositories.PlayerRepository;
@@ -72,12 +72,18 @@ public class AchievementService {
 
         List<Achievement> unlockedAchievements = new ArrayList<>();
 
+        List<Player> playersWithHand = new ArrayList<>(hands.keySet());
+        int[] handScores = handRankService.calculateHandStrengths(playersWithHand, hands);
+        for (int i = 0; i < handScores.length; i++) {
+            if (handScores[i] != HandRankService.NO_HAND) handScores[i] = HandEvaluator.score(handScores[i]);
+        }
+
         for (Player player : players) {
             Account account = player.getAccount();
             Set<Achievement> existingAchievements = account.getAchievements();
 
             for (Achievement achievement : achievementRepository.findAll()) {
-                if (isHandAchievementCriteriaMet(account, achievement, hands)) {
+                if (isHandAchievementCriteriaMet(account, achievement, playersWithHand, handScores)) {
                     checkAchievements(unlockedAchievements, account, existingAchievements, achievement);
                 }
             }
@@ -115,11 +121,11 @@ public class AchievementService {
         return account.getCountersAchievements().getOrDefault(counterName, 0);
     }
 
-    private boolean isHandAchievementCriteriaMet(Account account, Achievement achievement, Map<Player, List<Card>> playerHands) {
+    private boolean isHandAchievementCriteriaMet(Account account, Achievement achievement, List<Player> players, int[] handScores) {
         return switch (achievement.getName()) {
-            case "Royal Flush" -> hasRoyalFlush(account, playerHands);
-            case "Flush" -> hasFlush(account, playerHands);
-            case "Straight" -> hasStraight(account, playerHands);
+            case "Royal Flush" -> hasHandWithScore(account, players, handScores, HandEvaluator.ROYAL_FLUSH_SCORE, "royal flushes");
+            case "Flush" -> hasHandWithScore(account, players, handScores, HandEvaluator.FLUSH * 100, "flushes");
+            case "Straight" -> hasHandWithScore(account, players, handScores, HandEvaluator.STRAIGHT * 100, "straights");
             case "Royal Player" -> getCounterValue(account, "royal flushes") >= 10;
             case "Flush God" -> getCounterValue(account, "flushes") >= 50;
             case "Straight Shooter" -> getCounterValue(account, "straights") >= 100;
@@ -127,46 +133,17 @@ public class AchievementService {
         };
     }
 
-    private boolean hasRoyalFlush(Account account, Map<Player, List<Card>> playerHands) {
-        List<Player> players = new ArrayList<>(playerHands.keySet());
-        Map<Player, HandRankDto> playersWithRank = handRankService.calculateWinnersByHandRanks(players, playerHands);
-        boolean hasRoyalFlush = playersWithRank.entrySet().stream()
-                .filter(entry -> entry.getValue().score() == 900)
-                .anyMatch(entry -> entry.getKey().getAccount().equals(account));
-
-        if (hasRoyalFlush) {
-            account.getCountersAchievements().put("royal flushes", account.getCountersAchievements().getOrDefault("royal flushes", 0) + 1);
+    private boolean hasHandWithScore(Account account, List<Player> players, int[] handScores, int score, String counterName) {
+        boolean hasHand = false;
+        for (int i = 0; i < handScores.length && !hasHand; i++) {
+            hasHand = handScores[i] == score && players.get(i).getAccount().equals(account);
         }
 
-        return hasRoyalFlush;
-    }
-
-    private boolean hasFlush(Account account, Map<Player, List<Card>> playerHands) {
-        List<Player> players = new ArrayList<>(playerHands.keySet());
-        Map<Player, HandRankDto> playersWithRank = handRankService.calculateWinnersByHandRanks(players, playerHands);
-        boolean hasFlush = playersWithRank.entrySet().stream()
-                .filter(entry -> entry.getValue().score() == 500)
-                .anyMatch(entry -> entry.getKey().getAccount().equals(account));
-
-        if (hasFlush) {
-            account.getCountersAchievements().put("flushes", account.getCountersAchievements().getOrDefault("flushes", 0) + 1);
-        }
-
-        return hasFlush;
-    }
-
-    private boolean hasStraight(Account account, Map<Player, List<Card>> playerHands) {
-        List<Player> players = new ArrayList<>(playerHands.keySet());
-        Map<Player, HandRankDto> playersWithRank = handRankService.calculateWinnersByHandRanks(players, playerHands);
-        boolean hasStraight = playersWithRank.entrySet().stream()
-                .filter(entry -> entry.getValue().score() == 400)
-                .anyMatch(entry -> entry.getKey().getAccount().equals(account));
-
-        if (hasStraight) {
-            account.getCountersAchievements().put("straights", account.getCountersAchievements().getOrDefault("straights", 0) + 1);
+        if (hasHand) {
+            account.getCountersAchievements().put(counterName, account.getCountersAchievements().getOrDefault(counterName, 0) + 1);
         }
 
-        return hasStraight;
+        return hasHand;
     }
 
     public List<AchievementDto> getAchievementsByAccountId(UUID accountId) {
@@ -27,19 +27,26 @@ public class CardService {
     private final HandRankService handRankService;
     private final GameRepository gameRepository;
     private final RoundRepository roundRepository;
+    private final HandStrengthCache handStrengthCache;
 
-    public CardService(PlayerRepository playerRepository, HandRankService handRankService, GameRepository gameRepository, RoundRepository roundRepository) {
+    public CardService(PlayerRepository playerRepository, HandRankService handRankService, GameRepository gameRepository, RoundRepository roundRepository, HandStrengthCache handStrengthCache) {
         this.playerRepository = playerRepository;
         this.handRankService = handRankService;
         this.gameRepository = gameRepository;
         this.roundRepository = roundRepository;
+        this.handStrengthCache = handStrengthCache;
     }
 
     public PlayersHandDto getPlayersHand(UUID playerId) {
-        log.info("Fetching player with ID: {}", playerId);
+        var cachedHand = handStrengthCache.find(playerId);
+        if (cachedHand.isPresent()) {
+            log.info("Serving cached hand for player with ID: {}", playerId);
+            return cachedHand.get();
+        }
 
+        log.info("Fetching player with ID: {}", playerId);
 
-        Player player = playerRepository.findByIdWithHand(playerId)
+        Player player = playerRepository.findById(playerId)
                 .orElseThrow(() -> {
                     log.error("Player not found with ID: {}", playerId);
                     return new PlayersHandNotFoundException("Player not found with ID: " + playerId);
@@ -55,7 +62,7 @@ public class CardService {
 
         var score = 0;
         if (game.getStatus() == GameStatus.IN_PROGRESS) {
-            Round round = roundRepository.findLatestByGameIdWithCommunityCards(game.getId())
+            Round round = roundRepository.findLatestByGame(game.getId())
                     .orElseThrow(() -> {
                         log.error("Round not found for game with ID: {}", game.getId());
                         return new RoundNotFoundException("Round not found for game with ID: " + game.getId());
@@ -64,6 +71,10 @@ public class CardService {
             fullHand.addAll(player.getHand());
 
             score = handRankService.calculateHandScore(fullHand);
+
+            if (player.getHand().size() == 2) {
+                return handStrengthCache.put(player.getId(), game.getId(), round.getId(), player.getHand(), round.getCommunityCards(), score);
+            }
         }
 
         // Create PlayersHandDto
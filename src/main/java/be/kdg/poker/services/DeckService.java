@@ -0,0 +1,28 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.domain.Card;
+import be.kdg.poker.domain.Round;
+import be.kdg.poker.engine.CardCodec;
+import org.springframework.stereotype.Service;
+
+/**
+ * Deals the deck of a round. A round stores its deck as the 52 card codes in dealing order plus a cursor, so dealing a
+ * card only moves the cursor; the card itself is decoded from its code, with the fixed id of that card.
+ */
+@Service
+public class DeckService {
+
+    public int remaining(Round round) {
+        return round.getDeck() == null ? 0 : round.getDeck().length - round.getDeckCursor();
+    }
+
+    /**
+     * Takes the next card of the deck of a round.
+     */
+    public Card deal(Round round) {
+        if (remaining(round) <= 0) throw new IllegalStateException("Deck of round with id " + round.getId() + " is empty");
+        int cursor = round.getDeckCursor();
+        round.setDeckCursor(cursor + 1);
+        return CardCodec.decode(round.getDeck()[cursor]);
+    }
+}
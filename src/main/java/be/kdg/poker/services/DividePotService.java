@@ -6,6 +6,7 @@ import be.kdg.poker.domain.Game;
 import be.kdg.poker.domain.Player;
 import be.kdg.poker.domain.Turn;
 import be.kdg.poker.domain.enums.PlayerStatus;
+import be.kdg.poker.engine.SidePotEngine;
 import be.kdg.poker.exceptions.GameNotFoundException;
 import be.kdg.poker.exceptions.InvalidWinnerException;
 import be.kdg.poker.exceptions.RoundNotFoundException;
@@ -21,7 +22,6 @@ import org.springframework.stereotype.Service;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -46,7 +46,7 @@ public class DividePotService {
     public Optional<CalculateRoundWinnerDto> getCalculateRoundWinnerDto(UUID id) {
         log.info("successfully started constructing round-winner calculation dto");
         log.info("getting round with id {} and community cards", id);
-        var round = roundRepository.findByIdWithCommunityCards(id)
+        var round = roundRepository.findById(id)
                 .orElseThrow(() -> new RoundNotFoundException("round with id " + id + " does not exist"));
         log.info("getting game from round");
         var game = gameRepository.findByRoundId(id)
@@ -56,7 +56,7 @@ public class DividePotService {
         if (turnsWithPlayers.isEmpty()) throw new TurnNotFoundException("round with id " + id + " does not have any turns");
         round.setTurns(turnsWithPlayers);
         log.info("getting hands for players of game with id {}", game.getId());
-        var players = playerRepository.findByGameIdWithHands(game.getId());
+        var players = playerRepository.findAllByGameId(game.getId());
         game.setPlayers(players);
 
 
@@ -100,12 +100,10 @@ public class DividePotService {
     @Transactional
     public List<List<Player>> calculateWinners(CalculateRoundWinnerDto calcRoundWinnerDto) {
         log.info("successfully started analysis of round-winner based on previously constructed dto");
-        Map<Player, HandRankDto> playersWithHandRanks;
-        List<List<Player>> playersByWinIndex = new ArrayList<>();
         var players = calcRoundWinnerDto.players();
         var hands = calcRoundWinnerDto.hands();
         log.info("starting hand rank analysis");
-        playersWithHandRanks = handRankService.calculateWinnersByHandRanks(players, hands);
+        int[] strengths = handRankService.calculateHandStrengths(players, hands);
 
         Game game = gameRepository.findGameByPlayerId(players.get(0).getId())
                .orElseThrow(() -> new GameNotFoundException("Game not found"));
@@ -114,321 +112,72 @@ public class DividePotService {
 
        log.info("unlocked achievements: {}", unlockedAchievements);
 
-        var setup = calculateWinnerSetup(playersWithHandRanks);
-
-        if (setup.hasTies() && !setup.onlyRoyalFlushTies()) {
-            log.info("starting tiebreaker analysis");
-            var result = tieBreaker(setup.scoreGroups(), playersWithHandRanks, playersByWinIndex);
-            log.info("successfully concluded analysis of round-winner through tiebreaker analysis");
-            return result;
-        }
-
-        log.info("starting processing hand ranks without ties");
-        var result = processNonTie(playersWithHandRanks, playersByWinIndex);
-        log.info("successfully concluded analysis of round-winner without tiebreaker analysis");
-
+        var result = groupPlayersByStrength(players, strengths);
+        log.info("successfully concluded analysis of round-winner");
         return result;
     }
 
-    private CalculateWinnerSetupDto calculateWinnerSetup(Map<Player, HandRankDto> playersWithHandRanks) {
-        log.info("extracting groups of players with same score");
-        Map<Integer, List<Player>> scoreGroups = new HashMap<>();
-        playersWithHandRanks.forEach((player, handRank) ->
-                scoreGroups.computeIfAbsent(handRank.score(), k -> new ArrayList<>()).add(player)
-        );
-
-        log.info("determining if round has ties");
-        boolean hasTies = scoreGroups.values().stream().anyMatch(group -> group.size() > 1);
-        boolean onlyRoyalFlushTies = scoreGroups.entrySet().stream()
-                .filter(entry -> entry.getValue().size() > 1)
-                .allMatch(entry -> entry.getKey() == 900);
-        return new CalculateWinnerSetupDto(scoreGroups, hasTies, onlyRoyalFlushTies);
-    }
-
-    private List<List<Player>> processNonTie(Map<Player, HandRankDto> playersWithHandRanks, List<List<Player>> playersByWinIndex) {
-        log.info("successfully started processing hand ranks without ties");
-        log.info("sorting players with hand ranks based on score");
-        var sortedPlayersWithHandRanks = sortPlayersWithHandRanksByHandRankScore(playersWithHandRanks);
-        var playersByWinIndexSingle = new ArrayList<Player>();
-        for (Map.Entry<Player, HandRankDto> entry : sortedPlayersWithHandRanks) {
-            playersByWinIndexSingle.add(entry.getKey());
-        }
-
-        log.info("adding players to resulted list of winners by index after being sorted on score");
-        for (var player : playersByWinIndexSingle) {
-            var playersByWinIndexEntry = new ArrayList<Player>();
-            playersByWinIndexEntry.add(player);
-            playersByWinIndex.add(playersByWinIndexEntry);
+    private List<List<Player>> groupPlayersByStrength(List<Player> players, int[] strengths) {
+        log.info("sorting players by hand strength");
+        // strength in the high bits and the inverted player index in the low bits, so one primitive sort orders
+        // the players by strength while equal strengths keep the seating order
+        var keys = new long[players.size()];
+        int size = 0;
+        for (int i = 0; i < strengths.length; i++) {
+            if (strengths[i] != HandRankService.NO_HAND) keys[size++] = ((long) strengths[i] << 32) | (Integer.MAX_VALUE - i);
         }
-        log.info("successfully processed hand ranks without ties");
-        return playersByWinIndex;
-    }
-
-    private List<Map.Entry<Player, HandRankDto>> sortPlayersWithHandRanksByHandRankScore(Map<Player, HandRankDto> playersWithHandRanks) {
-        List<Map.Entry<Player, HandRankDto>> entryList = new ArrayList<>(playersWithHandRanks.entrySet());
+        Arrays.sort(keys, 0, size);
 
-        entryList.sort(Comparator.comparing((Map.Entry<Player, HandRankDto> entry) -> entry.getValue().score()).reversed());
-
-        return entryList;
-    }
-
-    private List<List<Player>> tieBreaker(Map<Integer, List<Player>> scoreGroups, Map<Player, HandRankDto> playersWithHandRanks, List<List<Player>> playersByWinIndex) {
-        log.info("successfully started tiebreaker analysis");
-        log.info("sorting score groups");
-        List<Map.Entry<Integer, List<Player>>> sortedScoreGroups = scoreGroups.entrySet().stream()
-                .sorted((e1, e2) -> Integer.compare(e2.getKey(), e1.getKey()))
-                .toList();
-
-        log.info("starting score group analysis");
-        for (var scoreGroup : sortedScoreGroups) {
-            log.info("analysis of group with score {}", scoreGroup.getKey());
-            var playersInGroup = scoreGroup.getValue();
-
-            if (playersInGroup.size() > 1) {
-                var tiedPlayersWithHandRanks = playersInGroup.stream()
-                        .collect(Collectors.toMap(player -> player, playersWithHandRanks::get));
-
-                log.info("starting analysis of hand rank variation");
-                var resolvedTiedPlayers = calculateWinnersByHandRankVariation(tiedPlayersWithHandRanks);
-
-                playersByWinIndex.addAll(resolvedTiedPlayers);
-            } else {
-                playersByWinIndex.add(playersInGroup);
-            }
-        }
-        log.info("successfully concluded tiebreaker analysis");
-        return playersByWinIndex;
-    }
-
-    private List<List<Player>> calculateWinnersByHandRankVariation(Map<Player, HandRankDto> playersWithHandRank) {
-        log.info("successfully started analysis of hand rank variation of score {}", playersWithHandRank.values().stream().findFirst().get().score());
-        var players = new ArrayList<>(playersWithHandRank.keySet().stream().toList());
-        var handRanks = playersWithHandRank.values().stream().toList();
+        log.info("grouping players with equal hand strength");
         var playersByWinIndex = new ArrayList<List<Player>>();
-
-        log.info("determining biggest hand");
-        int maxCombinationHandSize = handRanks.stream()
-                .mapToInt(handRank -> handRank.cardsWithCombination().size())
-                .max()
-                .orElse(0);
-
-        log.info("sorting players by highest card");
-        players.sort((p1, p2) -> comparePlayers(p1, p2, playersWithHandRank, maxCombinationHandSize));
-
-        log.info("assembling remaining ties and splitting players after tiebreaker of group");
-        List<Player> currentGroup = new ArrayList<>();
-        Player previousPlayer = null;
-
-        for (Player player : players) {
-            if (previousPlayer == null || comparePlayers(previousPlayer, player, playersWithHandRank, maxCombinationHandSize) == 0) {
-                currentGroup.add(player);
-            } else {
-                playersByWinIndex.add(new ArrayList<>(currentGroup));
-                currentGroup.clear();
-                currentGroup.add(player);
+        List<Player> currentGroup = null;
+        long currentStrength = -1;
+        for (int i = size - 1; i >= 0; i--) {
+            long strength = keys[i] >>> 32;
+            if (currentGroup == null || strength != currentStrength) {
+                currentGroup = new ArrayList<>();
+                playersByWinIndex.add(currentGroup);
+                currentStrength = strength;
             }
-            previousPlayer = player;
+            currentGroup.add(players.get(Integer.MAX_VALUE - (int) keys[i]));
         }
-
-        if (!currentGroup.isEmpty()) {
-            playersByWinIndex.add(currentGroup);
-        }
-
-        log.info("successfully concluded analysis of hand rank variation of score {}", playersWithHandRank.values().stream().findFirst().get().score());
         return playersByWinIndex;
     }
 
-    private int comparePlayers(Player p1, Player p2, Map<Player, HandRankDto> playersWithHandRank, int maxCombinationHandSize) {
-        log.info("comparing player with id {} against player with id {} for highest card", p1.getId(), p2.getId());
-        int result;
-
-        result = compareForBetterCard(p1, p2, playersWithHandRank, maxCombinationHandSize);
-        if (result != 0) return result;
-
-        result = compareEqualCards(p1, p2, playersWithHandRank);
-        return result;
-    }
-
-    private int compareEqualCards(Player p1, Player p2, Map<Player, HandRankDto> playersWithHandRank) {
-        log.info("comparing cards outside of combination");
-        CompareEqualCardsDto setup = setupCompareEqualCards(p1, p2, playersWithHandRank);
-
-        for (int cardIndex = 0; cardIndex < setup.maxNonCombinationCards(); cardIndex++) {
-            int p1CardRank = cardIndex < setup.p1NonCombinationRanks().size() ? setup.p1NonCombinationRanks().get(cardIndex) : Integer.MIN_VALUE;
-            int p2CardRank = cardIndex < setup.p2NonCombinationRanks().size() ? setup.p2NonCombinationRanks().get(cardIndex) : Integer.MIN_VALUE;
-
-            if (p1CardRank > p2CardRank) {
-                return -1;
-            } else if (p1CardRank < p2CardRank) {
-                return 1;
-            }
-        }
-        return 0;
-    }
-
-    private CompareEqualCardsDto setupCompareEqualCards(Player p1, Player p2, Map<Player, HandRankDto> playersWithHandRank) {
-        var p1NonCombinationHand = playersWithHandRank.get(p1).cardsWithCombination();
-        var p2NonCombinationHand = playersWithHandRank.get(p2).cardsWithoutCombination();
-
-        int maxNonCombinationCards = 5 - playersWithHandRank.get(p1).cardsWithCombination().size();
-
-        // Sort and pick the top `maxNonCombinationCards`
-        List<Integer> p1NonCombinationRanks = p1NonCombinationHand.stream()
-                .map(Card::getRank)
-                .sorted(Comparator.reverseOrder())
-                .limit(maxNonCombinationCards)
-                .toList();
-        List<Integer> p2NonCombinationRanks = p2NonCombinationHand.stream()
-                .map(Card::getRank)
-                .sorted(Comparator.reverseOrder())
-                .limit(maxNonCombinationCards)
-                .toList();
-        return new CompareEqualCardsDto(maxNonCombinationCards, p1NonCombinationRanks, p2NonCombinationRanks);
-    }
-
-    private int compareForBetterCard(Player p1, Player p2, Map<Player, HandRankDto> playersWithHandRank, int maxCombinationHandSize) {
-        log.info("comparing cards in combination");
-        for (int cardIndex = 0; cardIndex < maxCombinationHandSize; cardIndex++) {
-            var p1HandRank = playersWithHandRank.get(p1).cardsWithCombination();
-            var p2HandRank = playersWithHandRank.get(p2).cardsWithCombination();
-
-            int p1CardRank = cardIndex < p1HandRank.size() ? p1HandRank.get(cardIndex).getRank() : Integer.MIN_VALUE;
-            int p2CardRank = cardIndex < p2HandRank.size() ? p2HandRank.get(cardIndex).getRank() : Integer.MIN_VALUE;
-
-            if (p1CardRank > p2CardRank) {
-                return -1;
-            } else if (p1CardRank < p2CardRank) {
-                return 1;
-            }
-        }
-        return 0;
-    }
-
     @Transactional
     public Map<Player, Integer> dividePot(List<List<Player>> playersByWinIndex, CalculateRoundWinnerDto calcRoundWinnerDto) throws InvalidWinnerException {
         log.info("successfully started dividing pot over winners");
-        var firstPlacePlayers = playersByWinIndex.get(0);
-        var allInDtoList = calcRoundWinnerDto.stakes().keySet().stream().toList();
-        AtomicBoolean roundContainsAllIn = new AtomicBoolean(false);
+        if (playersByWinIndex.isEmpty() || playersByWinIndex.get(0).isEmpty()) throw new InvalidWinnerException("The winner group is empty");
 
-        firstPlacePlayers.forEach(p -> {
-            var allInDto = allInDtoList.stream().filter(dto -> dto.player().equals(p)).findFirst().orElse(null);
-            if (allInDto != null && allInDto.allIn()) roundContainsAllIn.set(true);
-        });
-        if (roundContainsAllIn.get()) {
-            log.info("starting dividing pot over winning tree");
-            var result = dividePotOverAllWinners(playersByWinIndex, firstPlacePlayers, calcRoundWinnerDto.stakes());
-            log.info("successfully divided pot over winning tree");
-            return result;
+        var ranks = new HashMap<Player, Integer>();
+        for (int i = 0; i < playersByWinIndex.size(); i++) {
+            for (var player : playersByWinIndex.get(i)) ranks.put(player, i);
         }
-        log.info("starting dividing pot over first place players");
-        return dividePotOverOnlyFirstPlace(firstPlacePlayers, calcRoundWinnerDto.stakes());
-    }
-
-    @Transactional
-    public Map<Player, Integer> dividePotOverAllWinners(List<List<Player>> playersByWinIndex, List<Player> firstPlacePlayers, Map<AllInDto, Integer> stakes) throws InvalidWinnerException {
-        if (firstPlacePlayers.isEmpty()) throw new InvalidWinnerException("The winner group is empty");
-
-        var totalPot = stakes.values().stream().mapToInt(Integer::intValue).sum();
-        var stakeValues = stakes.values().stream().toList();
-        var numWinners = firstPlacePlayers.size();
-        var potPerWinner = totalPot / numWinners;
-        var allInDtoList = stakes.keySet().stream().toList();
-        var smallestPotToClaim = Integer.MAX_VALUE;
 
-        smallestPotToClaim = calculateSmallestPotToClaimByFirstPlacePlayers(firstPlacePlayers, stakes, stakeValues, allInDtoList, smallestPotToClaim);
-
-        if (smallestPotToClaim >= potPerWinner) return divideEquallyOverFirstPlacePlayers(firstPlacePlayers, potPerWinner);
-
-        return dividePotTakingInAccountAllInStakes(playersByWinIndex, stakes, totalPot, stakeValues, allInDtoList);
-    }
-
-    private int calculateSmallestPotToClaimByFirstPlacePlayers(List<Player> firstPlacePlayers, Map<AllInDto, Integer> stakes, List<Integer> stakeValues, List<AllInDto> allInDtoList, int smallestPotToClaim) {
-        for (var winner : firstPlacePlayers) {
-            var maxPotToClaim = 0;
-            var allInDto = allInDtoList.stream().filter(dto -> dto.player().equals(winner)).findFirst().orElse(null);
-            if (allInDto != null) {
-                var currentStake = stakes.get(allInDto);
-                for (var stake : stakeValues) {
-                    if (stake <= currentStake) maxPotToClaim += stake;
-                    else maxPotToClaim += currentStake;
-                }
-                if (maxPotToClaim < smallestPotToClaim) smallestPotToClaim = maxPotToClaim;
-            }
+        log.info("building main and side pots");
+        var stakes = new ArrayList<>(calcRoundWinnerDto.stakes().entrySet());
+        stakes.sort(Comparator.comparingInt(stake -> stake.getKey().player().getPosition()));
+        var contributions = new int[stakes.size()];
+        var showdownRanks = new int[stakes.size()];
+        for (int i = 0; i < contributions.length; i++) {
+            contributions[i] = stakes.get(i).getValue();
+            showdownRanks[i] = ranks.getOrDefault(stakes.get(i).getKey().player(), SidePotEngine.NOT_ELIGIBLE);
         }
-        return smallestPotToClaim;
-    }
+        var payouts = SidePotEngine.divide(contributions, showdownRanks);
 
-    @Transactional
-    public Map<Player, Integer> dividePotTakingInAccountAllInStakes(List<List<Player>> playersByWinIndex, Map<AllInDto, Integer> stakes, int totalPot, List<Integer> stakeValues, List<AllInDto> allInDtoList) {
         var result = new HashMap<Player, Integer>();
-        var remainingPot = totalPot;
-
-        for (var group : playersByWinIndex) {
-            if (remainingPot > 0) {
-                remainingPot = dividePotShareOverGroup(stakes, stakeValues, allInDtoList, result, remainingPot, group);
-            }
+        var playersToUpdate = new ArrayList<Player>();
+        for (int i = 0; i < payouts.length; i++) {
+            if (payouts[i] == 0) continue;
+            var player = stakes.get(i).getKey().player();
+            log.info("updating money of player with id {}. Adding ${}", player.getId(), payouts[i]);
+            player.setMoney(player.getMoney() + payouts[i]);
+            result.put(player, payouts[i]);
+            playersToUpdate.add(player);
         }
+        playerRepository.saveAll(playersToUpdate);
 
+        log.info("successfully divided pot over {} players", result.size());
         return result;
     }
-
-    @Transactional
-    public int dividePotShareOverGroup(Map<AllInDto, Integer> stakes, List<Integer> stakeValues, List<AllInDto> allInDtoList, Map<Player, Integer> result, int remainingPot, List<Player> group) {
-        if (!group.isEmpty()) {
-            var potPerPlayer = remainingPot / group.size();
-            for (var player : group) {
-                var allInDto = allInDtoList.stream().filter(dto -> dto.player().equals(player)).findFirst().orElse(null);
-                if (allInDto != null) {
-                    var currentStake = stakes.get(allInDto);
-                    var maxPotToClaim = stakeValues.stream()
-                            .mapToInt(stake -> Math.min(stake, currentStake))
-                            .sum();
-
-                    var amountToGive = Math.min(maxPotToClaim, potPerPlayer);
-                    player.setMoney(player.getMoney() + amountToGive);
-                    result.put(player, amountToGive);
-                    remainingPot -= amountToGive;
-
-                    playerRepository.save(player);
-                }
-            }
-        }
-        return remainingPot;
-    }
-
-
-    @Transactional
-    public Map<Player, Integer> dividePotOverOnlyFirstPlace(List<Player> firstPlacePlayers, Map<AllInDto, Integer> stakes) throws InvalidWinnerException {
-        log.info("successfully started dividing pot over first place players");
-        var totalPot = stakes.values().stream().mapToInt(Integer::intValue).sum();
-
-        if (firstPlacePlayers.isEmpty()) throw new InvalidWinnerException("The winner group is empty");
-        int numWinners = firstPlacePlayers.size();
-        int potPerPlayer = totalPot / numWinners;
-
-        var result = divideEquallyOverFirstPlacePlayers(firstPlacePlayers, potPerPlayer);
-        log.info("successfully divided pot over first place players");
-        return result;
-    }
-
-    @Transactional
-    public Map<Player, Integer> divideEquallyOverFirstPlacePlayers(List<Player> firstPlacePlayers, int potPerPlayer) {
-        for (Player player : firstPlacePlayers) {
-            log.info("updating money of player with id {}. Adding ${}", player.getId(), potPerPlayer);
-            log.info("money before: {}", player.getMoney());
-            player.setMoney(player.getMoney() + potPerPlayer);
-            player = playerRepository.save(player);
-            log.info("money after {}", player.getMoney());
-            firstPlacePlayers.set(firstPlacePlayers.indexOf(player), player);
-        }
-
-        var results = new HashMap<Player, Integer>();
-
-        for (Player player : firstPlacePlayers) {
-            results.put(player, potPerPlayer);
-        }
-
-        return results;
-    }
 }
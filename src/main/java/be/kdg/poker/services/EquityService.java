@@ -0,0 +1,72 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.controllers.dto.EquityDto;
+import be.kdg.poker.domain.Card;
+import be.kdg.poker.domain.Game;
+import be.kdg.poker.domain.Player;
+import be.kdg.poker.domain.enums.GameStatus;
+import be.kdg.poker.engine.CardCodec;
+import be.kdg.poker.engine.EquityCalculator;
+import be.kdg.poker.exceptions.GameNotFoundException;
+import be.kdg.poker.exceptions.PlayersHandNotFoundException;
+import be.kdg.poker.exceptions.RoundNotFoundException;
+import be.kdg.poker.repositories.GameRepository;
+import be.kdg.poker.repositories.PlayerRepository;
+import be.kdg.poker.repositories.RoundRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+@Slf4j
+public class EquityService {
+    private static final int MAX_TRIALS = 200_000;
+    private static final double MAX_MARGIN_OF_ERROR = 0.5;
+
+    private final PlayerRepository playerRepository;
+    private final GameRepository gameRepository;
+    private final RoundRepository roundRepository;
+    private final EquityCalculator equityCalculator;
+
+    public EquityService(PlayerRepository playerRepository, GameRepository gameRepository, RoundRepository roundRepository) {
+        this.playerRepository = playerRepository;
+        this.gameRepository = gameRepository;
+        this.roundRepository = roundRepository;
+        this.equityCalculator = new EquityCalculator(ForkJoinPool.commonPool());
+    }
+
+    public EquityDto calculateEquity(UUID playerId, int opponents, double marginOfError, Long seed) {
+        if (marginOfError <= 0 || marginOfError > MAX_MARGIN_OF_ERROR) {
+            throw new IllegalArgumentException("margin of error must be between 0 and " + MAX_MARGIN_OF_ERROR);
+        }
+
+        Player player = playerRepository.findById(playerId)
+                .orElseThrow(() -> new PlayersHandNotFoundException("Player not found with ID: " + playerId));
+        if (player.getHand().size() != 2) {
+            throw new PlayersHandNotFoundException("Player with ID: " + playerId + " has not been dealt two cards");
+        }
+
+        Game game = gameRepository.findGameByPlayerId(playerId)
+                .orElseThrow(() -> new GameNotFoundException("Game not found for player with ID: " + playerId));
+
+        List<Card> communityCards = List.of();
+        if (game.getStatus() == GameStatus.IN_PROGRESS) {
+            communityCards = roundRepository.findLatestByGame(game.getId())
+                    .orElseThrow(() -> new RoundNotFoundException("Round not found for game with ID: " + game.getId()))
+                    .getCommunityCards();
+        }
+
+        long usedSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+        log.info("calculating equity of player with id {} against {} opponents with seed {}", playerId, opponents, usedSeed);
+        var result = equityCalculator.calculate(CardCodec.toMask(player.getHand()), CardCodec.toMask(communityCards),
+                opponents, marginOfError, MAX_TRIALS, usedSeed);
+        log.info("equity of player with id {} is {} after {} trials", playerId, result.equity(), result.trials());
+
+        return new EquityDto(playerId, opponents, result.trials(), result.winRate(), result.tieRate(), result.lossRate(),
+                result.equity(), result.marginOfError(), usedSeed);
+    }
+}
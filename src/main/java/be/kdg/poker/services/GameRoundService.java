@@ -25,7 +25,8 @@ public class GameRoundService {
 
     private final GameRepository gameRepository;
     private final RoundRepository roundRepository;
-    private final CardRepository cardRepository;
+    private final DeckService deckService;
+    private final ShuffleService shuffleService;
     private final TurnService turnService;
     private final PlayerRepository playerRepository;
     private final AccountService accountService;
@@ -34,11 +35,13 @@ public class GameRoundService {
     private final TurnRepository turnRepository;
     private final EventService eventService;
     private final GameMessageRepository gameMessageRepository;
+    private final LobbyIndex lobbyIndex;
 
-    public GameRoundService(GameRepository gameRepository, RoundRepository roundRepository, CardRepository cardRepository, TurnService turnService, PlayerRepository playerRepository, AccountService accountService, AccountRepository accountRepository, ConfigurationRepository configurationRepository, TurnRepository turnRepository, EventService eventService, GameMessageRepository gameMessageRepository) {
+    public GameRoundService(GameRepository gameRepository, RoundRepository roundRepository, DeckService deckService, ShuffleService shuffleService, TurnService turnService, PlayerRepository playerRepository, AccountService accountService, AccountRepository accountRepository, ConfigurationRepository configurationRepository, TurnRepository turnRepository, EventService eventService, GameMessageRepository gameMessageRepository, LobbyIndex lobbyIndex) {
         this.gameRepository = gameRepository;
         this.roundRepository = roundRepository;
-        this.cardRepository = cardRepository;
+        this.deckService = deckService;
+        this.shuffleService = shuffleService;
         this.turnService = turnService;
         this.playerRepository = playerRepository;
         this.accountService = accountService;
@@ -47,30 +50,20 @@ public class GameRoundService {
         this.turnRepository = turnRepository;
         this.eventService = eventService;
         this.gameMessageRepository = gameMessageRepository;
-    }
-
-    public List<Card> initiateDeck() {
-        log.info("Initiating deck");
-        List<Card> allCards = cardRepository.findAll();
-        Collections.shuffle(allCards);
-        log.info("Deck initiated");
-        return allCards;
+        this.lobbyIndex = lobbyIndex;
     }
 
     @Transactional
     public Round create(Game game) {
         log.info("Creating new round");
-        List<Card> deck = initiateDeck();
-
-        Round round = new Round(Phase.PRE_FLOP, deck, game);
+        Round round = shuffleService.shuffle(new Round(Phase.PRE_FLOP, game));
         log.info("New round created");
         return roundRepository.save(round);
     }
 
     @Transactional
     public Round createInitialRound(Game game) {
-        List<Card> deck = initiateDeck();
-        Round initialRound = new Round(Phase.PRE_FLOP, deck, game);
+        Round initialRound = shuffleService.shuffle(new Round(Phase.PRE_FLOP, game));
 
         roundRepository.save(initialRound);
         turnService.createAndSaveInitialTurns(initialRound, game);
@@ -128,6 +121,7 @@ public class GameRoundService {
         createAndSaveLoggedInPlayer(game);
 
         game = gameRepository.save(game);
+        lobbyIndex.invalidate(game.getId());
 
         log.info("New game created with ID: {}", game.getId());
         return mapToDto(game);
@@ -177,6 +171,7 @@ public class GameRoundService {
         }
 
         gameRepository.save(game);
+        lobbyIndex.invalidate(gameId);
     }
 
     public void assignPlayerHand(UUID gameId, Round round) {
@@ -192,6 +187,7 @@ public class GameRoundService {
         for (Player player : playersNotBroke) {
             giveAllPlayersTwoCardsFromTheDeck(round, player);
         }
+        roundRepository.save(round);
 
         log.info("Players hands all got assigned");
     }
@@ -201,10 +197,8 @@ public class GameRoundService {
         log.info("Giving player with id {} two cards from the deck", player.getId());
         List<Card> playerCards = new ArrayList<>();
         for (int i = 0; i < 2; i++) {
-            if (!round.getDeck().isEmpty()) {
-                Card card = round.getDeck().get(0);
-                round.getDeck().remove(card);
-                playerCards.add(card);
+            if (deckService.remaining(round) > 0) {
+                playerCards.add(deckService.deal(round));
             }
             log.info("Player with id {} got two cards from the deck", player.getId());
         }
@@ -232,6 +226,7 @@ public class GameRoundService {
 
         game.getPlayers().add(player);
         gameRepository.save(game);
+        lobbyIndex.invalidate(gameId);
     }
 
     public boolean isLoggedInUserOnMove(UUID gameId) {
@@ -280,6 +275,8 @@ public class GameRoundService {
             }
         }
         gameRepository.save(game);
+        // the stacks in the lobby change at the end of every round
+        lobbyIndex.invalidate(game.getId());
     }
 
     @Transactional
@@ -288,26 +285,28 @@ public class GameRoundService {
                 .orElseThrow(() -> new IllegalArgumentException("Player not found"));
 
         var position = player.getPosition();
+        var movedPlayers = new ArrayList<Player>();
         for (var gamePlayer: game.getPlayers()) {
             if (gamePlayer.getPosition() > position){
                 gamePlayer.setPosition(gamePlayer.getPosition() - 1);
-                playerRepository.save(gamePlayer);
+                movedPlayers.add(gamePlayer);
             }
         }
+        playerRepository.saveAll(movedPlayers);
 
         List<GameMessage> gameMessages = gameMessageRepository.findAllByPlayerId(player.getId());
         for (GameMessage gameMessage : gameMessages) {
             gameMessage.setSender(null);
-            gameMessageRepository.save(gameMessage);
         }
+        gameMessageRepository.saveAll(gameMessages);
 
         player.setTurns(null);
 
         List<Turn> turns = turnRepository.findAllByPlayerId(player.getId());
         for (Turn turn : turns) {
             turn.setPlayer(null);
-            turnRepository.save(turn);
         }
+        turnRepository.saveAll(turns);
 
         Account account = player.getAccount();
         if (account != null) {
@@ -318,6 +317,7 @@ public class GameRoundService {
         player.setAccount(null);
         player.setGame(null);
         playerRepository.save(player);
+        lobbyIndex.invalidate(game.getId());
 
         GameResultEvent gameResultEvent = new GameResultEvent(
                 account != null ? account.getId().toString() : null,  // User ID
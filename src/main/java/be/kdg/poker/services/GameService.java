@@ -2,6 +2,7 @@ package be.kdg.poker.services;
 
 import be.kdg.poker.controllers.dto.GameDto;
 import be.kdg.poker.controllers.dto.GameMessageDto;
+import be.kdg.poker.controllers.dto.LobbyPageDto;
 import be.kdg.poker.controllers.dto.PlayerDto;
 import be.kdg.poker.domain.*;
 import be.kdg.poker.domain.enums.GameStatus;
@@ -18,10 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
 
 @Service
 @Slf4j
@@ -35,8 +33,12 @@ public class GameService {
     private final TurnRepository turnRepository;
     private final EventService eventService;
     private final AchievementService achievementService;
+    private final HandStrengthCache handStrengthCache;
+    private final TableStateRegistry tableStateRegistry;
+    private final TableUpdates tableUpdates;
+    private final LobbyIndex lobbyIndex;
 
-    public GameService(GameRepository gameRepository, PlayerRepository playerRepository, GameMessageRepository gameMessageRepository, AccountService accountService, AccountRepository accountRepository, TurnRepository turnRepository, EventService eventService, AchievementService achievementService) {
+    public GameService(GameRepository gameRepository, PlayerRepository playerRepository, GameMessageRepository gameMessageRepository, AccountService accountService, AccountRepository accountRepository, TurnRepository turnRepository, EventService eventService, AchievementService achievementService, HandStrengthCache handStrengthCache, TableStateRegistry tableStateRegistry, TableUpdates tableUpdates, LobbyIndex lobbyIndex) {
         this.gameRepository = gameRepository;
         this.turnRepository = turnRepository;
         this.playerRepository = playerRepository;
@@ -45,6 +47,10 @@ public class GameService {
         this.accountRepository = accountRepository;
         this.eventService = eventService;
         this.achievementService = achievementService;
+        this.handStrengthCache = handStrengthCache;
+        this.tableStateRegistry = tableStateRegistry;
+        this.tableUpdates = tableUpdates;
+        this.lobbyIndex = lobbyIndex;
     }
 
     public GameDto getGame(UUID gameId) {
@@ -63,36 +69,42 @@ public class GameService {
         return mapToDto(game);
     }
 
-    public List<GameDto> getGames() {
+    /**
+     * @return the lobby from the {@link LobbyIndex}, with the ETag of its current version
+     */
+    public LobbyIndex.Snapshot getGames() {
         log.info("Fetching all games");
 
-        List<Game> games = gameRepository.findAllWithSettings();
+        var lobby = lobbyIndex.snapshot();
 
-        if (games.isEmpty()) {
+        if (lobby.games().isEmpty()) {
             log.error("No games found");
             throw new GameNotFoundException("No games found");
         }
 
-        log.info("All games found");
-
-        List<GameDto> gameDtoList = new ArrayList<>();
-        for (Game game : games) {
-            log.info("Fetching players for game: {}", game.getId());
-            var players = playerRepository.findAllByGameId(game.getId());
-            if (players.isEmpty()) {
-                log.error("Game with ID: {} has no players", game.getId());
-                throw new PlayerNotFoundException("Game with ID: " + game.getId() + " has no players");
-            }
-            game.setPlayers(players);
-
-            for (Player player : game.getPlayers()) {
-                player.setTurns(turnRepository.findAllByPlayerId(player.getId()));
+        for (GameDto game : lobby.games()) {
+            if (game.players().isEmpty()) {
+                log.error("Game with ID: {} has no players", game.id());
+                throw new PlayerNotFoundException("Game with ID: " + game.id() + " has no players");
             }
-
-            log.info("Mapping game to dto: {}", game);
-            gameDtoList.add(mapToDto(game));
         }
-        return gameDtoList;
+        log.info("All games found");
+        return lobby;
+    }
+
+    /**
+     * One page of the lobby, read from the {@link LobbyIndex}.
+     *
+     * @param status only games with this status, or all games when null
+     */
+    public LobbyPageDto getLobby(GameStatus status, int page, int size) {
+        log.info("Fetching page {} of the lobby with status {}", page, status);
+        var games = lobbyIndex.snapshot().games().stream()
+                .filter(game -> status == null || game.status() == status)
+                .toList();
+        int from = (int) Math.min((long) page * size, games.size());
+        int to = Math.min(from + size, games.size());
+        return new LobbyPageDto(games.subList(from, to), page, size, games.size());
     }
 
     private GameDto mapToDto(Game game) {
@@ -120,6 +132,14 @@ public class GameService {
         return gameRepository.findByIdWithPlayers(gameId);
     }
 
+    public Optional<Game> getByRoundId(UUID roundId) {
+        return gameRepository.findByRoundId(roundId);
+    }
+
+    public Optional<Game> getByPlayerId(UUID playerId) {
+        return playerRepository.findByIdWithGame(playerId).map(Player::getGame);
+    }
+
     @Transactional
     public void endGame(UUID winnerId) {
         log.info("Ending game with winner ID: {}", winnerId);
@@ -144,6 +164,10 @@ public class GameService {
             game.setWinner(playerRepository.findById(winnerId)
                     .orElseThrow(() -> new PlayerNotFoundException("Player not found with ID: " + winnerId)));
             gameRepository.save(game);
+            handStrengthCache.evictGame(game.getId());
+            tableStateRegistry.evict(game.getId());
+            tableUpdates.forget(game.getId());
+            lobbyIndex.invalidate(game.getId());
 
             List<Achievement> unlockedAchievements = achievementService.checkForAchievementsAtEndOfGame(game);
 
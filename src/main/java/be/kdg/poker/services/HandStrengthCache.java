@@ -0,0 +1,100 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.controllers.dto.PlayersHandDto;
+import be.kdg.poker.domain.Card;
+import be.kdg.poker.engine.CardCodec;
+import be.kdg.poker.engine.HandEvaluator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the evaluated hand of every player per round in memory. A player's entry is created the first time the
+ * hand is requested and re-evaluated once per street when community cards are added, so polling clients are
+ * served without touching the database.
+ */
+@Service
+@Slf4j
+public class HandStrengthCache {
+    private final Map<UUID, RoundHands> rounds = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> roundByPlayer = new ConcurrentHashMap<>();
+
+    public Optional<PlayersHandDto> find(UUID playerId) {
+        UUID roundId = roundByPlayer.get(playerId);
+        if (roundId == null) return Optional.empty();
+        RoundHands roundHands = rounds.get(roundId);
+        if (roundHands == null) return Optional.empty();
+        return Optional.ofNullable(roundHands.hands.get(playerId)).map(hand -> hand.toDto(playerId));
+    }
+
+    public PlayersHandDto put(UUID playerId, UUID gameId, UUID roundId, List<Card> hand, List<Card> communityCards, int score) {
+        long holeCards = CardCodec.toMask(hand);
+        long board = CardCodec.toMask(communityCards);
+        RoundHands roundHands = rounds.compute(roundId, (id, existing) -> {
+            var updated = existing != null ? existing : new RoundHands(gameId);
+            // a street dealt while this hand was loaded from the database must not be overwritten by the older board
+            if (Long.bitCount(board) >= Long.bitCount(updated.board)) {
+                updated.board = board;
+                updated.hands.put(playerId, new HandState(gameId, List.copyOf(hand), holeCards, score));
+            } else {
+                updated.hands.put(playerId, HandState.of(gameId, hand, holeCards, updated.board));
+            }
+            return updated;
+        });
+        roundByPlayer.put(playerId, roundId);
+        return roundHands.hands.get(playerId).toDto(playerId);
+    }
+
+    public void updateBoard(UUID roundId, List<Card> communityCards) {
+        rounds.computeIfPresent(roundId, (id, roundHands) -> {
+            long board = CardCodec.toMask(communityCards);
+            roundHands.board = board;
+            roundHands.hands.replaceAll((playerId, hand) -> hand.withBoard(board));
+            return roundHands;
+        });
+        log.info("Updated cached hand strengths for round with id {}", roundId);
+    }
+
+    public void evictRound(UUID roundId) {
+        RoundHands roundHands = rounds.remove(roundId);
+        if (roundHands != null) roundHands.hands.keySet().forEach(playerId -> roundByPlayer.remove(playerId, roundId));
+    }
+
+    public void evictGame(UUID gameId) {
+        rounds.entrySet().removeIf(entry -> {
+            if (!entry.getValue().gameId.equals(gameId)) return false;
+            entry.getValue().hands.keySet().forEach(playerId -> roundByPlayer.remove(playerId, entry.getKey()));
+            return true;
+        });
+    }
+
+    private static final class RoundHands {
+        private final UUID gameId;
+        private final Map<UUID, HandState> hands = new ConcurrentHashMap<>();
+        private volatile long board;
+
+        private RoundHands(UUID gameId) {
+            this.gameId = gameId;
+        }
+    }
+
+    private record HandState(UUID gameId, List<Card> hand, long holeCards, int score) {
+        static HandState of(UUID gameId, List<Card> hand, long holeCards, long board) {
+            long cards = holeCards | board;
+            return new HandState(gameId, List.copyOf(hand), holeCards, cards == 0 ? 0 : HandEvaluator.score(HandEvaluator.evaluate(cards)));
+        }
+
+        HandState withBoard(long board) {
+            return of(gameId, hand, holeCards, board);
+        }
+
+        PlayersHandDto toDto(UUID playerId) {
+            return new PlayersHandDto(playerId, gameId, hand, score);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.controllers.dto.GameDto;
+import be.kdg.poker.controllers.dto.LobbyGameDto;
+import be.kdg.poker.controllers.dto.PlayerDto;
+import be.kdg.poker.repositories.GameRepository;
+import be.kdg.poker.repositories.PlayerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of the lobby. Services invalidate a game when they change what the lobby shows; the next read
+ * reloads only the invalidated games, with one query for the games and one for their seats, and gets a new ETag.
+ * As long as nothing changed, reading the lobby costs no database work.
+ */
+@Service
+@Slf4j
+public class LobbyIndex {
+    private static final Comparator<GameDto> LOBBY_ORDER = Comparator
+            .comparing(GameDto::name, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(GameDto::id);
+
+    private final GameRepository gameRepository;
+    private final PlayerRepository playerRepository;
+    private final long epoch = System.currentTimeMillis();
+    private final Map<UUID, GameDto> games = new HashMap<>();
+    private final Set<UUID> invalidated = ConcurrentHashMap.newKeySet();
+    private volatile Snapshot snapshot;
+    private boolean loaded;
+    private long version;
+
+    public LobbyIndex(GameRepository gameRepository, PlayerRepository playerRepository) {
+        this.gameRepository = gameRepository;
+        this.playerRepository = playerRepository;
+    }
+
+    /**
+     * @return the current lobby and its ETag
+     */
+    public Snapshot snapshot() {
+        var current = snapshot;
+        if (current != null) return current;
+        synchronized (this) {
+            current = snapshot;
+            if (current != null) return current;
+
+            if (!loaded) {
+                invalidated.clear();
+                reload(gameRepository.findLobby(null, Pageable.unpaged()).getContent(), List.of());
+                loaded = true;
+            } else {
+                var gameIds = new ArrayList<UUID>();
+                for (var iterator = invalidated.iterator(); iterator.hasNext(); ) {
+                    gameIds.add(iterator.next());
+                    iterator.remove();
+                }
+                if (!gameIds.isEmpty()) reload(gameRepository.findLobbyGames(gameIds), gameIds);
+            }
+
+            var sorted = new ArrayList<>(games.values());
+            sorted.sort(LOBBY_ORDER);
+            current = new Snapshot("\"lobby-" + epoch + "-" + ++version + "\"", List.copyOf(sorted));
+            snapshot = current;
+            // a game invalidated while reloading could be missing from this snapshot, so the next read reloads it
+            if (!invalidated.isEmpty()) snapshot = null;
+            return current;
+        }
+    }
+
+    /**
+     * Reloads a game on the next read, once the current transaction commits.
+     */
+    public void invalidate(UUID gameId) {
+        Runnable invalidate = () -> {
+            invalidated.add(gameId);
+            snapshot = null;
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate.run();
+                }
+            });
+        } else {
+            invalidate.run();
+        }
+    }
+
+    private void reload(List<LobbyGameDto> lobbyGames, List<UUID> gameIds) {
+        gameIds.forEach(games::remove);
+        if (lobbyGames.isEmpty()) return;
+
+        var seats = new HashMap<UUID, List<PlayerDto>>();
+        for (var seat : playerRepository.findLobbySeats(lobbyGames.stream().map(LobbyGameDto::id).toList())) {
+            seats.computeIfAbsent(seat.gameId(), gameId -> new ArrayList<>())
+                    .add(new PlayerDto(seat.playerId(), seat.money(), seat.username(), seat.position()));
+        }
+        for (var game : lobbyGames) {
+            games.put(game.id(), new GameDto(game.id(), game.status(), game.maxPlayers(), null,
+                    List.copyOf(seats.getOrDefault(game.id(), List.of())), null, game.name(), game.settings()));
+        }
+        log.info("Reloaded {} games of the lobby", lobbyGames.size());
+    }
+
+    public record Snapshot(String etag, List<GameDto> games) {
+    }
+}
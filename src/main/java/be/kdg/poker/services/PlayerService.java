@@ -1,9 +1,9 @@
 package be.kdg.poker.services;
 
+import be.kdg.poker.controllers.dto.GameOnMoveDto;
 import be.kdg.poker.controllers.dto.PlayerDto;
 import be.kdg.poker.controllers.dto.PlayerGameDto;
 import be.kdg.poker.controllers.dto.WinnerDto;
-import be.kdg.poker.domain.Game;
 import be.kdg.poker.domain.Player;
 import be.kdg.poker.domain.Round;
 import be.kdg.poker.domain.Turn;
@@ -21,9 +21,7 @@ import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 
 
 @Service
@@ -83,33 +81,20 @@ public class PlayerService {
     }
 
     public List<PlayerGameDto> getCurrentPlayersOnMove() {
-        List<PlayerGameDto> playersOnMove = new ArrayList<>();
-
-        List<Game> games = gameRepository.findAllGamesWithPlayers();
-
-        for (Game game : games) {
-            if (game.getStatus() == GameStatus.IN_PROGRESS) {
-                Round currentRound = roundRepository.findLatestByGame(game.getId())
-                        .orElse(null);
-
-                if (currentRound != null) {
-                    game.getPlayers().stream()
-                            .flatMap(player -> turnRepository.findAllByPlayerIdAndRoundId(player.getId(), currentRound.getId()).stream())
-                            .filter(turn -> turn.getMoveMade() == PlayerStatus.ON_MOVE)
-                            .map(Turn::getPlayer)
-                            .findFirst().ifPresent(foundPlayer -> playersOnMove.add(new PlayerGameDto(game.getId(), mapToDto(foundPlayer))));
-
-                    continue;
-                }
+        Map<UUID, PlayerGameDto> playersOnMove = new LinkedHashMap<>();
+
+        for (GameOnMoveDto game : gameRepository.findPlayersOnMove()) {
+            if (game.status() != GameStatus.IN_PROGRESS || game.roundId() == null) {
+                playersOnMove.putIfAbsent(game.gameId(), new PlayerGameDto(game.gameId(), null));
+            } else if (game.playerId() != null) {
+                var playerOnMove = new PlayerDto(game.playerId(), game.money(), game.username(), game.position());
+                playersOnMove.putIfAbsent(game.gameId(), new PlayerGameDto(game.gameId(), playerOnMove));
             }
-            playersOnMove.add(new PlayerGameDto(game.getId(), null));
         }
 
-        return playersOnMove;
+        return new ArrayList<>(playersOnMove.values());
     }
 
-
-
     public PlayerDto mapToDto(Player player) {
         return new PlayerDto(player.getId(), player.getMoney(), player.getUsername(), player.getPosition());
     }
@@ -0,0 +1,91 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.domain.Player;
+import be.kdg.poker.domain.RoundAction;
+import be.kdg.poker.domain.RoundSnapshot;
+import be.kdg.poker.engine.ActionRecord;
+import be.kdg.poker.engine.TableState;
+import be.kdg.poker.repositories.RoundActionRepository;
+import be.kdg.poker.repositories.RoundSnapshotRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * Append-only log of the actions of every round, stored as {@link ActionRecord}s, with a snapshot of the table state
+ * at the start of every street and every {@value #SNAPSHOT_INTERVAL} actions. A table is restored from the latest
+ * snapshot plus the few actions after it instead of from the full turn history.
+ */
+@Service
+@Slf4j
+public class RoundActionLog {
+    static final int SNAPSHOT_INTERVAL = 16;
+
+    private final RoundActionRepository roundActionRepository;
+    private final RoundSnapshotRepository roundSnapshotRepository;
+
+    public RoundActionLog(RoundActionRepository roundActionRepository, RoundSnapshotRepository roundSnapshotRepository) {
+        this.roundActionRepository = roundActionRepository;
+        this.roundSnapshotRepository = roundSnapshotRepository;
+    }
+
+    public void append(UUID roundId, int sequence, ActionRecord action) {
+        roundActionRepository.save(new RoundAction(roundId, sequence, action.encode()));
+    }
+
+    public boolean isSnapshotDue(int sequence) {
+        return sequence % SNAPSHOT_INTERVAL == 0;
+    }
+
+    public void snapshot(UUID roundId, int sequence, List<Player> seats, TableState state) {
+        var seatIds = ByteBuffer.allocate(seats.size() * 16);
+        for (var player : seats) {
+            seatIds.putLong(player.getId().getMostSignificantBits()).putLong(player.getId().getLeastSignificantBits());
+        }
+        roundSnapshotRepository.save(new RoundSnapshot(roundId, sequence, seatIds.array(), state.toSnapshot()));
+        log.info("Saved snapshot {} of round with id {}", sequence, roundId);
+    }
+
+    /**
+     * Rebuilds the table of a round from its latest snapshot and the actions logged after it.
+     *
+     * @param players the players of the game; the restore fails when a seated player is no longer among them
+     */
+    public Optional<Restored> restore(UUID roundId, Collection<Player> players) {
+        return roundSnapshotRepository.findLatest(roundId).flatMap(snapshot -> {
+            var playersById = new HashMap<UUID, Player>();
+            players.forEach(player -> playersById.put(player.getId(), player));
+
+            var seatIds = ByteBuffer.wrap(snapshot.getSeats());
+            var seats = new ArrayList<Player>();
+            while (seatIds.hasRemaining()) {
+                var player = playersById.get(new UUID(seatIds.getLong(), seatIds.getLong()));
+                if (player == null) return Optional.empty();
+                seats.add(player);
+            }
+
+            var state = TableState.fromSnapshot(snapshot.getState());
+            int sequence = snapshot.getSequence();
+            for (var action : roundActionRepository.findTail(roundId, sequence)) {
+                ActionRecord.decode(action.getRecord()).applyTo(state);
+                sequence = action.getSequence();
+            }
+            return Optional.of(new Restored(seats, state, sequence));
+        });
+    }
+
+    /**
+     * Drops the log of a round, used when its table is rebuilt from the turn history.
+     */
+    @Transactional
+    public void discard(UUID roundId) {
+        roundActionRepository.deleteByRoundId(roundId);
+        roundSnapshotRepository.deleteByRoundId(roundId);
+    }
+
+    public record Restored(List<Player> seats, TableState state, int sequence) {
+    }
+}
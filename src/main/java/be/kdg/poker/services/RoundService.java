@@ -4,6 +4,8 @@ import be.kdg.poker.controllers.dto.RoundDto;
 import be.kdg.poker.domain.*;
 import be.kdg.poker.domain.enums.Phase;
 import be.kdg.poker.domain.enums.PlayerStatus;
+import be.kdg.poker.engine.ActionRecord;
+import be.kdg.poker.engine.BettingRoundTracker;
 import be.kdg.poker.exceptions.ResourceNotFoundException;
 import be.kdg.poker.exceptions.TurnNotFoundException;
 import be.kdg.poker.repositories.GameRepository;
@@ -11,6 +13,7 @@ import be.kdg.poker.repositories.RoundRepository;
 import be.kdg.poker.repositories.TurnRepository;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -26,14 +29,28 @@ public class RoundService {
     private final TurnService turnService;
     private final GameRoundService gameRoundService;
     private final NotificationService notificationService;
-
-    public RoundService(RoundRepository roundRepository, GameRepository gameRepository, TurnRepository turnRepository, TurnService turnService, GameRoundService gameRoundService, NotificationService notificationService) {
+    private final ShowdownEquityService showdownEquityService;
+    private final HandStrengthCache handStrengthCache;
+    private final TableStateRegistry tableStateRegistry;
+    private final TurnTimeoutScheduler turnTimeoutScheduler;
+    private final TableUpdates tableUpdates;
+    private final DeckService deckService;
+    private final ShuffleService shuffleService;
+
+    public RoundService(RoundRepository roundRepository, GameRepository gameRepository, TurnRepository turnRepository, TurnService turnService, GameRoundService gameRoundService, NotificationService notificationService, ShowdownEquityService showdownEquityService, HandStrengthCache handStrengthCache, TableStateRegistry tableStateRegistry, TurnTimeoutScheduler turnTimeoutScheduler, TableUpdates tableUpdates, DeckService deckService, ShuffleService shuffleService) {
         this.roundRepository = roundRepository;
         this.gameRepository = gameRepository;
         this.turnRepository = turnRepository;
         this.turnService = turnService;
         this.gameRoundService = gameRoundService;
         this.notificationService = notificationService;
+        this.showdownEquityService = showdownEquityService;
+        this.handStrengthCache = handStrengthCache;
+        this.tableStateRegistry = tableStateRegistry;
+        this.turnTimeoutScheduler = turnTimeoutScheduler;
+        this.tableUpdates = tableUpdates;
+        this.deckService = deckService;
+        this.shuffleService = shuffleService;
     }
 
     @Transactional
@@ -44,7 +61,17 @@ public class RoundService {
                             var round = findById(roundId);
                             turn.setRound(round);
                             action.accept(turn);
-                            changePhase(gameId, roundId);
+                            turnTimeoutScheduler.cancel(turnId);
+                            tableStateRegistry.find(gameId, roundId)
+                                    .or(() -> tableStateRegistry.restore(round))
+                                    .filter(table -> table.isOnMove(turn.getPlayer()))
+                                    .ifPresentOrElse(
+                                            table -> tableUpdates.publish(table, round, turn, applyToTable(table, turn, round)),
+                                            () -> {
+                                                changePhase(gameId, roundId);
+                                                tableStateRegistry.load(getGameWithPlayers(gameId), getRoundWithTurns(roundId));
+                                                tableUpdates.publish(gameId, round, turn);
+                                            });
                             log.info("Successfully executed action for turn with id: {}", turnId);
                         },
                         () -> {
@@ -53,20 +80,84 @@ public class RoundService {
                 );
     }
 
+    /**
+     * Ends a turn whose timer expired: the player checks when there is nothing to call and folds otherwise. Turns
+     * that were played in the meantime are left alone.
+     */
+    @Transactional
+    public void handleTurnTimeout(UUID turnId, UUID gameId, UUID roundId) {
+        turnService.getByIdWithRound(turnId)
+                .filter(turn -> turn.getMoveMade() == PlayerStatus.ON_MOVE)
+                .ifPresent(turn -> {
+                    boolean canCheck = tableStateRegistry.find(gameId, roundId)
+                            .filter(table -> table.isOnMove(turn.getPlayer()))
+                            .map(table -> table.state().toCall(table.state().actionSeat()) == 0)
+                            .orElseGet(() -> nothingToCall(turn.getPlayer(), gameId, roundId));
+                    log.info("Turn with id {} timed out, the player {}", turnId, canCheck ? "checks" : "folds");
+                    handleTurnAction(turnId, gameId, roundId, canCheck ? turnService::check : turnService::fold);
+                });
+    }
+
+    private boolean nothingToCall(Player player, UUID gameId, UUID roundId) {
+        Game game = getGameWithPlayers(gameId);
+        int seat = game.getPlayers().indexOf(player);
+        return seat >= 0 && trackBettingRound(game, getRoundWithTurns(roundId)).toCall(seat) == 0;
+    }
+
+    /**
+     * @return the turn that was put on move, or null when the round finished
+     */
+    private Turn applyToTable(TableStateRegistry.LiveTable table, Turn turn, Round round) {
+        var state = table.state();
+        synchronized (state) {
+            var action = new ActionRecord(table.seatOf(turn.getPlayer().getId()), turn.getMoveMade(), turn.getMoneyGambled());
+            var transition = tableStateRegistry.apply(table, action);
+            log.info("Applied {} to table of round with id {}: {}", turn.getMoveMade(), round.getId(), transition);
+            return switch (transition) {
+                case NEXT_PLAYER -> putPlayerOnMove(table.playerAt(state.actionSeat()), round, round.getGame());
+                case NEXT_STREET -> {
+                    changeRoundPhase(round);
+                    addCommunityCardsBasedOnPhase(round);
+                    tableStateRegistry.startStreet(table, round.getPhase());
+                    var onMove = putPlayerOnMove(table.playerAt(state.actionSeat()), round, round.getGame());
+                    if (round.getPhase() == Phase.FINISHED) closeTable(round);
+                    yield onMove;
+                }
+                case RUN_OUT -> {
+                    runThroughLastRound(round.getGame().getId(), round.getId(), round);
+                    closeTable(round);
+                    yield null;
+                }
+                case FINISHED -> {
+                    round.setPhase(Phase.FINISHED);
+                    roundRepository.save(round);
+                    closeTable(round);
+                    yield null;
+                }
+            };
+        }
+    }
+
+    private void closeTable(Round round) {
+        tableStateRegistry.evict(round.getGame().getId());
+        turnTimeoutScheduler.cancelRound(round.getId());
+    }
+
     public Round findById(UUID roundId) {
         return roundRepository.findById(roundId)
                 .orElseThrow(() -> new ResourceNotFoundException("Round not found"));
     }
 
     public RoundDto mapToDto(Round round) {
-        return new RoundDto(round.getId(), round.getPhase(), round.getDealerIndex(), null, null, null, null);
+        return new RoundDto(round.getId(), round.getPhase(), round.getDealerIndex(), null, null, null, null, round.getShowdownEquities(),
+                shuffleService.commitment(round), shuffleService.revealedSeed(round));
     }
 
 
     public List<Card> getCommunityCards(UUID gameId) {
         Game game = gameRepository.findById(gameId)
                 .orElseThrow(() -> new ResourceNotFoundException("Game not found"));
-        Round round = roundRepository.findByGameWithCommunityCards(game)
+        Round round = roundRepository.findLatestByGame(game.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Round not found"));
         return round.getCommunityCards();
     }
@@ -82,23 +173,18 @@ public class RoundService {
             for (int i = 0; i < 3; i++) {
                 addCommunityCard(round);
             }
+            handStrengthCache.updateBoard(round.getId(), round.getCommunityCards());
         } else if (round.getPhase() == Phase.TURN || round.getPhase() == Phase.RIVER) {
             log.info("Adding 1 community card to round with id {}", round.getId());
             addCommunityCard(round);
+            handStrengthCache.updateBoard(round.getId(), round.getCommunityCards());
         }
     }
 
     @Transactional
     public void addCommunityCard(Round round) {
-        List<Card> deck = roundRepository.findDeckByRoundId(round.getId());
-
-        Collections.shuffle(deck);
-
-        if (!deck.isEmpty()) {
-            Card card = deck.remove(0);
-            round.getCommunityCards().add(card);
-            round.setDeck(deck);
-
+        if (deckService.remaining(round) > 0) {
+            round.getCommunityCards().add(deckService.deal(round));
             roundRepository.save(round);
         } else {
             throw new IllegalStateException("Deck is empty, cannot add community card");
@@ -110,25 +196,28 @@ public class RoundService {
         log.info("Changing phase for game with id {} and round with id {}", gameId, roundId);
         Game game = getGameWithPlayers(gameId);
         Round round = getRoundWithTurns(roundId);
+        BettingRoundTracker tracker = trackBettingRound(game, round);
 
-        List<Player> playersLeftInRound = getPlayersLeftInRound(round, game, false);
-        List<Player> playersAllin = getPlayersInRoundThatWentAllin(round);
+        int playersLeftInRound = tracker.playersLeft();
+        int playersAllin = tracker.playersAllIn();
 
-        if ((playersLeftInRound.size() == 1 && playersAllin.isEmpty()) || (playersLeftInRound.isEmpty() && playersAllin.size() == 1)) {
+        if ((playersLeftInRound == 1 && playersAllin == 0) || (playersLeftInRound == 0 && playersAllin == 1)) {
             round.setPhase(Phase.FINISHED);
             roundRepository.save(round);
             log.info("round with id {} of game with id {} finished", roundId, gameId);
         } else {
-            processRoundPhaseChange(gameId, roundId, game, round, playersLeftInRound, playersAllin);
+            processRoundPhaseChange(gameId, roundId, game, round, tracker);
         }
     }
 
     @Transactional
-    public void processRoundPhaseChange(UUID gameId, UUID roundId, Game game, Round round, List<Player> playersLeftInRound, List<Player> playersAllin) {
-        boolean allPlayersMoved = validateAllPlayersHaveMadeMoves(game, round);
-        boolean betsMatched = validatePlayersHaveMatchedBets(game, round);
+    public void processRoundPhaseChange(UUID gameId, UUID roundId, Game game, Round round, BettingRoundTracker tracker) {
+        boolean allPlayersMoved = tracker.haveAllPlayersMadeEqualMoves();
+        boolean betsMatched = tracker.haveBetsBeenMatched();
+        int playersLeftInRound = tracker.playersLeft();
+        int playersAllin = tracker.playersAllIn();
 
-        if (allPlayersMoved && ((playersLeftInRound.size() == 1 && !playersAllin.isEmpty()) || (playersLeftInRound.isEmpty() && playersAllin.size() > 1))) {
+        if (allPlayersMoved && ((playersLeftInRound == 1 && playersAllin > 0) || (playersLeftInRound == 0 && playersAllin > 1))) {
             runThroughLastRound(gameId, roundId, round);
         } else if (allPlayersMoved && betsMatched) {
             advanceRoundPhase(game, round);
@@ -149,6 +238,7 @@ public class RoundService {
 
     @Transactional
     public void runThroughLastRound(UUID gameId, UUID roundId, Round round) {
+        recordShowdownEquities(gameId, round);
         if (round.getPhase() == Phase.PRE_FLOP) {
             round.setPhase(Phase.FLOP);
             addCommunityCardsBasedOnPhase(round);
@@ -166,6 +256,14 @@ public class RoundService {
         log.info("All players in game with id {} and round with id {} went allin", gameId, roundId);
     }
 
+    private void recordShowdownEquities(UUID gameId, Round round) {
+        if (!showdownEquityService.isEnabled()) return;
+        gameRepository.findByIdWithPlayers(gameId).ifPresent(game -> {
+            List<Player> playersInShowdown = getPlayersLeftInRound(round, game, true);
+            round.setShowdownEquities(showdownEquityService.calculateEquities(playersInShowdown, round.getCommunityCards()));
+        });
+    }
+
     public Game getGameWithPlayers(UUID gameId) {
         return gameRepository.findByIdWithPlayers(gameId)
                 .orElseThrow(() -> new ResourceNotFoundException("Game not found with id: " + gameId));
@@ -178,109 +276,33 @@ public class RoundService {
 
     public boolean validatePlayersHaveMatchedBets(Game game, Round round) {
         log.info("Validating if players have matched bets");
-
-        Map<Player, Integer> playerMoneyGambled = new HashMap<>();
-        Set<Player> playersThatWentAllin = new HashSet<>();
-        int maxMoneyGambled = 0;
-
-        for (Turn turn : round.getTurns()) {
-            if (turn.getRound().getPhase() == round.getPhase()) {
-                Player player = turn.getPlayer();
-                playerMoneyGambled.put(player, playerMoneyGambled.getOrDefault(player, 0) + turn.getMoneyGambled());
-                if (turn.getMoveMade() == PlayerStatus.ALL_IN) {
-                    playersThatWentAllin.add(turn.getPlayer());
-                }
-                maxMoneyGambled = Math.max(maxMoneyGambled, turn.getMoneyGambled());
-            }
-        }
-
-        return processAllPlayersHaveMadeBets(game, round, playerMoneyGambled, playersThatWentAllin, maxMoneyGambled);
-    }
-
-    private boolean processAllPlayersHaveMadeBets(Game game, Round round, Map<Player, Integer> playerMoneyGambled, Set<Player> playersThatWentAllin, int maxMoneyGambled) {
-        for (Player player : getPlayersLeftInRound(round, game, false)) {
-            int totalMoneyThatPlayerGambled = playerMoneyGambled.getOrDefault(player, 0);
-            boolean playerWentAllin = playersThatWentAllin.contains(player);
-
-            if (!playerWentAllin && totalMoneyThatPlayerGambled < maxMoneyGambled) {
-                log.info("Player with id {} did not match the bet", player);
-                return false;
-            }
-        }
-
-        log.info("All players matched the bet");
-        return true;
+        boolean betsMatched = trackBettingRound(game, round).haveBetsBeenMatched();
+        log.info(betsMatched ? "All players matched the bet" : "Not all players matched the bet");
+        return betsMatched;
     }
 
     public boolean validateAllPlayersHaveMadeMoves(Game game, Round round) {
         log.info("Validating if all players have made moves");
-        List<Player> activePlayers = new ArrayList<>(getPlayersLeftInRound(round, game, true));
-
-        Map<Player, Long> mapPlayers = new HashMap<>();
-        for (Player player : activePlayers) {
-            mapPlayers.put(player, 0L);
-        }
-
-        List<Turn> allTurnsFromEarlierPhases = round.getTurns()
-                .stream().filter(turn -> turn.getMadeInPhase() != round.getPhase())
-                .toList();
-
-        for (Turn turn : allTurnsFromEarlierPhases) {
-            if (turn.getMoveMade() == PlayerStatus.ALL_IN || turn.getMoveMade() == PlayerStatus.FOLD) {
-                mapPlayers.remove(turn.getPlayer());
-            }
-        }
-
-        List<Turn> allTurnsThisPhase = getAllTurnsThisPhase(round);
-        List<Turn> allActiveTurns = getAllActiveTurns(allTurnsThisPhase);
-
-        Turn lastActiveMoveMade;
-        if (!allActiveTurns.isEmpty()) {
-            lastActiveMoveMade = allActiveTurns.get(allActiveTurns.size() - 1);
-
-            removingAllTurnsBeforeLastAction(allTurnsThisPhase, lastActiveMoveMade);
-        }
-
-        for (Turn turn : allTurnsThisPhase) {
-            mapPlayers.put(turn.getPlayer(), mapPlayers.getOrDefault(turn.getPlayer(), 0L) + 1);
-        }
-
-        return haveAllPlayersMadeEqualMoves(mapPlayers);
+        return trackBettingRound(game, round).haveAllPlayersMadeEqualMoves();
     }
 
-    private boolean haveAllPlayersMadeEqualMoves(Map<Player, Long> mapPlayers) {
-        Long movesMade = mapPlayers.values().stream().findAny().orElse(0L);
-        for (Long moveCount : mapPlayers.values()) {
-            if (!moveCount.equals(movesMade)) {
-                return false;
-            }
+    /**
+     * Records every turn of the round once; turns of players that are not in the game are ignored.
+     */
+    private BettingRoundTracker trackBettingRound(Game game, Round round) {
+        Map<Player, Integer> seats = new HashMap<>();
+        for (Player player : game.getPlayers()) {
+            seats.putIfAbsent(player, seats.size());
         }
-        return true;
-    }
 
-    private void removingAllTurnsBeforeLastAction(List<Turn> allTurnsThisPhase, Turn lastActiveMoveMade) {
-        Iterator<Turn> iterator = allTurnsThisPhase.iterator();
-        while (iterator.hasNext()) {
-            Turn turn = iterator.next();
-            if (turn.equals(lastActiveMoveMade)) {
-                break;
-            } else if (turn.getMoveMade() != PlayerStatus.ALL_IN) {
-                iterator.remove();
+        BettingRoundTracker tracker = new BettingRoundTracker(seats.size(), round.getPhase());
+        for (Turn turn : round.getTurns()) {
+            Integer seat = seats.get(turn.getPlayer());
+            if (seat != null) {
+                tracker.record(seat, turn.getMoveMade(), turn.getMadeInPhase(), turn.getMoneyGambled());
             }
         }
-    }
-
-    private List<Turn> getAllActiveTurns(List<Turn> allTurnsThisPhase) {
-        return allTurnsThisPhase.stream()
-                .filter(turn -> turn.getMoveMade() == PlayerStatus.RAISE || (turn.getMoveMade() == PlayerStatus.ALL_IN &&
-                        turn.getMoneyGambled() >= allTurnsThisPhase.stream().map(Turn::getMoneyGambled).max(Integer::compareTo).orElse(0)))
-                .toList();
-    }
-
-    private ArrayList<Turn> getAllTurnsThisPhase(Round round) {
-        return new ArrayList<>(round.getTurns().stream()
-                .filter(turn -> turn.getMadeInPhase() == round.getPhase() && turn.getMoveMade() != PlayerStatus.FOLD && turn.getMoveMade() != PlayerStatus.SMALL_BLIND && turn.getMoveMade() != PlayerStatus.BIG_BLIND)
-                .toList());
+        return tracker;
     }
 
     @Transactional
@@ -303,11 +325,13 @@ public class RoundService {
 
         turnService.addSmallAndBigBlindsToRound(round, game);
 
-        TurnService.addFirstPlayer(round, game, turnRepository, roundRepository);
+        Turn firstTurn = TurnService.addFirstPlayer(round, game, turnRepository, roundRepository);
+        turnTimeoutScheduler.schedule(firstTurn, game);
+        tableUpdates.publish(gameId, round, null);
     }
 
     public Optional<Round> getCurrentRound(UUID gameId) {
-        return roundRepository.findLatestByGameWithDeck(gameId);
+        return roundRepository.findLatestByGame(gameId);
     }
 
     @Transactional
@@ -330,14 +354,20 @@ public class RoundService {
             nextPlayer = findNextPlayerAtBeginningOfPhase(round, game, playersLeftInRound, nextPlayer);
         }
 
+        putPlayerOnMove(nextPlayer, round, game);
+    }
+
+    private Turn putPlayerOnMove(Player nextPlayer, Round round, Game game) {
+        // after the river nobody is on move any more; the round waits to be divided
+        if (round.getPhase() == Phase.FINISHED) return null;
         Turn nextTurn = new Turn(nextPlayer, PlayerStatus.ON_MOVE, round, round.getPhase());
         notificationService.notifyPlayerOnMove(nextPlayer, game);
 
         turnRepository.save(nextTurn);
-        round.getTurns().add(nextTurn);
-        roundRepository.save(round);
-
-        gameRoundService.isLoggedInUserOnMove(gameId);
+        // the turn belongs to the round through its own round column; only keep turns that were already loaded current
+        if (Hibernate.isInitialized(round.getTurns())) round.getTurns().add(nextTurn);
+        turnTimeoutScheduler.schedule(nextTurn, game);
+        return nextTurn;
     }
 
     private List<Turn> getTurnsThisPhase(Round round) {
@@ -394,26 +424,46 @@ public class RoundService {
         Round round = getRoundWithTurns(roundId);
 
         if (round.getPhase() == Phase.FINISHED) {
+            handStrengthCache.evictRound(roundId);
+            auditShuffle(game, round);
             Round newRound = gameRoundService.create(game);
             newRound.setDealerIndex((round.getDealerIndex() + 1) % game.getPlayers().size());
             gameRoundService.assignPlayerHand(game.getId(), newRound);
             turnService.addSmallAndBigBlindsToRound(newRound, game);
             turnService.create(newRound, game);
+            tableUpdates.publish(game.getId(), newRound, null);
             return newRound;
         }
         return null;
     }
 
+    /**
+     * Checks the board and the hands of a finished round against its revealed seed before the next round deals new
+     * hands.
+     */
+    private void auditShuffle(Game game, Round round) {
+        List<Card> dealt = new ArrayList<>(round.getCommunityCards());
+        for (Player player : game.getPlayers()) {
+            if (player.getHand() != null) dealt.addAll(player.getHand());
+        }
+        if (shuffleService.verify(round, dealt)) {
+            log.info("Shuffle of round with id {} matches its commitment {}", round.getId(), shuffleService.commitment(round));
+        } else {
+            log.warn("Shuffle of round with id {} does not match its commitment {}", round.getId(), shuffleService.commitment(round));
+        }
+    }
+
     public List<Player> getPlayersLeftInRound(Round round, Game game, boolean includeAllin) {
         log.info("Getting players left in round");
-        List<Player> activePlayers = new ArrayList<>(game.getPlayers());
-        List<Turn> earlierTurns = round.getTurns();
-
-        for (Turn turn : earlierTurns) {
+        Set<Player> playersOut = new HashSet<>();
+        for (Turn turn : round.getTurns()) {
             if (turn.getMoveMade() == PlayerStatus.FOLD || (!includeAllin && turn.getMoveMade() == PlayerStatus.ALL_IN)) {
-                activePlayers.remove(turn.getPlayer());
+                playersOut.add(turn.getPlayer());
             }
         }
+
+        List<Player> activePlayers = new ArrayList<>(game.getPlayers());
+        activePlayers.removeIf(playersOut::contains);
         return activePlayers;
     }
 
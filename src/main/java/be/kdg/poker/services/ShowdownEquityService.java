@@ -0,0 +1,60 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.domain.Card;
+import be.kdg.poker.domain.Player;
+import be.kdg.poker.engine.CardCodec;
+import be.kdg.poker.engine.ExactEquityCalculator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+@Service
+@Slf4j
+public class ShowdownEquityService {
+    private final boolean enabled;
+    private final ExactEquityCalculator exactEquityCalculator;
+
+    public ShowdownEquityService(@Value("${poker.showdown.exact-equity.enabled:false}") boolean enabled,
+                                 @Value("${poker.showdown.exact-equity.max-boards:2000000}") long maxBoards) {
+        this.enabled = enabled;
+        this.exactEquityCalculator = new ExactEquityCalculator(ForkJoinPool.commonPool(), maxBoards);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the exact equity of every player that still holds two cards, or an empty map when there is no
+     * showdown between at least two hands or the remaining boards exceed the configured limit.
+     */
+    public Map<UUID, Double> calculateEquities(List<Player> players, List<Card> communityCards) {
+        var playersWithHand = players.stream()
+                .filter(player -> player.getHand() != null && player.getHand().size() == 2)
+                .toList();
+        if (playersWithHand.size() < 2) return new HashMap<>();
+
+        var hands = new long[playersWithHand.size()];
+        for (int i = 0; i < hands.length; i++) hands[i] = CardCodec.toMask(playersWithHand.get(i).getHand());
+
+        long start = System.nanoTime();
+        double[] shares;
+        try {
+            shares = exactEquityCalculator.calculate(hands, CardCodec.toMask(communityCards));
+        } catch (IllegalArgumentException e) {
+            log.warn("Skipping showdown equity: {}", e.getMessage());
+            return new HashMap<>();
+        }
+        log.info("calculated showdown equity of {} players in {} ms", hands.length, (System.nanoTime() - start) / 1_000_000);
+
+        Map<UUID, Double> equities = new HashMap<>();
+        for (int i = 0; i < shares.length; i++) equities.put(playersWithHand.get(i).getId(), shares[i]);
+        return equities;
+    }
+}
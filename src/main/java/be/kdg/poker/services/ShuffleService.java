@@ -0,0 +1,63 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.domain.Card;
+import be.kdg.poker.domain.Round;
+import be.kdg.poker.domain.enums.Phase;
+import be.kdg.poker.engine.CardCodec;
+import be.kdg.poker.engine.SeededDeck;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
+
+/**
+ * Shuffles the deck of a round from one seed drawn from a CSPRNG. Players get the SHA-256 commitment of the seed when
+ * the round starts and the seed itself once it is finished, so every deal can be replayed and checked with
+ * {@link SeededDeck}.
+ */
+@Service
+@Slf4j
+public class ShuffleService {
+    private final SecureRandom random = new SecureRandom();
+
+    public Round shuffle(Round round) {
+        var seed = new byte[SeededDeck.SEED_BYTES];
+        random.nextBytes(seed);
+        round.setShuffleSeed(seed);
+        round.setShuffleCommitment(SeededDeck.commitment(seed));
+        round.setDeckCursor(0);
+        log.info("Shuffled deck with commitment {}", HexFormat.of().formatHex(round.getShuffleCommitment()));
+        return round;
+    }
+
+    /**
+     * @return the commitment of the seed of a round in hex, or null for a round that was not shuffled from a seed
+     */
+    public String commitment(Round round) {
+        return round.getShuffleCommitment() == null ? null : HexFormat.of().formatHex(round.getShuffleCommitment());
+    }
+
+    /**
+     * @return the seed of a finished round in hex; the seed of a round that is still played is never revealed
+     */
+    public String revealedSeed(Round round) {
+        if (round.getPhase() != Phase.FINISHED || round.getShuffleSeed() == null) return null;
+        return HexFormat.of().formatHex(round.getShuffleSeed());
+    }
+
+    /**
+     * Whether the seed of a round matches its commitment and every card that was dealt in the round is one of the
+     * cards the seed dealt before the cursor.
+     */
+    public boolean verify(Round round, Collection<Card> dealt) {
+        var seed = round.getShuffleSeed();
+        if (seed == null || round.getShuffleCommitment() == null) return false;
+        if (!MessageDigest.isEqual(SeededDeck.commitment(seed), round.getShuffleCommitment())) return false;
+        var dealtFromSeed = CardCodec.toMask(Arrays.copyOf(SeededDeck.deal(seed), round.getDeckCursor()));
+        return (CardCodec.toMask(dealt) & ~dealtFromSeed) == 0;
+    }
+}
@@ -0,0 +1,150 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.exceptions.TableBusyException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs every command that changes a table (turn actions, dividing the pot, starting the next round) on a single
+ * writer per game. Each game has a bounded mailbox that is drained by one worker at a time, so commands of one table
+ * never overlap while different tables run in parallel on a shared pool. An actor only exists while its game has
+ * pending commands. The security context of the caller is carried over to the worker.
+ */
+@Service
+@Slf4j
+public class TableActors {
+    private static final int COMMANDS_PER_DRAIN = 32;
+    private static final ThreadLocal<UUID> CURRENT_GAME = new ThreadLocal<>();
+
+    private final Map<UUID, TableActor> actors = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private final int mailboxCapacity;
+
+    public TableActors(@Value("${poker.table.actor.threads:0}") int threads,
+                       @Value("${poker.table.actor.mailbox-capacity:64}") int mailboxCapacity) {
+        if (mailboxCapacity < 1) throw new IllegalArgumentException("mailbox capacity must be positive");
+        // commands mostly wait on the database, so the default pool is larger than the number of cores
+        int poolSize = threads > 0 ? threads : Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        var threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            var thread = new Thread(runnable, "table-actor-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.mailboxCapacity = mailboxCapacity;
+        log.info("Started {} table actor threads with mailboxes of {} commands", poolSize, mailboxCapacity);
+    }
+
+    /**
+     * Queues a command for the table of a game. The future fails with a {@link TableBusyException} when the mailbox
+     * of that table is full.
+     */
+    public <T> CompletableFuture<T> submit(UUID gameId, Callable<T> command) {
+        var result = new CompletableFuture<T>();
+        Runnable task = new DelegatingSecurityContextRunnable(() -> {
+            try {
+                result.complete(command.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        actors.compute(gameId, (id, actor) -> {
+            var target = actor != null ? actor : new TableActor(id);
+            if (!target.enqueue(task)) {
+                result.completeExceptionally(new TableBusyException("Too many pending commands for game with id " + id));
+            }
+            return target;
+        });
+        return result;
+    }
+
+    /**
+     * Runs a command on the table of a game and waits for it; exceptions thrown by the command are rethrown as is.
+     * A command that is already running on the actor of that game runs the nested command directly.
+     */
+    public <T> T call(UUID gameId, Callable<T> command) {
+        if (gameId.equals(CURRENT_GAME.get())) {
+            try {
+                return command.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }
+        try {
+            return submit(gameId, command).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            if (e.getCause() instanceof Error error) throw error;
+            throw e;
+        }
+    }
+
+    public void run(UUID gameId, Runnable command) {
+        call(gameId, Executors.callable(command));
+    }
+
+    boolean hasActor(UUID gameId) {
+        return actors.containsKey(gameId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private final class TableActor {
+        private final UUID gameId;
+        private final BlockingQueue<Runnable> mailbox = new ArrayBlockingQueue<>(mailboxCapacity);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private TableActor(UUID gameId) {
+            this.gameId = gameId;
+        }
+
+        boolean enqueue(Runnable task) {
+            if (!mailbox.offer(task)) return false;
+            schedule();
+            return true;
+        }
+
+        boolean isIdle() {
+            return mailbox.isEmpty() && !scheduled.get();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) executor.execute(this::drain);
+        }
+
+        // processes a limited number of commands per run so a busy table cannot starve the others on the pool
+        private void drain() {
+            CURRENT_GAME.set(gameId);
+            try {
+                for (int i = 0; i < COMMANDS_PER_DRAIN; i++) {
+                    Runnable task = mailbox.poll();
+                    if (task == null) break;
+                    task.run();
+                }
+            } catch (RuntimeException e) {
+                log.error("Command for game with id {} failed outside of its future", gameId, e);
+            } finally {
+                CURRENT_GAME.remove();
+                scheduled.set(false);
+                if (!mailbox.isEmpty()) schedule();
+                // an idle actor is dropped; the next command for the game starts a new one
+                actors.computeIfPresent(gameId, (id, actor) -> actor == this && actor.isIdle() ? null : actor);
+            }
+        }
+    }
+}
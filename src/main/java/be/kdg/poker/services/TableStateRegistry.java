@@ -0,0 +1,190 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.domain.Game;
+import be.kdg.poker.domain.Player;
+import be.kdg.poker.domain.Round;
+import be.kdg.poker.domain.Turn;
+import be.kdg.poker.domain.enums.Phase;
+import be.kdg.poker.domain.enums.PlayerStatus;
+import be.kdg.poker.engine.ActionRecord;
+import be.kdg.poker.engine.TableState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the authoritative {@link TableState} of the live round of every active game. Each action updates the state
+ * in memory and is appended to the {@link RoundActionLog}; a table that is not in memory is restored from that log,
+ * and only rounds without a usable log are rebuilt from their turns. A table that changed in a transaction that rolls
+ * back is evicted, so it is restored from the log as it was committed.
+ */
+@Service
+@Slf4j
+public class TableStateRegistry {
+    private final Map<UUID, LiveTable> tables = new ConcurrentHashMap<>();
+    private final RoundActionLog roundActionLog;
+
+    public TableStateRegistry(RoundActionLog roundActionLog) {
+        this.roundActionLog = roundActionLog;
+    }
+
+    public Optional<LiveTable> find(UUID gameId, UUID roundId) {
+        return Optional.ofNullable(tables.get(gameId)).filter(table -> table.roundId().equals(roundId));
+    }
+
+    /**
+     * Restores the table of a round from its action log.
+     *
+     * @param round round with its game; the players of the game are loaded when needed
+     */
+    public Optional<LiveTable> restore(Round round) {
+        var game = round.getGame();
+        if (round.getPhase() == Phase.FINISHED || game == null) return Optional.empty();
+        return roundActionLog.restore(round.getId(), game.getPlayers())
+                .filter(restored -> restored.state().phase() == round.getPhase())
+                .map(restored -> {
+                    var table = new LiveTable(game.getId(), round.getId(), restored.seats());
+                    table.state = restored.state();
+                    table.sequence = restored.sequence();
+                    tables.put(game.getId(), table);
+                    log.info("Restored table of game with id {} from the action log of round with id {}", game.getId(), round.getId());
+                    return table;
+                });
+    }
+
+    /**
+     * Applies an action to a table and appends it to the action log.
+     */
+    public TableState.Transition apply(LiveTable table, ActionRecord action) {
+        evictOnRollback(table);
+        var transition = action.applyTo(table.state);
+        int sequence = ++table.sequence;
+        roundActionLog.append(table.roundId, sequence, action);
+        if (roundActionLog.isSnapshotDue(sequence)) roundActionLog.snapshot(table.roundId, sequence, table.seats, table.state);
+        return transition;
+    }
+
+    /**
+     * Starts the next street of a table; the street change takes a sequence number of its own and is always snapshot.
+     */
+    public void startStreet(LiveTable table, Phase phase) {
+        evictOnRollback(table);
+        table.state.startStreet(phase);
+        roundActionLog.snapshot(table.roundId, ++table.sequence, table.seats, table.state);
+    }
+
+    /**
+     * Rebuilds the table of a round by replaying its turns and starts a new action log for it. Rounds that are
+     * finished or whose history cannot be replayed (turns without a phase or player) are not kept, so they keep
+     * using the turn history.
+     *
+     * @param game  game with its players
+     * @param round round with its turns
+     */
+    public Optional<LiveTable> load(Game game, Round round) {
+        tables.remove(game.getId());
+        roundActionLog.discard(round.getId());
+        if (round.getPhase() == Phase.FINISHED || game.getPlayers().size() < 2) return Optional.empty();
+
+        var seats = new ArrayList<>(game.getPlayers());
+        seats.sort(Comparator.comparing(Player::getPosition));
+        var turns = new ArrayList<>(round.getTurns());
+        turns.sort(Comparator.comparing(Turn::getCreatedAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder())));
+
+        var table = new LiveTable(game.getId(), round.getId(), seats);
+        var stacks = new int[seats.size()];
+        for (int seat = 0; seat < stacks.length; seat++) stacks[seat] = seats.get(seat).getMoney();
+        Player onMove = null;
+        for (var turn : turns) {
+            if (turn.getPlayer() == null || turn.getMadeInPhase() == null || table.seatOf(turn.getPlayer().getId()) < 0) {
+                log.info("Round with id {} has turns that cannot be replayed, not keeping its table in memory", round.getId());
+                return Optional.empty();
+            }
+            if (turn.getMoveMade() == PlayerStatus.ON_MOVE) onMove = turn.getPlayer();
+            else stacks[table.seatOf(turn.getPlayer().getId())] += turn.getMoneyGambled();
+        }
+
+        var state = new TableState(stacks, round.getDealerIndex());
+        try {
+            for (var turn : turns) {
+                if (turn.getMoveMade() == PlayerStatus.ON_MOVE) continue;
+                if (turn.getMadeInPhase() != state.phase()) state.startStreet(turn.getMadeInPhase());
+                state.apply(table.seatOf(turn.getPlayer().getId()), turn.getMoveMade(), turn.getMoneyGambled());
+            }
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            log.info("Unable to replay the turns of round with id {}: {}", round.getId(), e.getMessage());
+            return Optional.empty();
+        }
+        if (round.getPhase() != state.phase()) state.startStreet(round.getPhase());
+        if (onMove != null) state.moveActionTo(table.seatOf(onMove.getId()));
+
+        table.state = state;
+        roundActionLog.snapshot(round.getId(), table.sequence, seats, state);
+        tables.put(game.getId(), table);
+        evictOnRollback(table);
+        log.info("Loaded table of game with id {} for round with id {}", game.getId(), round.getId());
+        return Optional.of(table);
+    }
+
+    public void evict(UUID gameId) {
+        tables.remove(gameId);
+    }
+
+    private void evictOnRollback(LiveTable table) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) return;
+                if (tables.remove(table.gameId, table)) {
+                    log.info("Evicted table of game with id {} after a rolled back transaction", table.gameId);
+                }
+            }
+        });
+    }
+
+    public static final class LiveTable {
+        private final UUID gameId;
+        private final UUID roundId;
+        private final List<Player> seats;
+        private final Map<UUID, Integer> seatByPlayer = new HashMap<>();
+        private TableState state;
+        private int sequence;
+
+        private LiveTable(UUID gameId, UUID roundId, List<Player> seats) {
+            this.gameId = gameId;
+            this.roundId = roundId;
+            this.seats = List.copyOf(seats);
+            for (int seat = 0; seat < seats.size(); seat++) seatByPlayer.put(seats.get(seat).getId(), seat);
+        }
+
+        public UUID gameId() {
+            return gameId;
+        }
+
+        public UUID roundId() {
+            return roundId;
+        }
+
+        public TableState state() {
+            return state;
+        }
+
+        public int seatOf(UUID playerId) {
+            return seatByPlayer.getOrDefault(playerId, -1);
+        }
+
+        public Player playerAt(int seat) {
+            return seats.get(seat);
+        }
+
+        public boolean isOnMove(Player player) {
+            return player != null && seatOf(player.getId()) == state.actionSeat();
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.controllers.dto.CardDto;
+import be.kdg.poker.controllers.dto.TableUpdateDto;
+import be.kdg.poker.domain.Round;
+import be.kdg.poker.domain.Turn;
+import be.kdg.poker.domain.enums.PlayerStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes a {@link TableUpdateDto} to the server-sent event subscribers of a game after every change to its table,
+ * so clients no longer poll for the current turn, round and board. Every subscriber has a bounded buffer that is
+ * sent on a small shared pool; a subscriber whose buffer is full is disconnected, and reconnects to start over from
+ * the current state.
+ * Every update gets the next version of its table, and the latest updates of every table are kept in a ring buffer,
+ * so a reconnecting client only needs the updates after the last version it saw. The updates of a table are dropped
+ * once it has been without subscribers for the retention period, after which its game is no longer followed.
+ */
+@Service
+@Slf4j
+public class TableUpdates {
+    private static final String EVENT_NAME = "table-update";
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<UUID, History> histories = new ConcurrentHashMap<>();
+    private final TableStateRegistry tableStateRegistry;
+    private final ShuffleService shuffleService;
+    private final ScheduledExecutorService sender;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final int historySize;
+    private final long historyRetentionMillis;
+
+    public TableUpdates(TableStateRegistry tableStateRegistry, ShuffleService shuffleService,
+                        @Value("${poker.table.updates.buffer-size:32}") int bufferSize,
+                        @Value("${poker.table.updates.timeout-millis:1800000}") long timeoutMillis,
+                        @Value("${poker.table.updates.history-size:64}") int historySize,
+                        @Value("${poker.table.updates.history-retention-millis:600000}") long historyRetentionMillis) {
+        if (bufferSize < 1 || historySize < 1) throw new IllegalArgumentException("buffer and history size must be positive");
+        if (historyRetentionMillis < 1) throw new IllegalArgumentException("history retention must be positive");
+        this.tableStateRegistry = tableStateRegistry;
+        this.shuffleService = shuffleService;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.historySize = historySize;
+        this.historyRetentionMillis = historyRetentionMillis;
+        this.sender = Executors.newScheduledThreadPool(2, runnable -> {
+            var thread = new Thread(runnable, "table-updates");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sender.scheduleWithFixedDelay(() -> expireHistories(System.currentTimeMillis()),
+                historyRetentionMillis, historyRetentionMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(UUID gameId) {
+        var subscriber = new Subscriber(gameId, new SseEmitter(timeoutMillis));
+        subscribers.computeIfAbsent(gameId, id -> new CopyOnWriteArraySet<>()).add(subscriber);
+        subscriber.emitter.onCompletion(subscriber::remove);
+        subscriber.emitter.onTimeout(subscriber::remove);
+        subscriber.emitter.onError(e -> subscriber.remove());
+        log.info("New subscriber for updates of game with id {}", gameId);
+        return subscriber.emitter;
+    }
+
+    /**
+     * Records and sends the state of a round after a change to it, once the surrounding transaction commits. Games
+     * that nobody follows on this instance are skipped, so their turns are never walked for an update.
+     *
+     * @param move the move that caused the change, or null when the change is not a move
+     */
+    public void publish(UUID gameId, Round round, Turn move) {
+        if (!isFollowed(gameId)) return;
+        Turn onMove = null;
+        int pot = 0;
+        for (var turn : round.getTurns()) {
+            if (turn.getMoveMade() == PlayerStatus.ON_MOVE) onMove = turn;
+            pot += turn.getMoneyGambled();
+        }
+        var table = tableStateRegistry.find(gameId, round.getId());
+        if (table.isPresent()) {
+            publish(table.get(), round, move, onMove);
+        } else {
+            deliver(gameId, toUpdate(gameId, round, move, onMove, pot, null));
+        }
+    }
+
+    /**
+     * Same as {@link #publish(UUID, Round, Turn)} for a move on a table in memory: the pot and the stacks are read from
+     * the table, so the turns of the round are not needed.
+     *
+     * @param onMove the turn that was put on move, or null when nobody is
+     */
+    public void publish(TableStateRegistry.LiveTable table, Round round, Turn move, Turn onMove) {
+        if (!isFollowed(table.gameId())) return;
+        var state = table.state();
+        var stacks = new LinkedHashMap<UUID, Integer>();
+        for (int seat = 0; seat < state.seats(); seat++) stacks.put(table.playerAt(seat).getId(), state.stack(seat));
+        deliver(table.gameId(), toUpdate(table.gameId(), round, move, onMove, state.pot(), stacks));
+    }
+
+    /**
+     * Latest version of a table; versions start from the time the table was first updated on this instance, so they
+     * keep increasing across restarts.
+     */
+    public long version(UUID gameId) {
+        var history = histories.get(gameId);
+        return history == null ? 0 : history.version();
+    }
+
+    /**
+     * @return the updates after the given version, or empty when they are no longer kept and the client needs the
+     * full state of the game
+     */
+    public Optional<List<TableUpdateDto>> since(UUID gameId, long version) {
+        var history = histories.get(gameId);
+        return history == null ? Optional.empty() : history.since(version);
+    }
+
+    public void forget(UUID gameId) {
+        histories.remove(gameId);
+    }
+
+    /**
+     * Drops the updates of every table that has been without subscribers for longer than the retention period.
+     */
+    void expireHistories(long nowMillis) {
+        histories.forEach((gameId, history) -> {
+            if (subscribers.containsKey(gameId)) {
+                history.followed(nowMillis);
+            } else if (nowMillis - history.followedAt() > historyRetentionMillis) {
+                histories.remove(gameId, history);
+                log.info("Dropped the updates of game with id {} after {} ms without subscribers", gameId, historyRetentionMillis);
+            }
+        });
+    }
+
+    void unsubscribeAll(UUID gameId) {
+        subscribers.getOrDefault(gameId, Set.of()).forEach(Subscriber::remove);
+    }
+
+    public int subscriberCount(UUID gameId) {
+        var gameSubscribers = subscribers.get(gameId);
+        return gameSubscribers == null ? 0 : gameSubscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdown();
+    }
+
+    private boolean isFollowed(UUID gameId) {
+        return subscribers.containsKey(gameId) || histories.containsKey(gameId);
+    }
+
+    private void deliver(UUID gameId, TableUpdateDto unversioned) {
+        Runnable deliver = () -> {
+            var update = histories.computeIfAbsent(gameId, id -> new History()).append(unversioned);
+            subscribers.getOrDefault(gameId, Set.of()).forEach(subscriber -> subscriber.offer(update));
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver.run();
+                }
+            });
+        } else {
+            deliver.run();
+        }
+    }
+
+    private TableUpdateDto toUpdate(UUID gameId, Round round, Turn move, Turn onMove, int pot, Map<UUID, Integer> stacks) {
+        var communityCards = round.getCommunityCards() == null ? null : round.getCommunityCards().stream()
+                .map(card -> new CardDto(card.getId(), card.getSuit(), card.getRank()))
+                .toList();
+        return new TableUpdateDto(0, gameId, round.getId(), round.getPhase(),
+                move == null || move.getPlayer() == null ? null : move.getPlayer().getId(),
+                move == null ? null : move.getMoveMade(),
+                move == null ? 0 : move.getMoneyGambled(),
+                pot, stacks, communityCards,
+                onMove == null || onMove.getPlayer() == null ? null : onMove.getPlayer().getId(),
+                onMove == null ? null : onMove.getId(),
+                shuffleService.commitment(round), shuffleService.revealedSeed(round));
+    }
+
+    private final class History {
+        private final TableUpdateDto[] updates = new TableUpdateDto[historySize];
+        private final long firstVersion = System.currentTimeMillis() * 1000;
+        private long version = firstVersion - 1;
+        private volatile long followedAt = System.currentTimeMillis();
+
+        void followed(long nowMillis) {
+            followedAt = nowMillis;
+        }
+
+        long followedAt() {
+            return followedAt;
+        }
+
+        synchronized TableUpdateDto append(TableUpdateDto update) {
+            var versioned = update.withVersion(++version);
+            updates[(int) (version % historySize)] = versioned;
+            return versioned;
+        }
+
+        synchronized long version() {
+            return version;
+        }
+
+        synchronized Optional<List<TableUpdateDto>> since(long known) {
+            long oldest = Math.max(firstVersion, version - historySize + 1);
+            if (known > version || known < oldest - 1) return Optional.empty();
+            var missed = new ArrayList<TableUpdateDto>((int) (version - known));
+            for (long v = known + 1; v <= version; v++) missed.add(updates[(int) (v % historySize)]);
+            return Optional.of(missed);
+        }
+    }
+
+    private final class Subscriber {
+        private final UUID gameId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<TableUpdateDto> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Subscriber(UUID gameId, SseEmitter emitter) {
+            this.gameId = gameId;
+            this.emitter = emitter;
+        }
+
+        void offer(TableUpdateDto update) {
+            if (!buffer.offer(update)) {
+                log.info("Disconnecting slow subscriber of game with id {}", gameId);
+                remove();
+                emitter.complete();
+                return;
+            }
+            if (scheduled.compareAndSet(false, true)) sender.execute(this::drain);
+        }
+
+        private void drain() {
+            try {
+                for (var update = buffer.poll(); update != null; update = buffer.poll()) {
+                    emitter.send(SseEmitter.event().name(EVENT_NAME).data(update));
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.info("Unable to send update of game with id {}, removing subscriber: {}", gameId, e.getMessage());
+                remove();
+            } finally {
+                scheduled.set(false);
+                if (!buffer.isEmpty() && subscribers.getOrDefault(gameId, Set.of()).contains(this)
+                        && scheduled.compareAndSet(false, true)) {
+                    sender.execute(this::drain);
+                }
+            }
+        }
+
+        void remove() {
+            subscribers.computeIfPresent(gameId, (id, gameSubscribers) -> {
+                gameSubscribers.remove(this);
+                return gameSubscribers.isEmpty() ? null : gameSubscribers;
+            });
+            var history = histories.get(gameId);
+            if (history != null) history.followed(System.currentTimeMillis());
+        }
+    }
+}
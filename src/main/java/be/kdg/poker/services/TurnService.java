@@ -29,13 +29,15 @@ public class TurnService {
     private final PlayerService playerService;
     private final RoundRepository roundRepository;
     private final EventService eventService;
+    private final TurnTimeoutScheduler turnTimeoutScheduler;
 
-    public TurnService(TurnRepository turnRepository, PlayerRepository playerRepository, PlayerService playerService, RoundRepository roundRepository, EventService eventService) {
+    public TurnService(TurnRepository turnRepository, PlayerRepository playerRepository, PlayerService playerService, RoundRepository roundRepository, EventService eventService, TurnTimeoutScheduler turnTimeoutScheduler) {
         this.turnRepository = turnRepository;
         this.playerRepository = playerRepository;
         this.playerService = playerService;
         this.roundRepository = roundRepository;
         this.eventService = eventService;
+        this.turnTimeoutScheduler = turnTimeoutScheduler;
     }
 
     @Transactional
@@ -51,7 +53,9 @@ public class TurnService {
         List<Turn> roundTurns = round.getTurns();
         roundTurns.add(newTurn);
         round.setTurns(roundTurns);
-        return turnRepository.save(newTurn);
+        Turn savedTurn = turnRepository.save(newTurn);
+        turnTimeoutScheduler.schedule(savedTurn, game);
+        return savedTurn;
     }
 
 
@@ -147,8 +151,7 @@ public class TurnService {
             bigBlindPlayer.setMoney(bigBlindPlayer.getMoney() - settings.getBigBlind());
         }
 
-        turnRepository.save(smallBlindTurn);
-        turnRepository.save(bigBlindTurn);
+        turnRepository.saveAll(List.of(smallBlindTurn, bigBlindTurn));
 
         playerRepository.saveAll(List.of(smallBlindPlayer, bigBlindPlayer));
 
@@ -158,10 +161,10 @@ public class TurnService {
     @Transactional
     public void createAndSaveInitialTurns(Round round, Game game) {
         addSmallAndBigBlindsToRound(round, game);
-        addFirstPlayer(round, game, turnRepository, roundRepository);
+        turnTimeoutScheduler.schedule(addFirstPlayer(round, game, turnRepository, roundRepository), game);
     }
 
-    static void addFirstPlayer(Round round, Game game, TurnRepository turnRepository, RoundRepository roundRepository) {
+    static Turn addFirstPlayer(Round round, Game game, TurnRepository turnRepository, RoundRepository roundRepository) {
         List<Player> players = new ArrayList<>(game.getPlayers());
         players.sort(Comparator.comparing(Player::getPosition));
         Player firstPlayer = players.get((round.getDealerIndex() + 3) % players.size());
@@ -169,6 +172,7 @@ public class TurnService {
         turnRepository.save(turn);
         round.getTurns().add(turn);
         roundRepository.save(round);
+        return turn;
     }
 
     public TurnDto mapToDtoWithPlayerAndRound(Turn turn) {
@@ -213,9 +217,9 @@ public class TurnService {
     }
 
     public Optional<Integer> calculateTimeRemaining(UUID id) {
-        return turnRepository.findById(id).map(turn -> {
-            var timerExpires = turn.getCreatedAt().plusSeconds(60);
+        return turnTimeoutScheduler.remainingSeconds(id).or(() -> turnRepository.findById(id).map(turn -> {
+            var timerExpires = turn.getCreatedAt().plusSeconds(turnTimeoutScheduler.turnSeconds());
             return (int) Duration.between(LocalDateTime.now(), timerExpires).getSeconds();
-                });
+        }));
     }
 }
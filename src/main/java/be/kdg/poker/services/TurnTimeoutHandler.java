@@ -0,0 +1,30 @@
+package be.kdg.poker.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Makes the move for a player whose turn timer expired, queued on the actor of the table like any other move.
+ */
+@Service
+@Slf4j
+public class TurnTimeoutHandler {
+    private final RoundService roundService;
+    private final TableActors tableActors;
+
+    public TurnTimeoutHandler(TurnTimeoutScheduler turnTimeoutScheduler, RoundService roundService, TableActors tableActors) {
+        this.roundService = roundService;
+        this.tableActors = tableActors;
+        turnTimeoutScheduler.onExpiry(this::handle);
+    }
+
+    void handle(TurnTimeoutScheduler.TurnDeadline deadline) {
+        log.info("Turn with id {} of game with id {} timed out", deadline.turnId(), deadline.gameId());
+        tableActors.submit(deadline.gameId(), () -> {
+            roundService.handleTurnTimeout(deadline.turnId(), deadline.gameId(), deadline.roundId());
+            return null;
+        }).whenComplete((result, e) -> {
+            if (e != null) log.error("Unable to end the timed out turn with id {}", deadline.turnId(), e);
+        });
+    }
+}
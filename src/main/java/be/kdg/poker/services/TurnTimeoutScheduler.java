@@ -0,0 +1,150 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.domain.Game;
+import be.kdg.poker.domain.Turn;
+import be.kdg.poker.engine.TimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the deadline of every turn that is on move in a {@link TimingWheel} driven by a single ticking thread. The
+ * remaining time of a turn is read from memory, a move cancels its deadline once its transaction commits, and expired
+ * deadlines are handed to the registered listener.
+ */
+@Service
+@Slf4j
+public class TurnTimeoutScheduler {
+    private final int turnSeconds;
+    private final long tickNanos;
+    private final long startNanos = System.nanoTime();
+    private final TimingWheel<TurnDeadline> wheel = new TimingWheel<>(0);
+    private final Map<UUID, TimingWheel.Timeout<TurnDeadline>> timeouts = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService ticker;
+    private volatile Consumer<TurnDeadline> listener = deadline -> {
+    };
+
+    public TurnTimeoutScheduler(@Value("${poker.turn.timer.seconds:60}") int turnSeconds,
+                                @Value("${poker.turn.timer.tick-millis:250}") int tickMillis) {
+        if (turnSeconds < 1 || tickMillis < 1) throw new IllegalArgumentException("turn timer settings must be positive");
+        this.turnSeconds = turnSeconds;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "turn-timeouts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts the timer of a turn that was put on move. Only games with the timer setting enabled act on it when it
+     * expires; other games only use it for the remaining time.
+     */
+    public void schedule(Turn turn, Game game) {
+        if (turn == null || turn.getId() == null || game == null || turn.getRound() == null) return;
+        boolean enforced = game.getSettings() != null && game.getSettings().isTimer();
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(turnSeconds);
+        var deadline = new TurnDeadline(turn.getId(), game.getId(), turn.getRound().getId(), deadlineNanos, enforced);
+
+        synchronized (wheel) {
+            var previous = timeouts.put(turn.getId(), wheel.schedule(tickOf(deadlineNanos), deadline));
+            if (previous != null) wheel.cancel(previous);
+        }
+    }
+
+    /**
+     * Stops the timer of a turn once the current transaction commits, so a move that is rejected or rolled back keeps
+     * its deadline.
+     */
+    public void cancel(UUID turnId) {
+        afterCommit(() -> {
+            var timeout = timeouts.remove(turnId);
+            if (timeout != null) cancel(timeout);
+        });
+    }
+
+    /**
+     * Stops the timers of every turn of a round once the current transaction commits.
+     */
+    public void cancelRound(UUID roundId) {
+        afterCommit(() -> timeouts.values().removeIf(timeout -> {
+            if (!timeout.value().roundId().equals(roundId)) return false;
+            cancel(timeout);
+            return true;
+        }));
+    }
+
+    /**
+     * @return the seconds left for a turn whose timer runs on this instance
+     */
+    public Optional<Integer> remainingSeconds(UUID turnId) {
+        return Optional.ofNullable(timeouts.get(turnId))
+                .map(timeout -> (int) TimeUnit.NANOSECONDS.toSeconds(timeout.value().deadlineNanos() - System.nanoTime()));
+    }
+
+    public int turnSeconds() {
+        return turnSeconds;
+    }
+
+    public void onExpiry(Consumer<TurnDeadline> listener) {
+        this.listener = listener;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdown();
+    }
+
+    private void tick() {
+        var expired = new ArrayList<TurnDeadline>();
+        synchronized (wheel) {
+            wheel.advance((System.nanoTime() - startNanos) / tickNanos, expired::add);
+        }
+        for (var deadline : expired) {
+            timeouts.computeIfPresent(deadline.turnId(), (turnId, timeout) -> timeout.value() == deadline ? null : timeout);
+            try {
+                if (deadline.enforced()) listener.accept(deadline);
+            } catch (RuntimeException e) {
+                log.error("Handling the timeout of turn with id {} failed", deadline.turnId(), e);
+            }
+        }
+    }
+
+    private void cancel(TimingWheel.Timeout<TurnDeadline> timeout) {
+        synchronized (wheel) {
+            wheel.cancel(timeout);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private long tickOf(long nanos) {
+        long elapsed = nanos - startNanos;
+        return (elapsed + tickNanos - 1) / tickNanos;
+    }
+
+    public record TurnDeadline(UUID turnId, UUID gameId, UUID roundId, long deadlineNanos, boolean enforced) {
+    }
+}
@@ -30,33 +30,34 @@ VALUES
 
 INSERT INTO card (rank, suit, id)
 VALUES
+    -- the id of a card is its code (suit * 13 + rank - 2) plus one, as in CardCodec.id
     -- Hearts (Suit = 0)
-    (2, 0, gen_random_uuid()), (3, 0, gen_random_uuid()), (4, 0, gen_random_uuid()),
-    (5, 0, gen_random_uuid()), (6, 0, gen_random_uuid()), (7, 0, gen_random_uuid()),
-    (8, 0, gen_random_uuid()), (9, 0, gen_random_uuid()), (10, 0, gen_random_uuid()),
-    (11, 0, gen_random_uuid()), (12, 0, gen_random_uuid()), (13, 0, gen_random_uuid()),
-    (14, 0, gen_random_uuid()),
+    (2, 0, '00000000-0000-0000-0000-000000000001'), (3, 0, '00000000-0000-0000-0000-000000000002'), (4, 0, '00000000-0000-0000-0000-000000000003'),
+    (5, 0, '00000000-0000-0000-0000-000000000004'), (6, 0, '00000000-0000-0000-0000-000000000005'), (7, 0, '00000000-0000-0000-0000-000000000006'),
+    (8, 0, '00000000-0000-0000-0000-000000000007'), (9, 0, '00000000-0000-0000-0000-000000000008'), (10, 0, '00000000-0000-0000-0000-000000000009'),
+    (11, 0, '00000000-0000-0000-0000-00000000000a'), (12, 0, '00000000-0000-0000-0000-00000000000b'), (13, 0, '00000000-0000-0000-0000-00000000000c'),
+    (14, 0, '00000000-0000-0000-0000-00000000000d'),
 
     -- Diamonds (Suit = 1)
-    (2, 1, gen_random_uuid()), (3, 1, gen_random_uuid()), (4, 1, gen_random_uuid()),
-    (5, 1, gen_random_uuid()), (6, 1, gen_random_uuid()), (7, 1, gen_random_uuid()),
-    (8, 1, gen_random_uuid()), (9, 1, gen_random_uuid()), (10, 1, gen_random_uuid()),
-    (11, 1, gen_random_uuid()), (12, 1, gen_random_uuid()), (13, 1, gen_random_uuid()),
-    (14, 1, gen_random_uuid()),
+    (2, 1, '00000000-0000-0000-0000-00000000000e'), (3, 1, '00000000-0000-0000-0000-00000000000f'), (4, 1, '00000000-0000-0000-0000-000000000010'),
+    (5, 1, '00000000-0000-0000-0000-000000000011'), (6, 1, '00000000-0000-0000-0000-000000000012'), (7, 1, '00000000-0000-0000-0000-000000000013'),
+    (8, 1, '00000000-0000-0000-0000-000000000014'), (9, 1, '00000000-0000-0000-0000-000000000015'), (10, 1, '00000000-0000-0000-0000-000000000016'),
+    (11, 1, '00000000-0000-0000-0000-000000000017'), (12, 1, '00000000-0000-0000-0000-000000000018'), (13, 1, '00000000-0000-0000-0000-000000000019'),
+    (14, 1, '00000000-0000-0000-0000-00000000001a'),
 
     -- Clubs (Suit = 2)
-    (2, 2, gen_random_uuid()), (3, 2, gen_random_uuid()), (4, 2, gen_random_uuid()),
-    (5, 2, gen_random_uuid()), (6, 2, gen_random_uuid()), (7, 2, gen_random_uuid()),
-    (8, 2, gen_random_uuid()), (9, 2, gen_random_uuid()), (10, 2, gen_random_uuid()),
-    (11, 2, gen_random_uuid()), (12, 2, gen_random_uuid()), (13, 2, gen_random_uuid()),
-    (14, 2, gen_random_uuid()),
+    (2, 2, '00000000-0000-0000-0000-00000000001b'), (3, 2, '00000000-0000-0000-0000-00000000001c'), (4, 2, '00000000-0000-0000-0000-00000000001d'),
+    (5, 2, '00000000-0000-0000-0000-00000000001e'), (6, 2, '00000000-0000-0000-0000-00000000001f'), (7, 2, '00000000-0000-0000-0000-000000000020'),
+    (8, 2, '00000000-0000-0000-0000-000000000021'), (9, 2, '00000000-0000-0000-0000-000000000022'), (10, 2, '00000000-0000-0000-0000-000000000023'),
+    (11, 2, '00000000-0000-0000-0000-000000000024'), (12, 2, '00000000-0000-0000-0000-000000000025'), (13, 2, '00000000-0000-0000-0000-000000000026'),
+    (14, 2, '00000000-0000-0000-0000-000000000027'),
 
     -- Spades (Suit = 3)
-    (2, 3, gen_random_uuid()), (3, 3, gen_random_uuid()), (4, 3, gen_random_uuid()),
-    (5, 3, gen_random_uuid()), (6, 3, gen_random_uuid()), (7, 3, gen_random_uuid()),
-    (8, 3, gen_random_uuid()), (9, 3, gen_random_uuid()), (10, 3, gen_random_uuid()),
-    (11, 3, gen_random_uuid()), (12, 3, gen_random_uuid()), (13, 3, gen_random_uuid()),
-    (14, 3, gen_random_uuid());
+    (2, 3, '00000000-0000-0000-0000-000000000028'), (3, 3, '00000000-0000-0000-0000-000000000029'), (4, 3, '00000000-0000-0000-0000-00000000002a'),
+    (5, 3, '00000000-0000-0000-0000-00000000002b'), (6, 3, '00000000-0000-0000-0000-00000000002c'), (7, 3, '00000000-0000-0000-0000-00000000002d'),
+    (8, 3, '00000000-0000-0000-0000-00000000002e'), (9, 3, '00000000-0000-0000-0000-00000000002f'), (10, 3, '00000000-0000-0000-0000-000000000030'),
+    (11, 3, '00000000-0000-0000-0000-000000000031'), (12, 3, '00000000-0000-0000-0000-000000000032'), (13, 3, '00000000-0000-0000-0000-000000000033'),
+    (14, 3, '00000000-0000-0000-0000-000000000034');
 
 -- Seed data for account
 INSERT INTO account (level, active_avatar_id, id, email, username, name, age, city, gender, poker_points)
@@ -178,27 +179,27 @@ insert into notification(id, timestamp, message, account_id, type, sender, game_
     ('09e58459-86af-4cd6-9e42-055f5d652831', NOW(), 'Robbe has invited you to game', (SELECT id FROM account WHERE username = 'PlayerOne' LIMIT 1), 'InviteNotification', (SELECT username FROM account WHERE username = 'robbe'), (SELECT id FROM game WHERE name = 'Game 1' LIMIT 1));
 
 -- Seed data for player
-INSERT INTO player (id, money, game_id, position, account_id, username)
-VALUES ('fbe9bdbf-4329-4fea-9bed-0449d5677804', 500, (SELECT id FROM game WHERE name = 'Game 1' LIMIT 1), 0, (SELECT id FROM account WHERE email = 'player1@example.com'), (SELECT username FROM account WHERE email = 'player1@example.com')),
-       (gen_random_uuid(), 500, (SELECT id FROM game WHERE name = 'Game 1' LIMIT 1), 1, (SELECT id FROM account WHERE email = 'player2@example.com'), (SELECT username FROM account WHERE email = 'player2@example.com')),
-       (gen_random_uuid(), 1000, (SELECT id FROM game WHERE name = 'Game 2' LIMIT 1), 0, (SELECT id FROM account WHERE email = 'player3@example.com'), (SELECT username FROM account WHERE email = 'player3@example.com')),
-       (gen_random_uuid(), 650, (SELECT id FROM game WHERE name = 'Game 2' LIMIT 1), 1, (SELECT id FROM account WHERE email = 'player1@example.com'), (SELECT username FROM account WHERE email = 'player1@example.com')),
-       (gen_random_uuid(), 601, (SELECT id FROM game WHERE name = 'Game 2' LIMIT 1), 2, (SELECT id FROM account WHERE email = 'player2@example.com'), (SELECT username FROM account WHERE email = 'player2@example.com')),
-       (gen_random_uuid(), 1200, (SELECT id FROM game WHERE name = 'Game 2' LIMIT 1), 3, (SELECT id FROM account WHERE email = 'robbe.vanosselaer@student.kdg.be'), (SELECT username FROM account WHERE email = 'robbe.vanosselaer@student.kdg.be')),
-       (gen_random_uuid(), 1000, (SELECT id FROM game WHERE name = 'Game 3' LIMIT 1), 0, (SELECT id FROM account WHERE email = 'player1@example.com'), (SELECT username FROM account WHERE email = 'player1@example.com')),
-       (gen_random_uuid(), 810, (SELECT id FROM game WHERE name = 'Game 3' LIMIT 1), 1, (SELECT id FROM account WHERE email = 'player2@example.com'), (SELECT username FROM account WHERE email = 'player2@example.com')),
-       (gen_random_uuid(), 10, (SELECT id FROM game WHERE name = 'Game 4' LIMIT 1), 0, (SELECT id FROM account WHERE email = 'player1@example.com'), (SELECT username FROM account WHERE email = 'player1@example.com')),
-       (gen_random_uuid(), 25, (SELECT id FROM game WHERE name = 'Game 4' LIMIT 1), 1, (SELECT id FROM account WHERE email = 'player2@example.com'), (SELECT username FROM account WHERE email = 'player2@example.com')),
-       (gen_random_uuid(), 100, (SELECT id FROM game WHERE name = 'Game 4' LIMIT 1), 2, (SELECT id FROM account WHERE email = 'player3@example.com'), (SELECT username FROM account WHERE email = 'player3@example.com')),
-       (gen_random_uuid(), 1910, (SELECT id FROM game WHERE name = 'Game 5' LIMIT 1), 0, (SELECT id FROM account WHERE email = 'player2@example.com'), (SELECT username FROM account WHERE email = 'player2@example.com')),
-       (gen_random_uuid(), 1920, (SELECT id FROM game WHERE name = 'Game 6' LIMIT 1), 0, (SELECT id FROM account WHERE email = 'player1@example.com'), (SELECT username FROM account WHERE email = 'player1@example.com')),
-       ('b6a8c818-5486-47ea-8eca-3c9aad524edf', 10000, (SELECT id FROM game WHERE name = 'Game 7' LIMIT 1), 0, (SELECT id FROM account WHERE email = 'player1@example.com'), (SELECT username FROM account WHERE email = 'player1@example.com')),
-       ('a67a46f6-550f-4aaf-b2ee-adb0446db889', 11000, (SELECT id FROM game WHERE name = 'Game 7' LIMIT 1), 1, (SELECT id FROM account WHERE email = 'player2@example.com'), (SELECT username FROM account WHERE email = 'player2@example.com')),
-       ('bbc1734a-f56c-4392-a83a-b7587787f727', 8000, (SELECT id FROM game WHERE name = 'Game 8' LIMIT 1), 0, (SELECT id FROM account WHERE email = 'player1@example.com'), (SELECT username FROM account WHERE email = 'player1@example.com')),
-       ('be264183-a2b9-4b90-8fb4-84840a21d011', 9000, (SELECT id FROM game WHERE name = 'Game 8' LIMIT 1), 1, (SELECT id FROM account WHERE email = 'player2@example.com'), (SELECT username FROM account WHERE email = 'player2@example.com')),
-       ('a54a46f6-550f-4aaf-b2ee-adb0446db889', 300, (SELECT id FROM game WHERE name = 'Ended game' LIMIT 1), 1, (SELECT id FROM account WHERE email = 'player1@example.com'), (SELECT username FROM account WHERE email = 'player1@example.com')),
-       (gen_random_uuid(), 456, (SELECT id FROM game WHERE name = 'Game 9' LIMIT 1), 1, (SELECT id FROM account WHERE email = 'player1@example.com'), (SELECT username FROM account WHERE email = 'player1@example.com')),
-       (gen_random_uuid(), 465, (SELECT id FROM game WHERE name = 'Game 9' LIMIT 1), 1, (SELECT id FROM account WHERE email = 'player2@example.com'), (SELECT username FROM account WHERE email = 'player2@example.com'));
+INSERT INTO player (id, money, game_id, position, account_id, username, hand)
+VALUES ('fbe9bdbf-4329-4fea-9bed-0449d5677804', 500, (SELECT id FROM game WHERE name = 'Game 1' LIMIT 1), 0, (SELECT id FROM account WHERE email = 'player1@example.com'), (SELECT username FROM account WHERE email = 'player1@example.com'), decode('00', 'hex')),
+       (gen_random_uuid(), 500, (SELECT id FROM game WHERE name = 'Game 1' LIMIT 1), 1, (SELECT id FROM account WHERE email = 'player2@example.com'), (SELECT username FROM account WHERE email = 'player2@example.com'), decode('15', 'hex')),
+       (gen_random_uuid(), 1000, (SELECT id FROM game WHERE name = 'Game 2' LIMIT 1), 0, (SELECT id FROM account WHERE email = 'player3@example.com'), (SELECT username FROM account WHERE email = 'player3@example.com'), decode('1d', 'hex')),
+       (gen_random_uuid(), 650, (SELECT id FROM game WHERE name = 'Game 2' LIMIT 1), 1, (SELECT id FROM account WHERE email = 'player1@example.com'), (SELECT username FROM account WHERE email = 'player1@example.com'), NULL),
+       (gen_random_uuid(), 601, (SELECT id FROM game WHERE name = 'Game 2' LIMIT 1), 2, (SELECT id FROM account WHERE email = 'player2@example.com'), (SELECT username FROM account WHERE email = 'player2@example.com'), NULL),
+       (gen_random_uuid(), 1200, (SELECT id FROM game WHERE name = 'Game 2' LIMIT 1), 3, (SELECT id FROM account WHERE email = 'robbe.vanosselaer@student.kdg.be'), (SELECT username FROM account WHERE email = 'robbe.vanosselaer@student.kdg.be'), NULL),
+       (gen_random_uuid(), 1000, (SELECT id FROM game WHERE name = 'Game 3' LIMIT 1), 0, (SELECT id FROM account WHERE email = 'player1@example.com'), (SELECT username FROM account WHERE email = 'player1@example.com'), NULL),
+       (gen_random_uuid(), 810, (SELECT id FROM game WHERE name = 'Game 3' LIMIT 1), 1, (SELECT id FROM account WHERE email = 'player2@example.com'), (SELECT username FROM account WHERE email = 'player2@example.com'), NULL),
+       (gen_random_uuid(), 10, (SELECT id FROM game WHERE name = 'Game 4' LIMIT 1), 0, (SELECT id FROM account WHERE email = 'player1@example.com'), (SELECT username FROM account WHERE email = 'player1@example.com'), decode('2e14', 'hex')),
+       (gen_random_uuid(), 25, (SELECT id FROM game WHERE name = 'Game 4' LIMIT 1), 1, (SELECT id FROM account WHERE email = 'player2@example.com'), (SELECT username FROM account WHERE email = 'player2@example.com'), decode('2f0e', 'hex')),
+       (gen_random_uuid(), 100, (SELECT id FROM game WHERE name = 'Game 4' LIMIT 1), 2, (SELECT id FROM account WHERE email = 'player3@example.com'), (SELECT username FROM account WHERE email = 'player3@example.com'), decode('2421', 'hex')),
+       (gen_random_uuid(), 1910, (SELECT id FROM game WHERE name = 'Game 5' LIMIT 1), 0, (SELECT id FROM account WHERE email = 'player2@example.com'), (SELECT username FROM account WHERE email = 'player2@example.com'), NULL),
+       (gen_random_uuid(), 1920, (SELECT id FROM game WHERE name = 'Game 6' LIMIT 1), 0, (SELECT id FROM account WHERE email = 'player1@example.com'), (SELECT username FROM account WHERE email = 'player1@example.com'), NULL),
+       ('b6a8c818-5486-47ea-8eca-3c9aad524edf', 10000, (SELECT id FROM game WHERE name = 'Game 7' LIMIT 1), 0, (SELECT id FROM account WHERE email = 'player1@example.com'), (SELECT username FROM account WHERE email = 'player1@example.com'), decode('060f', 'hex')),
+       ('a67a46f6-550f-4aaf-b2ee-adb0446db889', 11000, (SELECT id FROM game WHERE name = 'Game 7' LIMIT 1), 1, (SELECT id FROM account WHERE email = 'player2@example.com'), (SELECT username FROM account WHERE email = 'player2@example.com'), decode('0714', 'hex')),
+       ('bbc1734a-f56c-4392-a83a-b7587787f727', 8000, (SELECT id FROM game WHERE name = 'Game 8' LIMIT 1), 0, (SELECT id FROM account WHERE email = 'player1@example.com'), (SELECT username FROM account WHERE email = 'player1@example.com'), decode('060f', 'hex')),
+       ('be264183-a2b9-4b90-8fb4-84840a21d011', 9000, (SELECT id FROM game WHERE name = 'Game 8' LIMIT 1), 1, (SELECT id FROM account WHERE email = 'player2@example.com'), (SELECT username FROM account WHERE email = 'player2@example.com'), decode('0714', 'hex')),
+       ('a54a46f6-550f-4aaf-b2ee-adb0446db889', 300, (SELECT id FROM game WHERE name = 'Ended game' LIMIT 1), 1, (SELECT id FROM account WHERE email = 'player1@example.com'), (SELECT username FROM account WHERE email = 'player1@example.com'), NULL),
+       (gen_random_uuid(), 456, (SELECT id FROM game WHERE name = 'Game 9' LIMIT 1), 1, (SELECT id FROM account WHERE email = 'player1@example.com'), (SELECT username FROM account WHERE email = 'player1@example.com'), NULL),
+       (gen_random_uuid(), 465, (SELECT id FROM game WHERE name = 'Game 9' LIMIT 1), 1, (SELECT id FROM account WHERE email = 'player2@example.com'), (SELECT username FROM account WHERE email = 'player2@example.com'), NULL);
 
 -- Update the game to set the winner_id
 UPDATE game
@@ -215,82 +216,26 @@ VALUES
     ((SELECT id FROM account WHERE email = 'player2@example.com' LIMIT 1), (SELECT id FROM player WHERE money = 25 LIMIT 1)),
     ((SELECT id FROM account WHERE email = 'player3@example.com' LIMIT 1), (SELECT id FROM player WHERE money = 100 LIMIT 1));
 
--- Seed data for player_hand
-INSERT INTO player_hand (hand_id, player_id)
-VALUES
-    ((SELECT id FROM card WHERE rank = 2 AND suit = 0 LIMIT 1), (SELECT id FROM player WHERE money = 500 LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 10 AND suit = 1 LIMIT 1), (SELECT id FROM player WHERE money = 500 OFFSET 1 LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 5 AND suit = 2 LIMIT 1), (SELECT id FROM player WHERE money = 1000 LIMIT 1)),
-
-    ((SELECT id FROM card WHERE rank = 9 AND suit = 3 LIMIT 1), (SELECT id FROM player WHERE money = 10 LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 9 AND suit = 1 LIMIT 1), (SELECT id FROM player WHERE money = 10 LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 10 AND suit = 3 LIMIT 1), (SELECT id FROM player WHERE money = 25 LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 3 AND suit = 1 LIMIT 1), (SELECT id FROM player WHERE money = 25 LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 12 AND suit = 2 LIMIT 1), (SELECT id FROM player WHERE money = 100 LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 9 AND suit = 2 LIMIT 1), (SELECT id FROM player WHERE money = 100 LIMIT 1)),
-
-       ((SELECT id FROM card WHERE rank = 8 AND suit = 0 LIMIT 1), (SELECT id FROM player WHERE money = 10000 LIMIT 1)),
-       ((SELECT id FROM card WHERE rank = 4 AND suit = 1 LIMIT 1), (SELECT id FROM player WHERE money = 10000 LIMIT 1)),
-       ((SELECT id FROM card WHERE rank = 9 AND suit = 0 LIMIT 1), (SELECT id FROM player WHERE money = 11000 LIMIT 1)),
-       ((SELECT id FROM card WHERE rank = 9 AND suit = 1 LIMIT 1), (SELECT id FROM player WHERE money = 11000 LIMIT 1)),
-
-       ((SELECT id FROM card WHERE rank = 8 AND suit = 0 LIMIT 1), (SELECT id FROM player WHERE money = 8000 LIMIT 1)),
-       ((SELECT id FROM card WHERE rank = 4 AND suit = 1 LIMIT 1), (SELECT id FROM player WHERE money = 8000 LIMIT 1)),
-       ((SELECT id FROM card WHERE rank = 9 AND suit = 0 LIMIT 1), (SELECT id FROM player WHERE money = 9000 LIMIT 1)),
-       ((SELECT id FROM card WHERE rank = 9 AND suit = 1 LIMIT 1), (SELECT id FROM player WHERE money = 9000 LIMIT 1));
 
 
 -- Seed data for round
-INSERT INTO round (id, phase, game_id, dealer_index, created_at)
-VALUES ('668bbee6-eeca-4123-a5d5-a3217f96c26a', 1, (SELECT id FROM game WHERE name = 'Game 1' LIMIT 1), 0, NOW()),
-       (gen_random_uuid(), 0, (SELECT id FROM game WHERE name = 'Game 2' LIMIT 1), 0, NOW()),
-       (gen_random_uuid(), 2, (SELECT id FROM game WHERE name = 'Game 3' LIMIT 1), 0, NOW()),
-       ('0e6ea81f-5527-4aef-98cb-2afb233fd8af', 4, (SELECT id FROM game WHERE name = 'Game 4' LIMIT 1), 0, NOW()),
-       (gen_random_uuid(), 0, (SELECT id FROM game WHERE name = 'Game 5' LIMIT 1), 0, NOW()),
-       ('cccf7b01-4f8e-4c18-ae6b-3af5c663dfb6', 3, (SELECT id FROM game WHERE name = 'Game 6' LIMIT 1), 0, NOW()),
-       ('c01cc034-0d9f-4319-8091-0672b528f942', 4, (SELECT id FROM game WHERE name = 'Game 7' LIMIT 1), 0, NOW()),
-       ('33c7aef3-c4bc-4235-a4b4-74b305d84c33', 4, (SELECT id FROM game WHERE name = 'Game 8' LIMIT 1), 1, NOW()),
-       (gen_random_uuid(), 3, (SELECT id FROM game WHERE name = 'Ended game' LIMIT 1), 0, NOW()),
-       ('61870bbf-7e8a-4157-b524-c8d4afb5aee4', 4, (SELECT id FROM game WHERE name ='Game 9' LIMIT 1), 1, NOW());
-
--- Seed data for round_community_cards
-INSERT INTO round_community_cards (community_cards_id, round_id)
-VALUES ((SELECT id FROM card WHERE rank = 2 AND suit = 0 LIMIT 1), (SELECT id FROM round WHERE phase = 1 LIMIT 1)),
-       ((SELECT id FROM card WHERE rank = 5 AND suit = 2 LIMIT 1), (SELECT id FROM round WHERE phase = 2 LIMIT 1)),
-
-       ((SELECT id FROM card WHERE rank = 13 AND suit = 2 LIMIT 1), (SELECT id FROM round WHERE phase = 4 LIMIT 1)),
-       ((SELECT id FROM card WHERE rank = 11 AND suit = 2 LIMIT 1), (SELECT id FROM round WHERE phase = 4 LIMIT 1)),
-       ((SELECT id FROM card WHERE rank = 10 AND suit = 2 LIMIT 1), (SELECT id FROM round WHERE phase = 4 LIMIT 1)),
-       ((SELECT id FROM card WHERE rank = 3 AND suit = 0 LIMIT 1), (SELECT id FROM round WHERE phase = 4 LIMIT 1)),
-       ((SELECT id FROM card WHERE rank = 2 AND suit = 1 LIMIT 1), (SELECT id FROM round WHERE phase = 4 LIMIT 1)),
-
-       ((SELECT id FROM card WHERE rank = 7 AND suit = 0 LIMIT 1), (SELECT id FROM round WHERE phase = 4 OFFSET 1 LIMIT 1)),
-       ((SELECT id FROM card WHERE rank = 7 AND suit = 1 LIMIT 1), (SELECT id FROM round WHERE phase = 4 OFFSET 1 LIMIT 1)),
-       ((SELECT id FROM card WHERE rank = 14 AND suit = 3 LIMIT 1), (SELECT id FROM round WHERE phase = 4 OFFSET 1 LIMIT 1)),
-       ((SELECT id FROM card WHERE rank = 3 AND suit = 3 LIMIT 1),(SELECT id FROM round WHERE phase = 4 OFFSET 1 LIMIT 1)),
-       ((SELECT id FROM card WHERE rank = 12 AND suit = 3 LIMIT 1), (SELECT id FROM round WHERE phase = 4 OFFSET 1 LIMIT 1)),
-
-       ((SELECT id FROM card WHERE rank = 2 AND suit = 0 LIMIT 1), (SELECT id FROM round WHERE phase = 4 OFFSET 2 LIMIT 1)),
-       ((SELECT id FROM card WHERE rank = 3 AND suit = 0 LIMIT 1), (SELECT id FROM round WHERE phase = 4 OFFSET 2 LIMIT 1)),
-       ((SELECT id FROM card WHERE rank = 4 AND suit = 0 LIMIT 1), (SELECT id FROM round WHERE phase = 4 OFFSET 2 LIMIT 1)),
-       ((SELECT id FROM card WHERE rank = 5 AND suit = 0 LIMIT 1), (SELECT id FROM round WHERE phase = 4 OFFSET 2 LIMIT 1)),
-       ((SELECT id FROM card WHERE rank = 6 AND suit = 0 LIMIT 1), (SELECT id FROM round WHERE phase = 4 OFFSET 2 LIMIT 1));
-
-insert into round_deck(deck_id, round_id)
-VALUES
-    ((SELECT id FROM card WHERE rank = 2 AND suit = 0 LIMIT 1), '668bbee6-eeca-4123-a5d5-a3217f96c26a'),
-    ((SELECT id FROM card WHERE rank = 3 AND suit = 0 LIMIT 1), '668bbee6-eeca-4123-a5d5-a3217f96c26a'),
-    ((SELECT id FROM card WHERE rank = 4 AND suit = 0 LIMIT 1), '668bbee6-eeca-4123-a5d5-a3217f96c26a'),
-    ((SELECT id FROM card WHERE rank = 5 AND suit = 0 LIMIT 1), '668bbee6-eeca-4123-a5d5-a3217f96c26a'),
-    ((SELECT id FROM card WHERE rank = 6 AND suit = 0 LIMIT 1), '668bbee6-eeca-4123-a5d5-a3217f96c26a'),
-    ((SELECT id FROM card WHERE rank = 7 AND suit = 0 LIMIT 1), '668bbee6-eeca-4123-a5d5-a3217f96c26a'),
-    ((SELECT id FROM card WHERE rank = 8 AND suit = 0 LIMIT 1), '668bbee6-eeca-4123-a5d5-a3217f96c26a'),
-    ((SELECT id FROM card WHERE rank = 9 AND suit = 0 LIMIT 1), '668bbee6-eeca-4123-a5d5-a3217f96c26a'),
-    ((SELECT id FROM card WHERE rank = 10 AND suit = 0 LIMIT 1), '668bbee6-eeca-4123-a5d5-a3217f96c26a'),
-    ((SELECT id FROM card WHERE rank = 11 AND suit = 0 LIMIT 1), '668bbee6-eeca-4123-a5d5-a3217f96c26a'),
-    ((SELECT id FROM card WHERE rank = 12 AND suit = 0 LIMIT 1), '668bbee6-eeca-4123-a5d5-a3217f96c26a'),
-    ((SELECT id FROM card WHERE rank = 13 AND suit = 0 LIMIT 1), '668bbee6-eeca-4123-a5d5-a3217f96c26a'),
-    ((SELECT id FROM card WHERE rank = 14 AND suit = 0 LIMIT 1), '668bbee6-eeca-4123-a5d5-a3217f96c26a');
+INSERT INTO round (id, phase, game_id, dealer_index, created_at, community_cards)
+VALUES ('668bbee6-eeca-4123-a5d5-a3217f96c26a', 1, (SELECT id FROM game WHERE name = 'Game 1' LIMIT 1), 0, NOW(), decode('00', 'hex')),
+       (gen_random_uuid(), 0, (SELECT id FROM game WHERE name = 'Game 2' LIMIT 1), 0, NOW(), NULL),
+       (gen_random_uuid(), 2, (SELECT id FROM game WHERE name = 'Game 3' LIMIT 1), 0, NOW(), decode('1d', 'hex')),
+       ('0e6ea81f-5527-4aef-98cb-2afb233fd8af', 4, (SELECT id FROM game WHERE name = 'Game 4' LIMIT 1), 0, NOW(), decode('252322010d', 'hex')),
+       (gen_random_uuid(), 0, (SELECT id FROM game WHERE name = 'Game 5' LIMIT 1), 0, NOW(), NULL),
+       ('cccf7b01-4f8e-4c18-ae6b-3af5c663dfb6', 3, (SELECT id FROM game WHERE name = 'Game 6' LIMIT 1), 0, NOW(), NULL),
+       ('c01cc034-0d9f-4319-8091-0672b528f942', 4, (SELECT id FROM game WHERE name = 'Game 7' LIMIT 1), 0, NOW(), decode('0512332831', 'hex')),
+       ('33c7aef3-c4bc-4235-a4b4-74b305d84c33', 4, (SELECT id FROM game WHERE name = 'Game 8' LIMIT 1), 1, NOW(), decode('0001020304', 'hex')),
+       (gen_random_uuid(), 3, (SELECT id FROM game WHERE name = 'Ended game' LIMIT 1), 0, NOW(), NULL),
+       ('61870bbf-7e8a-4157-b524-c8d4afb5aee4', 4, (SELECT id FROM game WHERE name ='Game 9' LIMIT 1), 1, NOW(), NULL);
+
+UPDATE round
+SET shuffle_seed       = decode('000102030405060708090a0b0c0d0e0f101112131415161718191a1b1c1d1e1f', 'hex'),
+    shuffle_commitment = decode('630dcd2966c4336691125448bbb25b4ff412a49c732db2c8abc1b8581bd710dd', 'hex'),
+    deck_cursor        = 0
+WHERE id = '668bbee6-eeca-4123-a5d5-a3217f96c26a';
 
 -- Seed data for turn
 INSERT INTO turn (id, move_made, money_gambled, player_id, round_id, created_at)
@@ -357,38 +302,6 @@ VALUES ((SELECT id FROM player WHERE money = 500 LIMIT 1), (SELECT id FROM turn
        ((SELECT id FROM player WHERE money = 465 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 0 OFFSET 8 LIMIT 1));
 
 
--- Seed data for round_turns
-INSERT INTO round_turns (round_id, turns_id)
-VALUES ((SELECT id FROM round WHERE phase = 1 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 100 LIMIT 1)),
-       ((SELECT id FROM round WHERE phase = 1 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 0 LIMIT 1)),
-
-       ((SELECT id FROM round WHERE phase = 2 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 200 LIMIT 1)),
-       ((SELECT id FROM round WHERE phase = 2 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 0 OFFSET 1 LIMIT 1)),
-
-       ((SELECT id FROM round WHERE phase = 4 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 10 LIMIT 1)),
-       ((SELECT id FROM round WHERE phase = 4 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 25 LIMIT 1)),
-       ((SELECT id FROM round WHERE phase = 4 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 25 OFFSET 1 LIMIT 1)),
-       ((SELECT id FROM round WHERE phase = 4 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 0 OFFSET 2 LIMIT 1)),
-
-       ((SELECT id FROM round WHERE phase = 4 OFFSET 1 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 110 LIMIT 1)),
-       ((SELECT id FROM round WHERE phase = 4 OFFSET 1 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 110 OFFSET 1 LIMIT 1)),
-       ((SELECT id FROM round WHERE phase = 4 OFFSET 1 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 0 OFFSET 3 LIMIT 1)),
-
-       ((SELECT id FROM round WHERE phase = 4 OFFSET 2 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 150 LIMIT 1)),
-       ((SELECT id FROM round WHERE phase = 4 OFFSET 2 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 150 OFFSET 1 LIMIT 1)),
-       ((SELECT id FROM round WHERE phase = 4 OFFSET 2 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 0 OFFSET 4 LIMIT 1)),
-
-       ((SELECT id FROM round WHERE phase = 0 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 0 OFFSET 5 LIMIT 1)),
-       ((SELECT id FROM round WHERE phase = 0 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 0 OFFSET 6 LIMIT 1)),
-
-       ((SELECT id FROM round WHERE phase = 0 OFFSET 1 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 100 OFFSET 1 LIMIT 1)),
-       ((SELECT id FROM round WHERE phase = 0 OFFSET 1 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 0 OFFSET 7 LIMIT 1)),
-
-       ((SELECT id FROM round WHERE phase = 3 OFFSET 1 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 5 LIMIT 1)),
-
-       ((SELECT id FROM round WHERE phase = 4 OFFSET 3 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 150 OFFSET 2 LIMIT 1)),
-       ((SELECT id FROM round WHERE phase = 4 OFFSET 3 LIMIT 1), (SELECT id FROM turn WHERE money_gambled = 0 OFFSET 8 LIMIT 1));
-
 
 INSERT INTO game_message(id, player_id, content, timestamp, game_id)
 VALUES (gen_random_uuid(), (SELECT id FROM player WHERE money = 500 OFFSET 1 LIMIT 1), 'Hoi', NOW(), (SELECT id FROM game WHERE name = 'Game 4' LIMIT 1));
@@ -407,21 +320,21 @@ VALUES
     (gen_random_uuid(), 2, 1, 'Flush', (SELECT id FROM configuration WHERE big_blind = 200 AND small_blind = 100 LIMIT 1)),
     (gen_random_uuid(), 2, 1, 'Straight', (SELECT id FROM configuration WHERE big_blind = 300 AND small_blind = 150 LIMIT 1));
 -- Seed data for players
-INSERT INTO player (id, money, game_id, position, account_id, username)
+INSERT INTO player (id, money, game_id, position, account_id, username, hand)
 VALUES
-    (gen_random_uuid(), 1000, (SELECT id FROM game WHERE name = 'Royal Flush' LIMIT 1), 0, (SELECT id FROM account WHERE username = 'robbe'), 'robbe'),
-    (gen_random_uuid(), 1000, (SELECT id FROM game WHERE name = 'Royal Flush' LIMIT 1), 1, (SELECT id FROM account WHERE username = 'afi'), 'afi'),
-    (gen_random_uuid(), 1000, (SELECT id FROM game WHERE name = 'Flush' LIMIT 1), 0, (SELECT id FROM account WHERE username = 'robbe'), 'robbe'),
-    (gen_random_uuid(), 1000, (SELECT id FROM game WHERE name = 'Flush' LIMIT 1), 1, (SELECT id FROM account WHERE username = 'afi'), 'afi'),
-    (gen_random_uuid(), 1000, (SELECT id FROM game WHERE name = 'Straight' LIMIT 1), 0, (SELECT id FROM account WHERE username = 'robbe'), 'robbe'),
-    (gen_random_uuid(), 1000, (SELECT id FROM game WHERE name = 'Straight' LIMIT 1), 1, (SELECT id FROM account WHERE username = 'afi'), 'afi');
+    (gen_random_uuid(), 1000, (SELECT id FROM game WHERE name = 'Royal Flush' LIMIT 1), 0, (SELECT id FROM account WHERE username = 'robbe'), 'robbe', decode('0809', 'hex')),
+    (gen_random_uuid(), 1000, (SELECT id FROM game WHERE name = 'Royal Flush' LIMIT 1), 1, (SELECT id FROM account WHERE username = 'afi'), 'afi', NULL),
+    (gen_random_uuid(), 1000, (SELECT id FROM game WHERE name = 'Flush' LIMIT 1), 0, (SELECT id FROM account WHERE username = 'robbe'), 'robbe', NULL),
+    (gen_random_uuid(), 1000, (SELECT id FROM game WHERE name = 'Flush' LIMIT 1), 1, (SELECT id FROM account WHERE username = 'afi'), 'afi', decode('0002', 'hex')),
+    (gen_random_uuid(), 1000, (SELECT id FROM game WHERE name = 'Straight' LIMIT 1), 0, (SELECT id FROM account WHERE username = 'robbe'), 'robbe', decode('2230', 'hex')),
+    (gen_random_uuid(), 1000, (SELECT id FROM game WHERE name = 'Straight' LIMIT 1), 1, (SELECT id FROM account WHERE username = 'afi'), 'afi', NULL);
 
 -- Seed data for rounds
-INSERT INTO round (id, phase, game_id, dealer_index, created_at)
+INSERT INTO round (id, phase, game_id, dealer_index, created_at, community_cards)
 VALUES
-    (gen_random_uuid(), 4, (SELECT id FROM game WHERE name = 'Royal Flush' LIMIT 1), 0, NOW()),
-    (gen_random_uuid(), 4, (SELECT id FROM game WHERE name = 'Flush' LIMIT 1), 0, NOW()),
-    (gen_random_uuid(), 4, (SELECT id FROM game WHERE name = 'Straight' LIMIT 1), 0, NOW());
+    (gen_random_uuid(), 4, (SELECT id FROM game WHERE name = 'Royal Flush' LIMIT 1), 0, NOW(), decode('06030a0b0c', 'hex')),
+    (gen_random_uuid(), 4, (SELECT id FROM game WHERE name = 'Flush' LIMIT 1), 0, NOW(), decode('060514180c', 'hex')),
+    (gen_random_uuid(), 4, (SELECT id FROM game WHERE name = 'Straight' LIMIT 1), 0, NOW(), decode('1310170b0c', 'hex'));
 
 -- Seed data for turns
 INSERT INTO turn (id, move_made, money_gambled, player_id, round_id, created_at)
@@ -433,58 +346,3 @@ VALUES
     (gen_random_uuid(), 1, 100, (SELECT id FROM player WHERE game_id = (SELECT id FROM game WHERE name = 'Straight' LIMIT 1) AND username = 'robbe' LIMIT 1), (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Straight' LIMIT 1) LIMIT 1), NOW()),
     (gen_random_uuid(), 0, 0, (SELECT id FROM player WHERE game_id = (SELECT id FROM game WHERE name = 'Straight' LIMIT 1) AND username = 'afi' LIMIT 1), (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Straight' LIMIT 1) LIMIT 1), NOW());
 
--- Link turns to rounds
-INSERT INTO round_turns (round_id, turns_id)
-VALUES
-    ((SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Royal Flush' LIMIT 1) LIMIT 1), (SELECT id FROM turn WHERE round_id = (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Royal Flush' LIMIT 1) LIMIT 1) LIMIT 1)),
-    ((SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Royal Flush' LIMIT 1) LIMIT 1), (SELECT id FROM turn WHERE round_id = (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Royal Flush' LIMIT 1) LIMIT 1) OFFSET 1 LIMIT 1)),
-    ((SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Flush' LIMIT 1) LIMIT 1), (SELECT id FROM turn WHERE round_id = (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Flush' LIMIT 1) LIMIT 1) LIMIT 1)),
-    ((SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Flush' LIMIT 1) LIMIT 1), (SELECT id FROM turn WHERE round_id = (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Flush' LIMIT 1) LIMIT 1) OFFSET 1 LIMIT 1)),
-    ((SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Straight' LIMIT 1) LIMIT 1), (SELECT id FROM turn WHERE round_id = (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Straight' LIMIT 1) LIMIT 1) LIMIT 1)),
-    ((SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Straight' LIMIT 1) LIMIT 1), (SELECT id FROM turn WHERE round_id = (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Straight' LIMIT 1) LIMIT 1) OFFSET 1 LIMIT 1));
-
--- Seed data for player hands
--- Royal Flush for robbe
-INSERT INTO player_hand (hand_id, player_id)
-VALUES
-    ((SELECT id FROM card WHERE rank = 10 AND suit = 0 LIMIT 1), (SELECT id FROM player WHERE game_id = (SELECT id FROM game WHERE name = 'Royal Flush' LIMIT 1) AND username = 'robbe' LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 11 AND suit = 0 LIMIT 1), (SELECT id FROM player WHERE game_id = (SELECT id FROM game WHERE name = 'Royal Flush' LIMIT 1) AND username = 'robbe' LIMIT 1));
-
--- Flush for afi
-INSERT INTO player_hand (hand_id, player_id)
-VALUES
-    ((SELECT id FROM card WHERE rank = 2 AND suit = 0 LIMIT 1), (SELECT id FROM player WHERE game_id = (SELECT id FROM game WHERE name = 'Flush' LIMIT 1) AND username = 'afi' LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 4 AND suit = 0 LIMIT 1), (SELECT id FROM player WHERE game_id = (SELECT id FROM game WHERE name = 'Flush' LIMIT 1) AND username = 'afi' LIMIT 1));
-
--- Straight for robbe
-INSERT INTO player_hand (hand_id, player_id)
-VALUES
-    ((SELECT id FROM card WHERE rank = 10 AND suit = 2 LIMIT 1), (SELECT id FROM player WHERE game_id = (SELECT id FROM game WHERE name = 'Straight' LIMIT 1) AND username = 'robbe' LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 11 AND suit = 3 LIMIT 1), (SELECT id FROM player WHERE game_id = (SELECT id FROM game WHERE name = 'Straight' LIMIT 1) AND username = 'robbe' LIMIT 1));
-
--- Seed data for community cards
-INSERT INTO round_community_cards (community_cards_id, round_id)
-VALUES
-    ((SELECT id FROM card WHERE rank = 8 AND suit = 0 LIMIT 1), (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Royal Flush' LIMIT 1) LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 5 AND suit = 0 LIMIT 1), (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Royal Flush' LIMIT 1) LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 12 AND suit = 0 LIMIT 1), (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Royal Flush' LIMIT 1) LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 13 AND suit = 0 LIMIT 1), (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Royal Flush' LIMIT 1) LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 14 AND suit = 0 LIMIT 1), (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Royal Flush' LIMIT 1) LIMIT 1));
-
--- Seed data for community cards
-INSERT INTO round_community_cards (community_cards_id, round_id)
-VALUES
-    ((SELECT id FROM card WHERE rank = 8 AND suit = 0 LIMIT 1), (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Flush' LIMIT 1) LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 7 AND suit = 0 LIMIT 1), (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Flush' LIMIT 1) LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 9 AND suit = 1 LIMIT 1), (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Flush' LIMIT 1) LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 13 AND suit = 1 LIMIT 1), (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Flush' LIMIT 1) LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 14 AND suit = 0 LIMIT 1), (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Flush' LIMIT 1) LIMIT 1));
-
--- Seed data for community cards
-INSERT INTO round_community_cards (community_cards_id, round_id)
-VALUES
-    ((SELECT id FROM card WHERE rank = 8 AND suit = 1 LIMIT 1), (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Straight' LIMIT 1) LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 5 AND suit = 1 LIMIT 1), (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Straight' LIMIT 1) LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 12 AND suit = 1 LIMIT 1), (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Straight' LIMIT 1) LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 13 AND suit = 0 LIMIT 1), (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Straight' LIMIT 1) LIMIT 1)),
-    ((SELECT id FROM card WHERE rank = 14 AND suit = 0 LIMIT 1), (SELECT id FROM round WHERE game_id = (SELECT id FROM game WHERE name = 'Straight' LIMIT 1) LIMIT 1));
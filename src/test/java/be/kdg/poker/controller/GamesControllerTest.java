@@ -20,6 +20,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Import(TestcontainersConfiguration.class)
@@ -54,6 +55,16 @@ class GamesControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @WithMockUser(authorities = "user")
+    void subscribeToUpdatesGivenGameIdShouldOpenEventStream() throws Exception {
+        // Act and Assert
+        mockMvc.perform(get("/api/games/7fabf988-a888-4dc6-8423-4cd9f620ff00/updates")
+                        .accept("text/event-stream"))
+                .andExpect(request().asyncStarted())
+                .andExpect(status().isOk());
+    }
+
     @Test
     @WithMockUser(authorities = "user")
     void getGamesShouldReturnListOfGames() throws Exception {
@@ -65,6 +76,22 @@ class GamesControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @WithMockUser(authorities = "user")
+    void getGamesGivenCurrentETagShouldReturnNotModified() throws Exception {
+        // Arrange
+        String etag = mockMvc.perform(get("/api/games")
+                        .accept("application/json"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act and Assert
+        mockMvc.perform(get("/api/games")
+                        .header("If-None-Match", etag)
+                        .accept("application/json"))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     @WithMockUser(authorities = "user", username = "player1@example.com")
     void createGameShouldReturnGame() throws Exception {
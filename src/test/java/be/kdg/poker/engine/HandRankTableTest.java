@@ -0,0 +1,104 @@
+package be.kdg.poker.engine;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandRankTableTest {
+    private static HandRankTable table;
+
+    @BeforeAll
+    static void setUp() {
+        table = HandRankTable.generate();
+    }
+
+    @Test
+    void classCount_ShouldBeTheNumberOfDistinctFiveCardHands() {
+        //ASSERT
+        assertEquals(7462, table.classCount());
+        for (int ordinal = 2; ordinal <= table.classCount(); ordinal++) {
+            assertTrue(table.strength(ordinal - 1) < table.strength(ordinal), "ordinal " + ordinal);
+        }
+    }
+
+    @Test
+    void ordinal_ShouldMatchHandEvaluator_GivenEveryFiveCardHand() {
+        //ACT & ASSERT
+        int hands = 0;
+        for (int a = 0; a < 52; a++)
+            for (int b = a + 1; b < 52; b++)
+                for (int c = b + 1; c < 52; c++)
+                    for (int d = c + 1; d < 52; d++)
+                        for (int e = d + 1; e < 52; e++) {
+                            long cards = 1L << a | 1L << b | 1L << c | 1L << d | 1L << e;
+                            assertEquals(HandEvaluator.evaluate(cards), table.strength(table.ordinal(cards)));
+                            hands++;
+                        }
+        assertEquals(2_598_960, hands);
+    }
+
+    @Test
+    void ordinal_ShouldMatchHandEvaluator_GivenRandomSixAndSevenCardHands() {
+        //ARRANGE
+        var random = new Random(42);
+
+        //ACT & ASSERT
+        for (int i = 0; i < 500_000; i++) {
+            long cards = randomHand(random, 6 + (i & 1));
+            assertEquals(HandEvaluator.evaluate(cards), table.strength(table.ordinal(cards)), Long.toHexString(cards));
+        }
+    }
+
+    @Test
+    void ordinal_ShouldReturnZero_GivenFewerThanFiveOrMoreThanSevenCards() {
+        //ARRANGE
+        var random = new Random(7);
+
+        //ACT & ASSERT
+        assertEquals(0, table.ordinal(0L));
+        assertEquals(0, table.ordinal(randomHand(random, 4)));
+        assertEquals(0, table.ordinal(randomHand(random, 8)));
+    }
+
+    @Test
+    void read_ShouldRestoreTheSameTable_GivenWrittenTable() throws IOException {
+        //ARRANGE
+        var written = new ByteArrayOutputStream();
+        table.write(written);
+
+        //ACT
+        var read = HandRankTable.read(new ByteArrayInputStream(written.toByteArray()));
+
+        //ASSERT
+        assertEquals(table.classCount(), read.classCount());
+        for (int ordinal = 1; ordinal <= table.classCount(); ordinal++) {
+            assertEquals(table.strength(ordinal), read.strength(ordinal));
+        }
+        var random = new Random(1);
+        for (int i = 0; i < 100_000; i++) {
+            long cards = randomHand(random, 5 + i % 3);
+            assertEquals(table.ordinal(cards), read.ordinal(cards));
+        }
+        var rewritten = new ByteArrayOutputStream();
+        read.write(rewritten);
+        assertArrayEquals(written.toByteArray(), rewritten.toByteArray());
+    }
+
+    @Test
+    void read_ShouldThrow_GivenNoHandRankTable() {
+        //ACT & ASSERT
+        assertThrows(IOException.class, () -> HandRankTable.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 0, 0, 0, 1})));
+    }
+
+    private static long randomHand(Random random, int size) {
+        long cards = 0L;
+        while (Long.bitCount(cards) < size) cards |= 1L << random.nextInt(52);
+        return cards;
+    }
+}
@@ -7,6 +7,7 @@ import be.kdg.poker.domain.Game;
 import be.kdg.poker.domain.Player;
 import be.kdg.poker.domain.Round;
 import be.kdg.poker.domain.enums.GameStatus;
+import be.kdg.poker.domain.enums.Suit;
 import be.kdg.poker.exceptions.GameNotFoundException;
 import be.kdg.poker.exceptions.PlayersHandNotFoundException;
 import be.kdg.poker.exceptions.RoundNotFoundException;
@@ -26,7 +27,7 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @Import(TestcontainersConfiguration.class)
 @SpringBootTest
@@ -34,6 +35,8 @@ class CardServiceUnitTest {
 
     @Autowired
     private CardService cardService;
+    @Autowired
+    private HandStrengthCache handStrengthCache;
 
     @MockBean
     private PlayerRepository playerRepository;
@@ -49,7 +52,7 @@ class CardServiceUnitTest {
     void getPlayersHandShouldThrowExceptionWhenPlayerNotFound() {
         // Arrange
         UUID playerId = UUID.randomUUID();
-        when(playerRepository.findByIdWithHand(playerId)).thenReturn(Optional.empty());
+        when(playerRepository.findById(playerId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(PlayersHandNotFoundException.class, () -> cardService.getPlayersHand(playerId));
@@ -61,17 +64,18 @@ class CardServiceUnitTest {
         UUID playerId = UUID.fromString("fbe9bdbf-4329-4fea-9bed-0449d5677804");
         Player player = new Player();
         player.setId(playerId);
-        player.setHand(List.of(new Card(), new Card()));
+        player.setHand(List.of(new Card(Suit.HEARTS, 14), new Card(Suit.SPADES, 14)));
         Game game = new Game();
         game.setId(UUID.randomUUID());
         game.setStatus(GameStatus.IN_PROGRESS);
         Round round = new Round();
-        round.setCommunityCards(List.of(new Card(), new Card(), new Card(), new Card(), new Card()));
+        round.setId(UUID.randomUUID());
+        round.setCommunityCards(List.of(new Card(Suit.CLUBS, 2), new Card(Suit.CLUBS, 7), new Card(Suit.DIAMONDS, 9), new Card(Suit.HEARTS, 11), new Card(Suit.SPADES, 4)));
 
         when(gameRepository.findGameByPlayerId(playerId)).thenReturn(Optional.of(game));
-        when(roundRepository.findLatestByGameIdWithCommunityCards(game.getId())).thenReturn(Optional.of(round));
+        when(roundRepository.findLatestByGame(game.getId())).thenReturn(Optional.of(round));
         when(handRankService.calculateHandScore(anyList())).thenReturn(100);
-        when(playerRepository.findByIdWithHand(playerId)).thenReturn(Optional.of(player));
+        when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
 
         // Act
         PlayersHandDto result = cardService.getPlayersHand(playerId);
@@ -85,7 +89,7 @@ class CardServiceUnitTest {
     void getPlayersHandShouldThrowExceptionWhenGameNotFound() {
         // Arrange
         UUID playerId = UUID.randomUUID();
-        when(playerRepository.findByIdWithHand(playerId)).thenReturn(Optional.of(new Player()));
+        when(playerRepository.findById(playerId)).thenReturn(Optional.of(new Player()));
         when(gameRepository.findGameByPlayerId(playerId)).thenReturn(Optional.empty());
 
         // Act & Assert
@@ -103,10 +107,42 @@ class CardServiceUnitTest {
         game.setStatus(GameStatus.IN_PROGRESS);
 
         when(gameRepository.findGameByPlayerId(playerId)).thenReturn(Optional.of(game));
-        when(roundRepository.findLatestByGameIdWithCommunityCards(game.getId())).thenReturn(Optional.empty());
-        when(playerRepository.findByIdWithHand(playerId)).thenReturn(Optional.of(player));
+        when(roundRepository.findLatestByGame(game.getId())).thenReturn(Optional.empty());
+        when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
 
         // Act & Assert
         assertThrows(RoundNotFoundException.class, () -> cardService.getPlayersHand(playerId));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getPlayersHandShouldServeCachedHandAndUpdateItPerStreet() {
+        // Arrange
+        UUID playerId = UUID.randomUUID();
+        Player player = new Player();
+        player.setId(playerId);
+        player.setHand(List.of(new Card(Suit.HEARTS, 14), new Card(Suit.SPADES, 13)));
+        Game game = new Game();
+        game.setId(UUID.randomUUID());
+        game.setStatus(GameStatus.IN_PROGRESS);
+        Round round = new Round();
+        round.setId(UUID.randomUUID());
+        round.setCommunityCards(List.of(new Card(Suit.CLUBS, 2), new Card(Suit.CLUBS, 7), new Card(Suit.DIAMONDS, 9)));
+
+        when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
+        when(gameRepository.findGameByPlayerId(playerId)).thenReturn(Optional.of(game));
+        when(roundRepository.findLatestByGame(game.getId())).thenReturn(Optional.of(round));
+        when(handRankService.calculateHandScore(anyList())).thenReturn(0);
+
+        // Act
+        PlayersHandDto firstPoll = cardService.getPlayersHand(playerId);
+        handStrengthCache.updateBoard(round.getId(), List.of(new Card(Suit.CLUBS, 2), new Card(Suit.CLUBS, 7), new Card(Suit.DIAMONDS, 9), new Card(Suit.HEARTS, 13)));
+        PlayersHandDto secondPoll = cardService.getPlayersHand(playerId);
+
+        // Assert
+        assertEquals(0, firstPoll.score());
+        assertEquals(100, secondPoll.score());
+        assertEquals(game.getId(), secondPoll.gameId());
+        verify(playerRepository, times(1)).findById(playerId);
+        verify(roundRepository, times(1)).findLatestByGame(game.getId());
+    }
+}
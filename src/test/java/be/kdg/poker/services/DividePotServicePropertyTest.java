@@ -0,0 +1,175 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.TestcontainersConfiguration;
+import be.kdg.poker.controllers.dto.AllInDto;
+import be.kdg.poker.controllers.dto.CalculateRoundWinnerDto;
+import be.kdg.poker.domain.Player;
+import be.kdg.poker.repositories.GameRepository;
+import be.kdg.poker.repositories.PlayerRepository;
+import be.kdg.poker.repositories.RoundRepository;
+import be.kdg.poker.repositories.TurnRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.clearInvocations;
+
+/**
+ * Replays randomly generated rounds (folds, all-ins, uncalled bets and split pots) through dividePot and checks every
+ * result against a straightforward pot-by-pot reference. A regular test run replays a few thousand rounds; a deep run
+ * raises that with {@code -PpotPropertyRounds=5000000}. A failing round is reported with its seed so it can be replayed.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class DividePotServicePropertyTest {
+    private static final int DEFAULT_ROUNDS = 2_000;
+    private static final int MAX_PLAYERS = 6;
+
+    @Autowired
+    private DividePotService dividePotService;
+
+    @MockBean
+    private RoundRepository roundRepository;
+    @MockBean
+    private GameRepository gameRepository;
+    @MockBean
+    private TurnRepository turnRepository;
+    @MockBean
+    private PlayerRepository playerRepository;
+    @MockBean
+    private RoundService roundService;
+
+    @Test
+    void dividePot_ShouldConserveChipsAndMatchReferencePots_GivenRandomRounds() {
+        //ARRANGE
+        int rounds = Integer.getInteger("pot.property.rounds", DEFAULT_ROUNDS);
+        long seed = Long.getLong("pot.property.seed", 20241017L);
+        var random = new Random(seed);
+
+        for (int i = 0; i < rounds; i++) {
+            long roundSeed = random.nextLong();
+            var round = RandomRound.generate(new Random(roundSeed));
+            var expected = referencePayouts(round);
+            var moneyBefore = new HashMap<Player, Integer>();
+            round.stakes().keySet().forEach(stake -> moneyBefore.put(stake.player(), stake.player().getMoney()));
+
+            //ACT
+            var result = dividePotService.dividePot(round.playersByWinIndex(), new CalculateRoundWinnerDto(null, null, round.stakes()));
+
+            //ASSERT
+            String message = "round seed " + roundSeed;
+            assertEquals(expected, result, message);
+            int totalStakes = round.stakes().values().stream().mapToInt(Integer::intValue).sum();
+            assertEquals(totalStakes, result.values().stream().mapToInt(Integer::intValue).sum(), message);
+            for (var stake : round.stakes().keySet()) {
+                var player = stake.player();
+                assertEquals(moneyBefore.get(player) + result.getOrDefault(player, 0), player.getMoney(), message);
+                assertTrue(result.getOrDefault(player, 0) <= maxClaim(player, round), message);
+            }
+
+            if (i % 10_000 == 0) clearInvocations(playerRepository);
+        }
+    }
+
+    private static int maxClaim(Player player, RandomRound round) {
+        if (round.ranks().get(player) == null) return round.stakes().values().stream().mapToInt(Integer::intValue).sum();
+        int ownStake = round.stakeOf(player);
+        return round.stakes().values().stream().mapToInt(stake -> Math.min(stake, ownStake)).sum()
+                + round.uncalledChipsAbove(ownStake);
+    }
+
+    /**
+     * Builds every pot explicitly: one per distinct stake of a player still in the hand, with chips above the highest
+     * of those stakes going to the top pot. Each pot is split between the best ranked players who covered it and odd
+     * chips go to the first of them in seating order.
+     */
+    private static Map<Player, Integer> referencePayouts(RandomRound round) {
+        var levels = new TreeSet<Integer>();
+        round.ranks().keySet().forEach(player -> levels.add(round.stakeOf(player)));
+
+        var payouts = new HashMap<Player, Integer>();
+        int previousLevel = 0;
+        for (int level : levels) {
+            int pot = 0;
+            for (int stake : round.stakes().values()) {
+                pot += Math.max(0, Math.min(stake, level) - previousLevel);
+                if (level == levels.last()) pot += Math.max(0, stake - level);
+            }
+
+            final int currentLevel = level;
+            var eligible = round.ranks().keySet().stream()
+                    .filter(player -> round.stakeOf(player) >= currentLevel)
+                    .toList();
+            int bestRank = eligible.stream().mapToInt(round.ranks()::get).min().orElseThrow();
+            var winners = eligible.stream()
+                    .filter(player -> round.ranks().get(player) == bestRank)
+                    .sorted(Comparator.comparingInt(Player::getPosition))
+                    .toList();
+
+            for (int i = 0; i < winners.size(); i++) {
+                int share = pot / winners.size() + (i < pot % winners.size() ? 1 : 0);
+                if (share > 0) payouts.merge(winners.get(i), share, Integer::sum);
+            }
+            previousLevel = level;
+        }
+        return payouts;
+    }
+
+    private record RandomRound(Map<AllInDto, Integer> stakes, Map<Player, Integer> ranks, List<List<Player>> playersByWinIndex) {
+        static RandomRound generate(Random random) {
+            int playerCount = 2 + random.nextInt(MAX_PLAYERS - 1);
+            int bet = 1 + random.nextInt(200);
+            var stakes = new HashMap<AllInDto, Integer>();
+            var ranks = new HashMap<Player, Integer>();
+
+            var positions = new ArrayList<Integer>();
+            for (int position = 0; position < playerCount; position++) positions.add(position);
+            Collections.shuffle(positions, random);
+
+            for (int p = 0; p < playerCount; p++) {
+                var player = new Player(UUID.randomUUID(), random.nextInt(1000));
+                player.setPosition(positions.get(p));
+                boolean inHand = p == 0 || random.nextInt(4) != 0;
+                boolean allIn = inHand && random.nextInt(3) == 0;
+                int stake;
+                if (allIn) stake = random.nextInt(bet + 1);
+                else if (inHand) stake = bet;
+                else stake = random.nextInt(4) == 0 ? bet + random.nextInt(bet + 1) : random.nextInt(bet + 1);
+
+                stakes.put(new AllInDto(player, allIn), stake);
+                // a small rank range makes split pots common
+                if (inHand) ranks.put(player, random.nextInt(3));
+            }
+
+            var byRank = new TreeMap<Integer, List<Player>>();
+            ranks.forEach((player, rank) -> byRank.computeIfAbsent(rank, r -> new ArrayList<>()).add(player));
+            var playersByWinIndex = new ArrayList<List<Player>>(byRank.values());
+            var denseRanks = new HashMap<Player, Integer>();
+            for (int i = 0; i < playersByWinIndex.size(); i++) {
+                Collections.shuffle(playersByWinIndex.get(i), random);
+                for (var player : playersByWinIndex.get(i)) denseRanks.put(player, i);
+            }
+            return new RandomRound(stakes, denseRanks, playersByWinIndex);
+        }
+
+        int stakeOf(Player player) {
+            return stakes.entrySet().stream()
+                    .filter(entry -> entry.getKey().player().equals(player))
+                    .mapToInt(Map.Entry::getValue)
+                    .findFirst()
+                    .orElseThrow();
+        }
+
+        int uncalledChipsAbove(int stake) {
+            int highestLiveStake = ranks.keySet().stream().mapToInt(this::stakeOf).max().orElse(0);
+            if (stake < highestLiveStake) return 0;
+            return stakes.values().stream().mapToInt(value -> Math.max(0, value - highestLiveStake)).sum();
+        }
+    }
+}
@@ -26,6 +26,7 @@ import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @Import(TestcontainersConfiguration.class)
@@ -137,14 +138,14 @@ class DividePotServiceUnitTest {
         mockPlayersLeftInGame.add(mockPlayer3);
 
 
-        when(playerRepository.findByGameIdWithHands(any(UUID.class))).thenReturn(mockPlayers);
-        when(roundRepository.findByIdWithCommunityCards(any(UUID.class))).thenReturn(Optional.of(mockRound));
+        when(playerRepository.findAllByGameId(any(UUID.class))).thenReturn(mockPlayers);
+        when(roundRepository.findById(any(UUID.class))).thenReturn(Optional.of(mockRound));
         when(gameRepository.findByRoundId(any(UUID.class))).thenReturn(Optional.of(mockGame));
         when(turnRepository.findByRoundIdWithPlayer(any(UUID.class))).thenReturn(mockTurns);
         when(roundService.getPlayersLeftInRound(mockRound, mockGame, false)).thenReturn(mockPlayersLeftInGame);
-        when(playerRepository.findByIdWithHand(mockPlayer1.getId())).thenReturn(Optional.of(mockPlayer1));
-        when(playerRepository.findByIdWithHand(mockPlayer2.getId())).thenReturn(Optional.of(mockPlayer2));
-        when(playerRepository.findByIdWithHand(mockPlayer3.getId())).thenReturn(Optional.of(mockPlayer3));
+        when(playerRepository.findById(mockPlayer1.getId())).thenReturn(Optional.of(mockPlayer1));
+        when(playerRepository.findById(mockPlayer2.getId())).thenReturn(Optional.of(mockPlayer2));
+        when(playerRepository.findById(mockPlayer3.getId())).thenReturn(Optional.of(mockPlayer3));
 
         //ACT
         var optResult = dividePotService.getCalculateRoundWinnerDto(roundId);
@@ -373,11 +374,6 @@ class DividePotServiceUnitTest {
         }
         var mockSituation = new CalculateRoundWinnerDto(null, null, mockStakes);
 
-        when(playerRepository.save(mockPlayers.get(0))).thenReturn(mockPlayers.get(0));
-        when(playerRepository.save(mockPlayers.get(1))).thenReturn(mockPlayers.get(1));
-        when(playerRepository.save(mockPlayers.get(2))).thenReturn(mockPlayers.get(2));
-
-
         //ACT
         Map<Player, Integer> result = null;
         try {
@@ -388,7 +384,7 @@ class DividePotServiceUnitTest {
 
 
         //ASSERT
-        verify(playerRepository, times(1)).save(any(Player.class));
+        verify(playerRepository, times(1)).saveAll(List.of(mockPlayers.get(2)));
         assertEquals(60, result.get(mockPlayers.get(2)));
 
         var losers = new ArrayList<>(result.keySet().stream().toList());
@@ -399,7 +395,7 @@ class DividePotServiceUnitTest {
     }
 
     @Test
-    void dividePot_ShouldReturnMapOfPlayersWithTheirEarningsOfWhichOnlyFirstAndSecondPlaceShouldBeDifferentFromZeroAndUpdateMoneyForWinners_GivenSortedGroupsOfPlayersAndValidStakes() {
+    void dividePot_ShouldAwardMainPotToFirstPlaceSidePotToSecondPlaceAndReturnUncalledStake_GivenSortedGroupsOfPlayersAndValidStakes() {
         //ARRANGE
         var mockPlayersByWinIndex = new ArrayList<List<Player>>();
         for (var player: mockPlayers) {
@@ -424,11 +420,6 @@ class DividePotServiceUnitTest {
         }
         var mockSituation = new CalculateRoundWinnerDto(null, null, mockStakes);
 
-        when(playerRepository.save(mockPlayers.get(0))).thenReturn(mockPlayers.get(0));
-        when(playerRepository.save(mockPlayers.get(1))).thenReturn(mockPlayers.get(1));
-        when(playerRepository.save(mockPlayers.get(2))).thenReturn(mockPlayers.get(2));
-
-
         //ACT
         Map<Player, Integer> result = null;
         try {
@@ -439,9 +430,11 @@ class DividePotServiceUnitTest {
 
 
         //ASSERT
-        verify(playerRepository, times(2)).save(any(Player.class));
+        verify(playerRepository, times(1)).saveAll(anyList());
+        verify(playerRepository, never()).save(any(Player.class));
         assertEquals(30, result.get(mockPlayers.get(0)));
-        assertEquals(35, result.get(mockPlayers.get(1)));
+        assertEquals(30, result.get(mockPlayers.get(1)));
+        assertEquals(5, result.get(mockPlayers.get(2)));
     }
 
     @Test
@@ -470,11 +463,6 @@ class DividePotServiceUnitTest {
         }
         var mockSituation = new CalculateRoundWinnerDto(null, null, mockStakes);
 
-        when(playerRepository.save(mockPlayers.get(0))).thenReturn(mockPlayers.get(0));
-        when(playerRepository.save(mockPlayers.get(1))).thenReturn(mockPlayers.get(1));
-        when(playerRepository.save(mockPlayers.get(2))).thenReturn(mockPlayers.get(2));
-
-
         //ACT
         Map<Player, Integer> result = null;
         try {
@@ -485,14 +473,14 @@ class DividePotServiceUnitTest {
 
 
         //ASSERT
-        verify(playerRepository, times(3)).save(any(Player.class));
+        verify(playerRepository, times(1)).saveAll(anyList());
         assertEquals(30, result.get(mockPlayers.get(0)));
-        assertEquals(60, result.get(mockPlayers.get(1)));
-        assertEquals(5, result.get(mockPlayers.get(2)));
+        assertEquals(30, result.get(mockPlayers.get(1)));
+        assertEquals(35, result.get(mockPlayers.get(2)));
     }
 
     @Test
-    void dividePot_ShouldReturnMapOfPlayersWithTheirEarningsOfWhichTwoShouldBeDifferentFromZeroAndEqualToEachOtherAndUpdateMoneyForWinners_GivenSortedGroupsOfPlayersAndValidStakes() {
+    void dividePot_ShouldSplitMainPotBetweenTiedWinnersAndGiveSidePotToTheTiedWinnerWhoCoveredIt_GivenSortedGroupsOfPlayersAndValidStakes() {
         //ARRANGE
         var mockPlayersByWinIndex = new ArrayList<List<Player>>();
         var winners = new ArrayList<Player>();
@@ -522,11 +510,6 @@ class DividePotServiceUnitTest {
         }
         var mockSituation = new CalculateRoundWinnerDto(null, null, mockStakes);
 
-        when(playerRepository.save(mockPlayers.get(0))).thenReturn(mockPlayers.get(0));
-        when(playerRepository.save(mockPlayers.get(1))).thenReturn(mockPlayers.get(1));
-        when(playerRepository.save(mockPlayers.get(2))).thenReturn(mockPlayers.get(2));
-
-
         //ACT
         Map<Player, Integer> result = null;
         try {
@@ -537,9 +520,9 @@ class DividePotServiceUnitTest {
 
 
         //ASSERT
-        verify(playerRepository, times(2)).save(any(Player.class));
-        assertEquals(30, result.get(mockPlayers.get(0)));
-        assertEquals(30, result.get(mockPlayers.get(1)));
+        verify(playerRepository, times(1)).saveAll(anyList());
+        assertEquals(15, result.get(mockPlayers.get(0)));
+        assertEquals(45, result.get(mockPlayers.get(1)));
 
         var losers = new ArrayList<>(result.keySet().stream().toList());
         losers.remove(mockPlayers.get(0));
@@ -549,6 +532,35 @@ class DividePotServiceUnitTest {
         }
     }
 
+    @Test
+    void dividePot_ShouldGiveOddChipToFirstTiedWinnerInSeatingOrderAndNothingToFoldedPlayer_GivenSortedGroupsOfPlayersAndValidStakes() {
+        //ARRANGE
+        for (int i = 0; i < mockPlayers.size(); i++) mockPlayers.get(i).setPosition(i);
+        var mockPlayersByWinIndex = new ArrayList<List<Player>>();
+        mockPlayersByWinIndex.add(new ArrayList<>(List.of(mockPlayers.get(1), mockPlayers.get(0))));
+
+        var mockStakes = new HashMap<AllInDto, Integer>();
+        mockStakes.put(new AllInDto(mockPlayers.get(0), false), 15);
+        mockStakes.put(new AllInDto(mockPlayers.get(1), false), 15);
+        mockStakes.put(new AllInDto(mockPlayers.get(2), false), 5);
+        var mockSituation = new CalculateRoundWinnerDto(null, null, mockStakes);
+
+        //ACT
+        Map<Player, Integer> result = null;
+        try {
+            result = dividePotService.dividePot(mockPlayersByWinIndex, mockSituation);
+        } catch (InvalidWinnerException e) {
+            fail(e.getMessage());
+        }
+
+        //ASSERT
+        verify(playerRepository, times(1)).saveAll(anyList());
+        assertEquals(18, result.get(mockPlayers.get(0)));
+        assertEquals(17, result.get(mockPlayers.get(1)));
+        assertFalse(result.containsKey(mockPlayers.get(2)));
+        assertEquals(28, mockPlayers.get(0).getMoney());
+    }
+
     @Test
     void dividePot_ShouldReturnMapOfPlayersWithTheirZeroEarnings_GivenInvalidSortedGroupsOfPlayersAndValidStakes() {
         //ARRANGE
@@ -604,7 +616,7 @@ class DividePotServiceUnitTest {
         mockRound.setCommunityCards(mockCommunityCards);
 
 
-        when(roundRepository.findByIdWithCommunityCards(any(UUID.class))).thenReturn(Optional.of(mockRound));
+        when(roundRepository.findById(any(UUID.class))).thenReturn(Optional.of(mockRound));
         when(gameRepository.findByRoundId(any(UUID.class))).thenReturn(Optional.empty());
 
         //ACT
@@ -642,7 +654,7 @@ class DividePotServiceUnitTest {
         mockPlayer4.setId(UUID.fromString("e16f56e1-6531-4e03-ab13-c10a053ce3b7"));
         mockPlayers.add(mockPlayer4);
 
-        when(roundRepository.findByIdWithCommunityCards(any(UUID.class))).thenReturn(Optional.of(mockRound));
+        when(roundRepository.findById(any(UUID.class))).thenReturn(Optional.of(mockRound));
         when(gameRepository.findByRoundId(any(UUID.class))).thenReturn(Optional.of(new Game()));
         when(turnRepository.findByRoundIdWithPlayer(any(UUID.class))).thenReturn(new ArrayList<>());
 
@@ -0,0 +1,110 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.TestcontainersConfiguration;
+import be.kdg.poker.controllers.dto.EquityDto;
+import be.kdg.poker.domain.Card;
+import be.kdg.poker.domain.Game;
+import be.kdg.poker.domain.Player;
+import be.kdg.poker.domain.Round;
+import be.kdg.poker.domain.enums.GameStatus;
+import be.kdg.poker.domain.enums.Suit;
+import be.kdg.poker.exceptions.PlayersHandNotFoundException;
+import be.kdg.poker.repositories.GameRepository;
+import be.kdg.poker.repositories.PlayerRepository;
+import be.kdg.poker.repositories.RoundRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class EquityServiceUnitTest {
+
+    @Autowired
+    private EquityService equityService;
+
+    @MockBean
+    private PlayerRepository playerRepository;
+    @MockBean
+    private GameRepository gameRepository;
+    @MockBean
+    private RoundRepository roundRepository;
+
+    @Test
+    void calculateEquity_ShouldReturnAroundEightyFivePercent_GivenPocketAcesAgainstOneOpponent() {
+        //ARRANGE
+        UUID playerId = setupHand(List.of(new Card(Suit.HEARTS, 14), new Card(Suit.SPADES, 14)), List.of());
+
+        //ACT
+        EquityDto equity = equityService.calculateEquity(playerId, 1, 0.01, 42L);
+
+        //ASSERT
+        assertEquals(0.85, equity.equity(), 0.02);
+        assertTrue(equity.marginOfError() <= 0.01);
+        assertEquals(1.0, equity.win() + equity.tie() + equity.loss(), 1e-9);
+    }
+
+    @Test
+    void calculateEquity_ShouldReturnCertainWin_GivenRoyalFlushOnTheRiver() {
+        //ARRANGE
+        UUID playerId = setupHand(List.of(new Card(Suit.HEARTS, 14), new Card(Suit.HEARTS, 13)),
+                List.of(new Card(Suit.HEARTS, 12), new Card(Suit.HEARTS, 11), new Card(Suit.HEARTS, 10),
+                        new Card(Suit.CLUBS, 2), new Card(Suit.DIAMONDS, 3)));
+
+        //ACT
+        EquityDto equity = equityService.calculateEquity(playerId, 3, 0.01, 7L);
+
+        //ASSERT
+        assertEquals(1.0, equity.equity());
+        assertEquals(0.0, equity.loss());
+    }
+
+    @Test
+    void calculateEquity_ShouldReturnSameResult_GivenSameSeed() {
+        //ARRANGE
+        UUID playerId = setupHand(List.of(new Card(Suit.CLUBS, 7), new Card(Suit.DIAMONDS, 8)),
+                List.of(new Card(Suit.CLUBS, 9), new Card(Suit.HEARTS, 10), new Card(Suit.SPADES, 2)));
+
+        //ACT
+        EquityDto first = equityService.calculateEquity(playerId, 2, 0.01, 1234L);
+        EquityDto second = equityService.calculateEquity(playerId, 2, 0.01, 1234L);
+
+        //ASSERT
+        assertEquals(first, second);
+    }
+
+    @Test
+    void calculateEquity_ShouldThrowException_GivenPlayerWithoutHand() {
+        //ARRANGE
+        UUID playerId = setupHand(List.of(), List.of());
+
+        //ACT & ASSERT
+        assertThrows(PlayersHandNotFoundException.class, () -> equityService.calculateEquity(playerId, 1, 0.01, null));
+    }
+
+    private UUID setupHand(List<Card> hand, List<Card> communityCards) {
+        UUID playerId = UUID.randomUUID();
+        Player player = new Player();
+        player.setId(playerId);
+        player.setHand(hand);
+        Game game = new Game();
+        game.setId(UUID.randomUUID());
+        game.setStatus(GameStatus.IN_PROGRESS);
+        Round round = new Round();
+        round.setCommunityCards(communityCards);
+
+        when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
+        when(gameRepository.findGameByPlayerId(playerId)).thenReturn(Optional.of(game));
+        when(roundRepository.findLatestByGame(game.getId())).thenReturn(Optional.of(round));
+        return playerId;
+    }
+}
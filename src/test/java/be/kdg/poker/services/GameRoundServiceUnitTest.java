@@ -7,6 +7,8 @@ import be.kdg.poker.domain.enums.GameStatus;
 import be.kdg.poker.domain.enums.Phase;
 import be.kdg.poker.domain.enums.PlayerStatus;
 import be.kdg.poker.domain.enums.Suit;
+import be.kdg.poker.engine.CardCodec;
+import be.kdg.poker.engine.SeededDeck;
 import be.kdg.poker.exceptions.AccountNotFoundException;
 import be.kdg.poker.exceptions.GameNotFoundException;
 import be.kdg.poker.repositories.*;
@@ -65,7 +67,7 @@ class GameRoundServiceUnitTest {
         mockRound = new Round();
         mockRound.setId(roundId);
         mockRound.setPhase(Phase.PRE_FLOP);
-        mockRound.setDeck(new ArrayList<>(List.of(
+        mockRound.setDeck(CardCodec.encode(List.of(
                 new Card(Suit.HEARTS, 10),
                 new Card(Suit.CLUBS, 2),
                 new Card(Suit.DIAMONDS, 5),
@@ -94,14 +96,17 @@ class GameRoundServiceUnitTest {
     }
 
     @Test
-    void initiateDeck_ShouldReturnACompleteShuffledDeck() {
+    void create_ShouldShuffleACompleteDeckFromItsSeed() {
+        // Arrange
+        when(roundRepository.save(any(Round.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
         // Act
-        List<Card> deck = gameRoundService.initiateDeck();
+        Round round = gameRoundService.create(mockGame);
 
         // Assert
-        assertNotNull(deck);
-        assertEquals(52, deck.size());
-        assertTrue(deck.stream().allMatch(card -> card.getSuit() != null && card.getRank() >= 2 && card.getRank() <= 14));
+        assertEquals(52, round.getDeck().length);
+        assertEquals(52, Long.bitCount(CardCodec.toMask(round.getDeck()))); // every card is in the deck once
+        assertArrayEquals(SeededDeck.deal(round.getShuffleSeed()), round.getDeck());
     }
 
     @Test
@@ -109,7 +114,7 @@ class GameRoundServiceUnitTest {
         Player player1 = new Player(100);
         Player player2 = new Player(100);
 
-        List<Card> mockDeck = new ArrayList<>(List.of(
+        byte[] mockDeck = CardCodec.encode(List.of(
                 new Card(Suit.HEARTS, 10),
                 new Card(Suit.CLUBS, 2),
                 new Card(Suit.DIAMONDS, 5),
@@ -120,7 +125,7 @@ class GameRoundServiceUnitTest {
         mockGame.setPlayers(List.of(player1, player2));
 
         when(gameRepository.findByIdWithPlayers(gameId)).thenReturn(Optional.of(mockGame));
-        when(roundRepository.findByGameWithDeck(mockGame)).thenReturn(Optional.of(mockRound));
+        when(roundRepository.findLatestByGame(mockGame.getId())).thenReturn(Optional.of(mockRound));
 
         gameRoundService.assignPlayerHand(gameId, mockRound);
 
@@ -149,7 +154,7 @@ class GameRoundServiceUnitTest {
         Player player1 = new Player(100);
         Player player2 = new Player(0);
 
-        List<Card> mockDeck = new ArrayList<>(List.of(
+        byte[] mockDeck = CardCodec.encode(List.of(
                 new Card(Suit.HEARTS, 10),
                 new Card(Suit.CLUBS, 2),
                 new Card(Suit.DIAMONDS, 5),
@@ -160,7 +165,7 @@ class GameRoundServiceUnitTest {
         mockGame.setPlayers(List.of(player1, player2));
 
         when(gameRepository.findByIdWithPlayers(gameId)).thenReturn(Optional.of(mockGame));
-        when(roundRepository.findByGameWithDeck(mockGame)).thenReturn(Optional.of(mockRound));
+        when(roundRepository.findLatestByGame(mockGame.getId())).thenReturn(Optional.of(mockRound));
 
 
         gameRoundService.assignPlayerHand(gameId, mockRound);
@@ -3,6 +3,8 @@ package be.kdg.poker.services;
 import be.kdg.poker.TestcontainersConfiguration;
 import be.kdg.poker.controllers.dto.GameDto;
 import be.kdg.poker.controllers.dto.GameMessageDto;
+import be.kdg.poker.controllers.dto.LobbyPageDto;
+import be.kdg.poker.controllers.dto.PlayerDto;
 import be.kdg.poker.domain.Account;
 import be.kdg.poker.domain.Game;
 import be.kdg.poker.domain.GameMessage;
@@ -19,6 +21,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,7 +29,7 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @Import(TestcontainersConfiguration.class)
 @SpringBootTest
@@ -45,6 +48,8 @@ class GameServiceUnitTest {
     private AccountRepository accountRepository;
     @MockBean
     private GameMessageRepository gameMessageRepository;
+    @MockBean
+    private LobbyIndex lobbyIndex;
 
     @Test
     void getGameWithValidIdReturnsAMappedGameDto() {
@@ -92,43 +97,28 @@ class GameServiceUnitTest {
     @Test
     void getGamesReturnsAListOfMappedGameDtoList() {
         // Arrange
-        Game game1 = new Game();
-        game1.setId(UUID.fromString("7fabf988-a888-4dc6-8423-4cd9f620ff00"));
-        game1.setStatus(GameStatus.WAITING);
-        game1.setMaxPlayers(4);
-        game1.setPlayers(List.of(
-                new Player(UUID.randomUUID(), 1000),
-                new Player(UUID.randomUUID(), 800)
-        ));
-
-        Game game2 = new Game();
-        game2.setId(UUID.fromString("7fabf988-a888-4dc6-8423-4cd9f620ff01"));
-        game2.setStatus(GameStatus.WAITING);
-        game2.setMaxPlayers(4);
-        game2.setPlayers(List.of(
-                new Player(UUID.randomUUID(), 1000),
-                new Player(UUID.randomUUID(), 800)
-        ));
-
-        when(gameRepository.findAllWithSettings()).thenReturn(List.of(game1, game2));
-        when(playerRepository.findAllByGameId(game1.getId())).thenReturn(game1.getPlayers());
-        when(playerRepository.findAllByGameId(game2.getId())).thenReturn(game2.getPlayers());
-
+        var game1 = new GameDto(UUID.fromString("7fabf988-a888-4dc6-8423-4cd9f620ff00"), GameStatus.WAITING, 4, null,
+                List.of(new PlayerDto(UUID.randomUUID(), 1000, "player1", 0), new PlayerDto(UUID.randomUUID(), 800, "player2", 1)), null, "game1", null);
+        var game2 = new GameDto(UUID.fromString("7fabf988-a888-4dc6-8423-4cd9f620ff01"), GameStatus.WAITING, 4, null,
+                List.of(new PlayerDto(UUID.randomUUID(), 1000, "player3", 0)), null, "game2", null);
+        when(lobbyIndex.snapshot()).thenReturn(new LobbyIndex.Snapshot("\"lobby-1\"", List.of(game1, game2)));
 
         // Act
-        List<GameDto> result = gameService.getGames();
+        LobbyIndex.Snapshot result = gameService.getGames();
 
         // Assert
         assertNotNull(result);
-        assertEquals(2, result.size());
-        assertEquals(UUID.fromString("7fabf988-a888-4dc6-8423-4cd9f620ff00"), result.get(0).id());
-        assertEquals(UUID.fromString("7fabf988-a888-4dc6-8423-4cd9f620ff01"), result.get(1).id());
+        assertEquals("\"lobby-1\"", result.etag());
+        assertEquals(2, result.games().size());
+        assertEquals(UUID.fromString("7fabf988-a888-4dc6-8423-4cd9f620ff00"), result.games().get(0).id());
+        assertEquals(UUID.fromString("7fabf988-a888-4dc6-8423-4cd9f620ff01"), result.games().get(1).id());
+        verifyNoInteractions(gameRepository, playerRepository);
     }
 
     @Test
     void getGamesWithNoGamesReturnsAGameNotFoundException() {
         // Arrange
-        given(gameRepository.findAllGamesWithPlayers()).willReturn(List.of());
+        given(lobbyIndex.snapshot()).willReturn(new LobbyIndex.Snapshot("\"lobby-1\"", List.of()));
 
         // Act & Assert
         GameNotFoundException exception = assertThrows(
@@ -139,6 +129,25 @@ class GameServiceUnitTest {
         assertEquals("No games found", exception.getMessage());
     }
 
+    @Test
+    void getLobby_ShouldReturnPageOfGamesWithStatus_GivenStatus() {
+        // Arrange
+        var games = new ArrayList<GameDto>();
+        for (int i = 0; i < 5; i++) {
+            var status = i % 2 == 0 ? GameStatus.WAITING : GameStatus.IN_PROGRESS;
+            games.add(new GameDto(UUID.randomUUID(), status, 6, null, List.of(), null, "game" + i, null));
+        }
+        when(lobbyIndex.snapshot()).thenReturn(new LobbyIndex.Snapshot("\"lobby-1\"", games));
+
+        // Act
+        LobbyPageDto result = gameService.getLobby(GameStatus.WAITING, 1, 2);
+
+        // Assert
+        assertEquals(1, result.games().size());
+        assertEquals("game4", result.games().get(0).name());
+        assertEquals(3, result.totalGames());
+    }
+
     @Test
     void getByIdWithRounds_ShouldReturnGame_WhenGameExists() {
         // Arrange
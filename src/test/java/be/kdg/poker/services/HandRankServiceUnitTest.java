@@ -4,6 +4,8 @@ import be.kdg.poker.TestcontainersConfiguration;
 import be.kdg.poker.domain.Card;
 import be.kdg.poker.domain.Player;
 import be.kdg.poker.domain.enums.Suit;
+import be.kdg.poker.engine.CardCodec;
+import be.kdg.poker.engine.HandEvaluator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +15,7 @@ import org.springframework.context.annotation.Import;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Import(TestcontainersConfiguration.class)
 @SpringBootTest
@@ -258,4 +261,96 @@ class HandRankServiceUnitTest {
 
         assertEquals(200, result);
     }
+
+    @Test
+    void calculateHandScore_CaseTwoThreeOfKinds_ShouldReturn600_GivenValidHand() {
+        var mockHand = new ArrayList<Card>();
+        mockHand.add(new Card(Suit.HEARTS, 9));
+        mockHand.add(new Card(Suit.SPADES, 9));
+        mockHand.add(new Card(Suit.CLUBS, 9));
+        mockHand.add(new Card(Suit.HEARTS, 4));
+        mockHand.add(new Card(Suit.SPADES, 4));
+        mockHand.add(new Card(Suit.DIAMONDS, 4));
+        mockHand.add(new Card(Suit.CLUBS, 2));
+
+        var result = handRankService.calculateHandScore(mockHand);
+
+        assertEquals(600, result);
+    }
+
+    @Test
+    void calculateWinnersByHandRanks_ShouldGiveHigherStrengthToBetterKicker_GivenSamePairOnBoard() {
+        var mockCommunityCards = List.of(new Card(Suit.HEARTS, 13), new Card(Suit.SPADES, 13), new Card(Suit.HEARTS, 9),
+                new Card(Suit.SPADES, 6), new Card(Suit.CLUBS, 2));
+
+        var mockPlayerHands = new HashMap<Player, List<Card>>();
+        mockPlayerHands.put(mockPlayers.get(0), new ArrayList<>(List.of(new Card(Suit.DIAMONDS, 14), new Card(Suit.CLUBS, 3))));
+        mockPlayerHands.put(mockPlayers.get(1), new ArrayList<>(List.of(new Card(Suit.DIAMONDS, 12), new Card(Suit.CLUBS, 11))));
+        mockPlayerHands.put(mockPlayers.get(2), new ArrayList<>(List.of(new Card(Suit.CLUBS, 14), new Card(Suit.DIAMONDS, 4))));
+        mockPlayerHands.values().forEach(hand -> hand.addAll(mockCommunityCards));
+
+        var result = handRankService.calculateWinnersByHandRanks(mockPlayers, mockPlayerHands);
+
+        var firstStrength = result.get(mockPlayers.get(0)).strength();
+        var secondStrength = result.get(mockPlayers.get(1)).strength();
+        var thirdStrength = result.get(mockPlayers.get(2)).strength();
+        assertEquals(100, result.get(mockPlayers.get(0)).score());
+        assertTrue(firstStrength > secondStrength);
+        assertEquals(firstStrength, thirdStrength);
+    }
+
+    @Test
+    void calculateWinnersByHandRanks_CaseWheelStraight_ShouldReturnStraightOrderedFromFiveToAce_GivenValidHand() {
+        var mockPlayer = mockPlayers.get(0);
+        var mockHand = new ArrayList<Card>();
+        mockHand.add(new Card(Suit.HEARTS, 14));
+        mockHand.add(new Card(Suit.SPADES, 2));
+        mockHand.add(new Card(Suit.CLUBS, 3));
+        mockHand.add(new Card(Suit.HEARTS, 4));
+        mockHand.add(new Card(Suit.DIAMONDS, 5));
+        mockHand.add(new Card(Suit.CLUBS, 9));
+        mockHand.add(new Card(Suit.SPADES, 12));
+
+        var result = handRankService.calculateWinnersByHandRanks(List.of(mockPlayer), Map.of(mockPlayer, mockHand));
+
+        var mockHandRank = result.get(mockPlayer);
+        assertEquals(400, mockHandRank.score());
+        assertEquals(List.of(5, 4, 3, 2, 14), mockHandRank.cardsWithCombination().stream().map(Card::getRank).toList());
+        assertEquals(List.of(12, 9), mockHandRank.cardsWithoutCombination().stream().map(Card::getRank).toList());
+    }
+
+    @Test
+    void calculateHandStrengths_ShouldReturnStrengthsInPlayerOrderAndNoHandForPlayersWithoutCards_GivenValidHands() {
+        var mockCommunityCards = List.of(new Card(Suit.HEARTS, 10), new Card(Suit.HEARTS, 11), new Card(Suit.CLUBS, 12));
+
+        var mockPlayerHands = new HashMap<Player, List<Card>>();
+        mockPlayerHands.put(mockPlayers.get(0), new ArrayList<>(List.of(new Card(Suit.SPADES, 13), new Card(Suit.DIAMONDS, 14))));
+        mockPlayerHands.put(mockPlayers.get(2), new ArrayList<>(List.of(new Card(Suit.SPADES, 10), new Card(Suit.DIAMONDS, 10))));
+        mockPlayerHands.values().forEach(hand -> hand.addAll(mockCommunityCards));
+
+        var result = handRankService.calculateHandStrengths(mockPlayers, mockPlayerHands);
+
+        assertEquals(3, result.length);
+        assertEquals(400, handRankService.calculateHandScore(mockPlayerHands.get(mockPlayers.get(0))));
+        assertEquals(HandRankService.NO_HAND, result[1]);
+        assertTrue(result[0] > result[2]);
+    }
+
+    @Test
+    void evaluateBatch_ShouldRankHandsLikeHandEvaluator_GivenMoreHandsThanOneChunk() {
+        var random = new Random(7);
+        var cardMasks = new long[20_000];
+        for (int i = 0; i < cardMasks.length; i++) {
+            while (Long.bitCount(cardMasks[i]) < 7) cardMasks[i] |= 1L << random.nextInt(CardCodec.DECK_SIZE);
+        }
+
+        var ordinals = new int[cardMasks.length];
+        handRankService.evaluateBatch(cardMasks, ordinals);
+
+        for (int i = 1; i < cardMasks.length; i++) {
+            assertTrue(ordinals[i] > 0);
+            int expected = Integer.compare(HandEvaluator.evaluate(cardMasks[i - 1]), HandEvaluator.evaluate(cardMasks[i]));
+            assertEquals(Integer.signum(expected), Integer.signum(Integer.compare(ordinals[i - 1], ordinals[i])));
+        }
+    }
 }
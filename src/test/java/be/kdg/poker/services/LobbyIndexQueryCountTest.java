@@ -0,0 +1,64 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.TestcontainersConfiguration;
+import be.kdg.poker.domain.enums.GameStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class LobbyIndexQueryCountTest {
+    @Autowired
+    private LobbyIndex lobbyIndex;
+    @Autowired
+    private GameService gameService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        lobbyIndex.snapshot();
+        statistics.clear();
+    }
+
+    @Test
+    void snapshot_ShouldNotQuery_GivenNothingChanged() {
+        //ACT
+        var first = lobbyIndex.snapshot();
+        var lobby = gameService.getLobby(GameStatus.WAITING, 0, 5);
+        var second = lobbyIndex.snapshot();
+
+        //ASSERT
+        assertFalse(lobby.games().isEmpty());
+        assertSame(first, second);
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void snapshot_ShouldReloadOnlyInvalidatedGameWithTwoQueries_GivenGameChanged() {
+        //ARRANGE
+        var before = lobbyIndex.snapshot();
+        var game = before.games().get(0);
+
+        //ACT
+        lobbyIndex.invalidate(game.id());
+        var after = lobbyIndex.snapshot();
+
+        //ASSERT
+        assertNotEquals(before.etag(), after.etag());
+        assertEquals(before.games().size(), after.games().size());
+        // the game and the seats of the game
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
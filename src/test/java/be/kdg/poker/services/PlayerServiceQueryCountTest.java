@@ -0,0 +1,40 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.TestcontainersConfiguration;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PlayerServiceQueryCountTest {
+    @Autowired
+    private PlayerService playerService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getCurrentPlayersOnMove_ShouldRunOneQuery_GivenSeededGames() {
+        //ACT
+        var playersOnMove = playerService.getCurrentPlayersOnMove();
+
+        //ASSERT
+        assertFalse(playersOnMove.isEmpty());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -1,6 +1,7 @@
 package be.kdg.poker.services;
 
 import be.kdg.poker.TestcontainersConfiguration;
+import be.kdg.poker.controllers.dto.GameOnMoveDto;
 import be.kdg.poker.controllers.dto.PlayerDto;
 import be.kdg.poker.controllers.dto.PlayerGameDto;
 import be.kdg.poker.controllers.dto.WinnerDto;
@@ -196,9 +197,7 @@ class PlayerServiceUnitTest {
     @Test
     void getCurrentPlayersOnMove_ShouldReturnPlayerGameDtoList_WhenPlayersAreOnMove() {
         // Arrange
-        when(gameRepository.findAllGamesWithPlayers()).thenReturn(List.of(mockGame));
-        when(roundRepository.findLatestByGame(mockGame.getId())).thenReturn(Optional.of(mockRound));
-        when(turnRepository.findAllByPlayerIdAndRoundId(mockPlayer.getId(), mockRound.getId())).thenReturn(List.of(mockTurn));
+        when(gameRepository.findPlayersOnMove()).thenReturn(List.of(onMove(mockGame, mockRound, mockPlayer)));
 
         // Act
         List<PlayerGameDto> result = playerService.getCurrentPlayersOnMove();
@@ -208,12 +207,13 @@ class PlayerServiceUnitTest {
         assertEquals(1, result.size());
         assertEquals(mockGame.getId(), result.get(0).gameId());
         assertEquals(mockPlayer.getId(), result.get(0).playerOnMove().id());
+        verifyNoInteractions(roundRepository, turnRepository);
     }
 
     @Test
     void getCurrentPlayersOnMove_ShouldReturnEmptyList_WhenNoGamesExist() {
         // Arrange
-        when(gameRepository.findAllGamesWithPlayers()).thenReturn(List.of());
+        when(gameRepository.findPlayersOnMove()).thenReturn(List.of());
 
         // Act
         List<PlayerGameDto> result = playerService.getCurrentPlayersOnMove();
@@ -227,7 +227,7 @@ class PlayerServiceUnitTest {
     void getCurrentPlayersOnMove_ShouldReturnNullPlayer_WhenGameIsNotInProgress() {
         // Arrange
         mockGame.setStatus(GameStatus.FINISHED);
-        when(gameRepository.findAllGamesWithPlayers()).thenReturn(List.of(mockGame));
+        when(gameRepository.findPlayersOnMove()).thenReturn(List.of(onMove(mockGame, mockRound, null)));
 
         // Act
         List<PlayerGameDto> result = playerService.getCurrentPlayersOnMove();
@@ -242,8 +242,7 @@ class PlayerServiceUnitTest {
     @Test
     void getCurrentPlayersOnMove_ShouldReturnNullPlayer_WhenRoundDoesNotExist() {
         // Arrange
-        when(gameRepository.findAllGamesWithPlayers()).thenReturn(List.of(mockGame));
-        when(roundRepository.findLatestByGame(mockGame.getId())).thenReturn(Optional.empty());
+        when(gameRepository.findPlayersOnMove()).thenReturn(List.of(onMove(mockGame, null, null)));
 
         // Act
         List<PlayerGameDto> result = playerService.getCurrentPlayersOnMove();
@@ -254,4 +253,26 @@ class PlayerServiceUnitTest {
         assertEquals(mockGame.getId(), result.get(0).gameId());
         assertNull(result.get(0).playerOnMove());
     }
+
+    @Test
+    void getCurrentPlayersOnMove_ShouldReturnFirstSeatOnly_WhenSeveralPlayersAreOnMove() {
+        // Arrange
+        var otherPlayer = new Player();
+        otherPlayer.setId(UUID.randomUUID());
+        otherPlayer.setPosition(3);
+        when(gameRepository.findPlayersOnMove()).thenReturn(List.of(onMove(mockGame, mockRound, mockPlayer), onMove(mockGame, mockRound, otherPlayer)));
+
+        // Act
+        List<PlayerGameDto> result = playerService.getCurrentPlayersOnMove();
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(mockPlayer.getId(), result.get(0).playerOnMove().id());
+    }
+
+    private static GameOnMoveDto onMove(Game game, Round round, Player player) {
+        return new GameOnMoveDto(game.getId(), game.getStatus(), round == null ? null : round.getId(),
+                player == null ? null : player.getId(), player == null ? null : player.getMoney(),
+                player == null ? null : player.getUsername(), player == null ? null : player.getPosition());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.TestcontainersConfiguration;
+import be.kdg.poker.repositories.RoundRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class RoundServiceQueryCountTest {
+    private static final UUID ROUND_ID = UUID.fromString("668bbee6-eeca-4123-a5d5-a3217f96c26a");
+
+    @Autowired
+    private RoundService roundService;
+    @Autowired
+    private RoundRepository roundRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findById_ShouldRunOneQuery_GivenSeededRound() {
+        //ACT
+        var round = roundService.findById(ROUND_ID);
+
+        //ASSERT
+        assertNotNull(round.getShowdownEquities());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findById_ShouldReadBackShowdownEquities_GivenSavedEquities() {
+        //ARRANGE
+        var playerId = UUID.randomUUID();
+        var round = roundService.findById(ROUND_ID);
+        round.setShowdownEquities(Map.of(playerId, 0.25));
+        roundRepository.save(round);
+        entityManager.flush();
+        entityManager.clear();
+
+        //ACT
+        var equities = roundService.findById(ROUND_ID).getShowdownEquities();
+
+        //ASSERT
+        assertEquals(Map.of(playerId, 0.25), equities);
+    }
+}
@@ -6,12 +6,14 @@ import be.kdg.poker.domain.*;
 import be.kdg.poker.domain.enums.Phase;
 import be.kdg.poker.domain.enums.PlayerStatus;
 import be.kdg.poker.domain.enums.Suit;
+import be.kdg.poker.engine.CardCodec;
 import be.kdg.poker.exceptions.ResourceNotFoundException;
 import be.kdg.poker.repositories.GameRepository;
 import be.kdg.poker.repositories.RoundRepository;
 import be.kdg.poker.repositories.TurnRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -27,11 +29,13 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @Import(TestcontainersConfiguration.class)
-@SpringBootTest
+@SpringBootTest(properties = {"poker.showdown.exact-equity.enabled=true", "poker.showdown.exact-equity.max-boards=1000"})
 class RoundServiceUnitTest {
 
     @Autowired
     private RoundService roundService;
+    @Autowired
+    private TableStateRegistry tableStateRegistry;
 
     @MockBean
     private RoundRepository roundRepository;
@@ -67,7 +71,7 @@ class RoundServiceUnitTest {
         mockRound = new Round();
         mockRound.setId(roundId);
         mockRound.setPhase(Phase.PRE_FLOP);
-        mockRound.setDeck(new ArrayList<>(List.of(
+        mockRound.setDeck(CardCodec.encode(List.of(
                 new Card(Suit.HEARTS, 10),
                 new Card(Suit.CLUBS, 2),
                 new Card(Suit.DIAMONDS, 5),
@@ -110,7 +114,7 @@ class RoundServiceUnitTest {
     void getCommunityCards_ShouldThrowException_WhenRoundNotFound() {
         // Arrange
         when(gameRepository.findById(gameId)).thenReturn(Optional.of(mockGame));
-        when(roundRepository.findByGameWithCommunityCards(mockGame)).thenReturn(Optional.empty());
+        when(roundRepository.findLatestByGame(mockGame.getId())).thenReturn(Optional.empty());
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> roundService.getCommunityCards(gameId));
@@ -130,7 +134,7 @@ class RoundServiceUnitTest {
 
         mockRound.setCommunityCards(new ArrayList<>(communityCards));
         when(gameRepository.findById(gameId)).thenReturn(Optional.of(mockGame));
-        when(roundRepository.findByGameWithCommunityCards(mockGame)).thenReturn(Optional.of(mockRound));
+        when(roundRepository.findLatestByGame(mockGame.getId())).thenReturn(Optional.of(mockRound));
 
         List<Card> result = roundService.getCommunityCards(gameId);
 
@@ -150,7 +154,7 @@ class RoundServiceUnitTest {
         mockRound.setCommunityCards(new ArrayList<>(communityCards));
 
         when(gameRepository.findById(gameId)).thenReturn(Optional.of(mockGame));
-        when(roundRepository.findByGameWithCommunityCards(mockGame)).thenReturn(Optional.of(mockRound));
+        when(roundRepository.findLatestByGame(mockGame.getId())).thenReturn(Optional.of(mockRound));
 
         List<Card> result = roundService.getCommunityCards(gameId);
 
@@ -171,7 +175,7 @@ class RoundServiceUnitTest {
         mockRound.setCommunityCards(new ArrayList<>(communityCards));
 
         when(gameRepository.findById(gameId)).thenReturn(Optional.of(mockGame));
-        when(roundRepository.findByGameWithCommunityCards(mockGame)).thenReturn(Optional.of(mockRound));
+        when(roundRepository.findLatestByGame(mockGame.getId())).thenReturn(Optional.of(mockRound));
 
         List<Card> result = roundService.getCommunityCards(gameId);
 
@@ -192,7 +196,7 @@ class RoundServiceUnitTest {
     void getCommunityCards_ShouldThrowResourceNotFoundException_WhenRoundNotFound() {
         // Arrange
         when(gameRepository.findById(gameId)).thenReturn(Optional.of(mockGame));
-        when(roundRepository.findByGameWithCommunityCards(mockGame)).thenReturn(Optional.empty());
+        when(roundRepository.findLatestByGame(mockGame.getId())).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> roundService.getCommunityCards(gameId));
@@ -331,14 +335,13 @@ class RoundServiceUnitTest {
         mockRound.setCommunityCards(new ArrayList<>());
 
         Card firstCard = new Card(Suit.HEARTS, 10);
-        List<Card> mockDeck = new ArrayList<>(List.of(firstCard, new Card(Suit.CLUBS, 2)));
-
-        when(roundRepository.findDeckByRoundId(roundId)).thenReturn(mockDeck);
+        mockRound.setDeck(CardCodec.encode(List.of(firstCard, new Card(Suit.CLUBS, 2))));
 
         roundService.addCommunityCard(mockRound);
 
         assertEquals(1, mockRound.getCommunityCards().size());
-        assertEquals(1, mockDeck.size()); // Deck should now have one less card
+        assertEquals(CardCodec.encode(firstCard), CardCodec.encode(mockRound.getCommunityCards().get(0)));
+        assertEquals(1, mockRound.getDeckCursor()); // Deck should now have one less card
         verify(roundRepository, times(1)).save(mockRound);
     }
 
@@ -346,8 +349,7 @@ class RoundServiceUnitTest {
     void addCommunityCard_ShouldThrowException_WhenDeckIsEmpty() {
         mockRound.setCommunityCards(new ArrayList<>());
 
-        List<Card> emptyDeck = new ArrayList<>();
-        when(roundRepository.findDeckByRoundId(roundId)).thenReturn(emptyDeck);
+        mockRound.setDeck(new byte[0]);
 
         IllegalStateException exception = assertThrows(IllegalStateException.class, () -> roundService.addCommunityCard(mockRound));
         assertEquals("Deck is empty, cannot add community card", exception.getMessage());
@@ -406,7 +408,6 @@ class RoundServiceUnitTest {
     void addCommunityCardsBasedOnPhase_ShouldAddThreeCards_WhenPhaseIsFlop() {
         // Arrange
         mockRound.setPhase(Phase.FLOP);
-        when(roundRepository.findDeckByRoundId(mockRound.getId())).thenReturn(mockRound.getDeck());
 
         // Act
         roundService.addCommunityCardsBasedOnPhase(mockRound);
@@ -420,7 +421,6 @@ class RoundServiceUnitTest {
     void addCommunityCardsBasedOnPhase_ShouldAddOneCard_WhenPhaseIsTurn() {
         // Arrange
         mockRound.setPhase(Phase.TURN);
-        when(roundRepository.findDeckByRoundId(mockRound.getId())).thenReturn(mockRound.getDeck());
 
         // Act
         roundService.addCommunityCardsBasedOnPhase(mockRound);
@@ -434,7 +434,6 @@ class RoundServiceUnitTest {
     void addCommunityCardsBasedOnPhase_ShouldAddOneCard_WhenPhaseIsRiver() {
         // Arrange
         mockRound.setPhase(Phase.RIVER);
-        when(roundRepository.findDeckByRoundId(mockRound.getId())).thenReturn(mockRound.getDeck());
 
         // Act
         roundService.addCommunityCardsBasedOnPhase(mockRound);
@@ -479,7 +478,6 @@ class RoundServiceUnitTest {
         doNothing().when(turnService).addSmallAndBigBlindsToRound(mockRound, mockGame);
         when(turnService.create(any(Round.class), any(Game.class))).thenReturn(new Turn());
         when(turnRepository.save(any(Turn.class))).thenReturn(new Turn());
-        when(roundRepository.findDeckByRoundId(any(UUID.class))).thenReturn(mockRound.getDeck());
         doNothing().when(notificationService).notifyPlayerOnMove(any(Player.class), any(Game.class));
 
         // Act
@@ -499,7 +497,6 @@ class RoundServiceUnitTest {
         when(gameRepository.findByIdWithPlayers(gameId)).thenReturn(Optional.of(mockGame));
         doNothing().when(turnService).addSmallAndBigBlindsToRound(mockRound, mockGame);
         when(turnService.create(any(Round.class), any(Game.class))).thenReturn(new Turn());
-        when(roundRepository.findDeckByRoundId(any(UUID.class))).thenReturn(mockRound.getDeck());
         doNothing().when(notificationService).notifyPlayerOnMove(any(Player.class), any(Game.class));
 
         // Act
@@ -535,7 +532,7 @@ class RoundServiceUnitTest {
     @Test
     void getCurrentRound_ShouldReturnRound_WhenRoundExists() {
         // Arrange
-        when(roundRepository.findLatestByGameWithDeck(gameId)).thenReturn(Optional.of(mockRound));
+        when(roundRepository.findLatestByGame(gameId)).thenReturn(Optional.of(mockRound));
 
         // Act
         Optional<Round> result = roundService.getCurrentRound(gameId);
@@ -543,20 +540,20 @@ class RoundServiceUnitTest {
         // Assert
         assertTrue(result.isPresent());
         assertEquals(mockRound, result.get());
-        verify(roundRepository, times(1)).findLatestByGameWithDeck(gameId);
+        verify(roundRepository, times(1)).findLatestByGame(gameId);
     }
 
     @Test
     void getCurrentRound_ShouldReturnEmpty_WhenNoRoundExists() {
         // Arrange
-        when(roundRepository.findLatestByGameWithDeck(gameId)).thenReturn(Optional.empty());
+        when(roundRepository.findLatestByGame(gameId)).thenReturn(Optional.empty());
 
         // Act
         Optional<Round> result = roundService.getCurrentRound(gameId);
 
         // Assert
         assertFalse(result.isPresent());
-        verify(roundRepository, times(1)).findLatestByGameWithDeck(gameId);
+        verify(roundRepository, times(1)).findLatestByGame(gameId);
     }
 
     @Test
@@ -698,11 +695,29 @@ class RoundServiceUnitTest {
         assertTrue(result);
     }
 
+    @Test
+    void validateAllPlayersHaveMadeMoves_ShouldReturnFalse_WhenPlayerHasNotRespondedToAllIn() {
+        // Arrange
+        mockRound.setPhase(Phase.FLOP);
+
+        Turn turn1 = new Turn(mockPlayer1, PlayerStatus.CHECK, mockRound, Phase.FLOP);
+        Turn turn2 = new Turn(mockPlayer2, PlayerStatus.ALL_IN, mockRound, Phase.FLOP);
+        turn2.setMoneyGambled(50);
+        Turn turn3 = new Turn(mockPlayer3, PlayerStatus.CALL, mockRound, Phase.FLOP);
+        turn3.setMoneyGambled(50);
+        mockRound.setTurns(List.of(turn1, turn2, turn3));
+
+        // Act
+        boolean result = roundService.validateAllPlayersHaveMadeMoves(mockGame, mockRound);
+
+        // Assert
+        assertFalse(result);
+    }
+
     @Test
     void runThroughLastRound_ShouldChangePhaseToFinished_WhenPhaseIsPreFlop() {
         // Arrange
         mockRound.setPhase(Phase.PRE_FLOP);
-        when(roundRepository.findDeckByRoundId(mockRound.getId())).thenReturn(mockRound.getDeck());
 
         // Act
         roundService.runThroughLastRound(gameId, roundId, mockRound);
@@ -716,7 +731,6 @@ class RoundServiceUnitTest {
     void runThroughLastRound_ShouldChangePhaseToFinished_WhenPhaseIsTurn() {
         // Arrange
         mockRound.setPhase(Phase.TURN);
-        when(roundRepository.findDeckByRoundId(mockRound.getId())).thenReturn(mockRound.getDeck());
 
         // Act
         roundService.runThroughLastRound(gameId, roundId, mockRound);
@@ -725,4 +739,148 @@ class RoundServiceUnitTest {
         assertEquals(Phase.FINISHED, mockRound.getPhase());
         assertEquals(1, mockRound.getCommunityCards().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void runThroughLastRound_ShouldRecordShowdownEquities_WhenPlayersWentAllin() {
+        // Arrange
+        mockRound.setPhase(Phase.FLOP);
+        mockRound.setTurns(new ArrayList<>());
+        mockRound.setCommunityCards(new ArrayList<>(List.of(
+                new Card(Suit.CLUBS, 3),
+                new Card(Suit.DIAMONDS, 7),
+                new Card(Suit.SPADES, 9)
+        )));
+        mockPlayer1.setHand(List.of(new Card(Suit.HEARTS, 14), new Card(Suit.SPADES, 14)));
+        mockPlayer2.setHand(List.of(new Card(Suit.HEARTS, 13), new Card(Suit.CLUBS, 13)));
+        when(gameRepository.findByIdWithPlayers(gameId)).thenReturn(Optional.of(mockGame));
+
+        // Act
+        roundService.runThroughLastRound(gameId, roundId, mockRound);
+
+        // Assert
+        RoundDto roundDto = roundService.mapToDto(mockRound);
+        assertEquals(2, roundDto.showdownEquities().size());
+        assertEquals(1.0, roundDto.showdownEquities().get(mockPlayer1.getId()) + roundDto.showdownEquities().get(mockPlayer2.getId()), 1e-9);
+        assertEquals(0.9162, roundDto.showdownEquities().get(mockPlayer1.getId()), 0.0001);
+    }
+
+    @Test
+    void runThroughLastRound_ShouldSkipShowdownEquities_WhenBoardsExceedTheLimit() {
+        // Arrange
+        mockRound.setPhase(Phase.PRE_FLOP);
+        mockRound.setTurns(new ArrayList<>());
+        mockPlayer1.setHand(List.of(new Card(Suit.DIAMONDS, 14), new Card(Suit.CLUBS, 14)));
+        mockPlayer2.setHand(List.of(new Card(Suit.DIAMONDS, 13), new Card(Suit.CLUBS, 13)));
+        when(gameRepository.findByIdWithPlayers(gameId)).thenReturn(Optional.of(mockGame));
+
+        // Act
+        roundService.runThroughLastRound(gameId, roundId, mockRound);
+
+        // Assert
+        assertTrue(roundService.mapToDto(mockRound).showdownEquities().isEmpty());
+        assertEquals(Phase.FINISHED, mockRound.getPhase());
+        assertEquals(5, mockRound.getCommunityCards().size());
+    }
+
+    @Test
+    void handleTurnAction_ShouldPutNextPlayerOnMoveWithoutReloadingRound_WhenTableIsLoaded() {
+        // Arrange
+        mockPlayer2.setPosition(1);
+        mockPlayer3.setPosition(2);
+        mockRound.setGame(mockGame);
+        Turn smallBlind = new Turn(mockPlayer2, PlayerStatus.SMALL_BLIND, mockRound, Phase.PRE_FLOP);
+        smallBlind.setMoneyGambled(5);
+        Turn bigBlind = new Turn(mockPlayer3, PlayerStatus.BIG_BLIND, mockRound, Phase.PRE_FLOP);
+        bigBlind.setMoneyGambled(10);
+        Turn onMove = new Turn(mockPlayer1, PlayerStatus.ON_MOVE, mockRound, Phase.PRE_FLOP);
+        mockRound.setTurns(new ArrayList<>(List.of(smallBlind, bigBlind, onMove)));
+        tableStateRegistry.load(mockGame, mockRound);
+
+        UUID turnId = UUID.randomUUID();
+        when(turnService.getByIdWithRound(turnId)).thenReturn(Optional.of(onMove));
+
+        // Act
+        roundService.handleTurnAction(turnId, gameId, roundId, turn -> turn.setMoveMade(PlayerStatus.FOLD));
+
+        // Assert
+        ArgumentCaptor<Turn> savedTurn = ArgumentCaptor.forClass(Turn.class);
+        verify(turnRepository).save(savedTurn.capture());
+        Turn nextTurn = savedTurn.getValue();
+        assertEquals(PlayerStatus.ON_MOVE, nextTurn.getMoveMade());
+        assertEquals(mockPlayer2, nextTurn.getPlayer());
+        assertEquals(mockRound, nextTurn.getRound());
+        verify(roundRepository, never()).findByIdWithTurns(any(UUID.class));
+        verify(gameRepository, never()).findByIdWithPlayers(any(UUID.class));
+    }
+
+    @Test
+    void handleTurnTimeout_ShouldCheck_WhenNothingToCallAndTableIsNotLoaded() {
+        // Arrange
+        Turn onMove = arrangeTimedOutTurnOnFlop(PlayerStatus.CHECK, 0);
+
+        // Act
+        roundService.handleTurnTimeout(onMove.getId(), gameId, roundId);
+
+        // Assert
+        verify(turnService).check(onMove);
+        verify(turnService, never()).fold(any(Turn.class));
+    }
+
+    @Test
+    void handleTurnTimeout_ShouldFold_WhenBetToCallAndTableIsNotLoaded() {
+        // Arrange
+        Turn onMove = arrangeTimedOutTurnOnFlop(PlayerStatus.RAISE, 20);
+
+        // Act
+        roundService.handleTurnTimeout(onMove.getId(), gameId, roundId);
+
+        // Assert
+        verify(turnService).fold(onMove);
+        verify(turnService, never()).check(any(Turn.class));
+    }
+
+    @Test
+    void handleTurnAction_ShouldNotPutAnyoneOnMove_WhenRiverIsFinished() {
+        // Arrange
+        mockPlayer1.setPosition(0);
+        mockPlayer2.setPosition(1);
+        mockRound.setGame(mockGame);
+        mockRound.setPhase(Phase.RIVER);
+        mockGame.setPlayers(new ArrayList<>(List.of(mockPlayer1, mockPlayer2)));
+        Turn check = new Turn(mockPlayer2, PlayerStatus.CHECK, mockRound, Phase.RIVER);
+        Turn onMove = new Turn(mockPlayer1, PlayerStatus.ON_MOVE, mockRound, Phase.RIVER);
+        mockRound.setTurns(new ArrayList<>(List.of(check, onMove)));
+        tableStateRegistry.load(mockGame, mockRound);
+
+        UUID turnId = UUID.randomUUID();
+        when(turnService.getByIdWithRound(turnId)).thenReturn(Optional.of(onMove));
+
+        // Act
+        roundService.handleTurnAction(turnId, gameId, roundId, turn -> turn.setMoveMade(PlayerStatus.CHECK));
+
+        // Assert
+        assertEquals(Phase.FINISHED, mockRound.getPhase());
+        verify(turnRepository, never()).save(any(Turn.class));
+        verify(notificationService, never()).notifyPlayerOnMove(any(Player.class), any(Game.class));
+        assertTrue(tableStateRegistry.find(gameId, roundId).isEmpty());
+    }
+
+    private Turn arrangeTimedOutTurnOnFlop(PlayerStatus previousMove, int previousAmount) {
+        mockPlayer1.setPosition(0);
+        mockPlayer2.setPosition(1);
+        mockPlayer3.setPosition(2);
+        mockRound.setGame(mockGame);
+        mockRound.setPhase(Phase.FLOP);
+        Turn previous = new Turn(mockPlayer2, previousMove, mockRound, Phase.FLOP);
+        previous.setMoneyGambled(previousAmount);
+        Turn onMove = new Turn(mockPlayer3, PlayerStatus.ON_MOVE, mockRound, Phase.FLOP);
+        onMove.setId(UUID.randomUUID());
+        mockRound.setTurns(new ArrayList<>(List.of(previous, onMove)));
+        tableStateRegistry.evict(gameId);
+
+        when(turnService.getByIdWithRound(onMove.getId())).thenReturn(Optional.of(onMove));
+        when(roundRepository.findByIdWithTurns(roundId)).thenReturn(Optional.of(mockRound));
+        when(gameRepository.findByIdWithPlayers(gameId)).thenReturn(Optional.of(mockGame));
+        return onMove;
+    }
+}
@@ -0,0 +1,71 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.domain.Card;
+import be.kdg.poker.domain.Player;
+import be.kdg.poker.domain.enums.Suit;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShowdownEquityServiceUnitTest {
+    private static final List<Card> FLOP = List.of(new Card(Suit.CLUBS, 3), new Card(Suit.DIAMONDS, 7), new Card(Suit.SPADES, 9));
+
+    @Test
+    void calculateEquities_ShouldReturnEquities_GivenBoardsWithinTheLimit() {
+        //ARRANGE
+        var showdownEquityService = new ShowdownEquityService(true, 990);
+        var aces = player(new Card(Suit.HEARTS, 14), new Card(Suit.SPADES, 14));
+        var kings = player(new Card(Suit.HEARTS, 13), new Card(Suit.CLUBS, 13));
+
+        //ACT
+        Map<UUID, Double> equities = showdownEquityService.calculateEquities(List.of(aces, kings), FLOP);
+
+        //ASSERT
+        assertEquals(0.9162, equities.get(aces.getId()), 0.0001);
+        assertEquals(1.0, equities.get(aces.getId()) + equities.get(kings.getId()), 1e-9);
+    }
+
+    @Test
+    void calculateEquities_ShouldReturnEmptyMap_GivenMoreBoardsThanTheLimit() {
+        //ARRANGE
+        var showdownEquityService = new ShowdownEquityService(true, 989);
+        var aces = player(new Card(Suit.HEARTS, 14), new Card(Suit.SPADES, 14));
+        var kings = player(new Card(Suit.HEARTS, 13), new Card(Suit.CLUBS, 13));
+
+        //ACT
+        Map<UUID, Double> equities = showdownEquityService.calculateEquities(List.of(aces, kings), FLOP);
+
+        //ASSERT
+        assertTrue(equities.isEmpty());
+    }
+
+    @Test
+    void calculateEquities_ShouldShareEquityOverEveryHand_GivenMultiwayShowdownOnTheTurn() {
+        //ARRANGE
+        var showdownEquityService = new ShowdownEquityService(true, 2_000_000);
+        var players = List.of(
+                player(new Card(Suit.HEARTS, 14), new Card(Suit.SPADES, 14)),
+                player(new Card(Suit.HEARTS, 13), new Card(Suit.CLUBS, 13)),
+                player(new Card(Suit.DIAMONDS, 12), new Card(Suit.CLUBS, 12))
+        );
+        var board = List.of(new Card(Suit.CLUBS, 3), new Card(Suit.DIAMONDS, 7), new Card(Suit.SPADES, 9), new Card(Suit.HEARTS, 2));
+
+        //ACT
+        Map<UUID, Double> equities = showdownEquityService.calculateEquities(players, board);
+
+        //ASSERT
+        assertEquals(3, equities.size());
+        assertEquals(1.0, equities.values().stream().mapToDouble(Double::doubleValue).sum(), 1e-9);
+    }
+
+    private static Player player(Card... hand) {
+        var player = new Player();
+        player.setId(UUID.randomUUID());
+        player.setHand(List.of(hand));
+        return player;
+    }
+}
@@ -0,0 +1,106 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.TestcontainersConfiguration;
+import be.kdg.poker.domain.Round;
+import be.kdg.poker.domain.enums.Phase;
+import be.kdg.poker.engine.CardCodec;
+import be.kdg.poker.engine.SeededDeck;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class ShuffleServiceUnitTest {
+    @Autowired
+    private ShuffleService shuffleService;
+
+    @Test
+    void shuffle_ShouldDealTheSameDeckAgain_GivenTheSeedOfTheRound() {
+        //ACT
+        var round = shuffleService.shuffle(new Round());
+
+        //ASSERT
+        assertEquals(SeededDeck.SEED_BYTES, round.getShuffleSeed().length);
+        assertArrayEquals(SeededDeck.commitment(round.getShuffleSeed()), round.getShuffleCommitment());
+        assertArrayEquals(round.getDeck(), SeededDeck.deal(round.getShuffleSeed().clone()));
+        assertTrue(shuffleService.verify(round, List.of()));
+    }
+
+    @Test
+    void verify_ShouldReturnTrue_GivenCardsDealtFromTheSeed() {
+        //ARRANGE
+        var round = shuffleService.shuffle(new Round());
+        var deck = round.getDeck();
+        round.setDeckCursor(3);
+
+        //ACT
+        boolean verified = shuffleService.verify(round, List.of(CardCodec.decode(deck[2]), CardCodec.decode(deck[0])));
+
+        //ASSERT
+        assertTrue(verified);
+    }
+
+    @Test
+    void verify_ShouldReturnFalse_GivenCardThatTheSeedDidNotDealYet() {
+        //ARRANGE
+        var round = shuffleService.shuffle(new Round());
+        var deck = round.getDeck();
+        round.setDeckCursor(2);
+
+        //ACT
+        boolean verified = shuffleService.verify(round, List.of(CardCodec.decode(deck[0]), CardCodec.decode(deck[2])));
+
+        //ASSERT
+        assertFalse(verified);
+    }
+
+    @Test
+    void verify_ShouldReturnFalse_GivenSeedDoesNotMatchTheCommitment() {
+        //ARRANGE
+        var round = shuffleService.shuffle(new Round());
+        var seed = round.getShuffleSeed().clone();
+        seed[0]++;
+        round.setShuffleSeed(seed);
+
+        //ACT
+        boolean verified = shuffleService.verify(round, List.of());
+
+        //ASSERT
+        assertFalse(verified);
+    }
+
+    @Test
+    void revealedSeed_ShouldOnlyBeShown_GivenFinishedRound() {
+        //ARRANGE
+        var round = shuffleService.shuffle(new Round());
+        round.setPhase(Phase.RIVER);
+
+        //ACT
+        var whilePlayed = shuffleService.revealedSeed(round);
+        round.setPhase(Phase.FINISHED);
+        var afterwards = shuffleService.revealedSeed(round);
+
+        //ASSERT
+        assertNull(whilePlayed);
+        assertEquals(HexFormat.of().formatHex(round.getShuffleSeed()), afterwards);
+        assertEquals(HexFormat.of().formatHex(SeededDeck.commitment(round.getShuffleSeed())), shuffleService.commitment(round));
+    }
+
+    @Test
+    void shuffle_ShouldDrawANewSeed_GivenAnotherRound() {
+        //ACT
+        var first = shuffleService.shuffle(new Round());
+        var second = shuffleService.shuffle(new Round());
+
+        //ASSERT
+        assertFalse(Arrays.equals(first.getShuffleSeed(), second.getShuffleSeed()));
+    }
+}
@@ -0,0 +1,115 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.TestcontainersConfiguration;
+import be.kdg.poker.exceptions.TableBusyException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class TableActorsUnitTest {
+    @Autowired
+    private TableActors tableActors;
+
+    @Test
+    void submit_ShouldRunCommandsOfOneGameOneAtATimeInOrder_GivenManyCommands() {
+        //ARRANGE
+        var gameId = UUID.randomUUID();
+        var running = new AtomicInteger();
+        var order = new ArrayList<Integer>();
+        var futures = new ArrayList<CompletableFuture<Integer>>();
+
+        //ACT
+        for (int i = 0; i < 32; i++) {
+            int command = i;
+            futures.add(tableActors.submit(gameId, () -> {
+                assertEquals(1, running.incrementAndGet());
+                order.add(command);
+                running.decrementAndGet();
+                return command;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        //ASSERT
+        for (int i = 0; i < 32; i++) {
+            assertEquals(i, order.get(i));
+            assertEquals(i, futures.get(i).join());
+        }
+    }
+
+    @Test
+    void submit_ShouldRejectCommand_GivenFullMailbox() throws InterruptedException {
+        //ARRANGE
+        var actors = new TableActors(1, 2);
+        var gameId = UUID.randomUUID();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        actors.submit(gameId, () -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        var queued = List.of(actors.submit(gameId, () -> 1), actors.submit(gameId, () -> 2));
+
+        //ACT
+        var rejected = actors.submit(gameId, () -> 3);
+
+        //ASSERT
+        var exception = assertThrows(TableBusyException.class, () -> actors.call(gameId, () -> 4));
+        assertTrue(exception.getMessage().contains(gameId.toString()));
+        assertTrue(rejected.isCompletedExceptionally());
+        release.countDown();
+        assertEquals(1, queued.get(0).join());
+        assertEquals(2, queued.get(1).join());
+        actors.shutdown();
+    }
+
+    @Test
+    void submit_ShouldDropActor_GivenNoPendingCommands() throws InterruptedException {
+        //ARRANGE
+        var actors = new TableActors(1, 2);
+        var gameId = UUID.randomUUID();
+        var release = new CountDownLatch(1);
+        var first = actors.submit(gameId, () -> release.await(5, TimeUnit.SECONDS));
+        var second = actors.submit(gameId, () -> 2);
+
+        //ACT
+        boolean busyWhileQueued = actors.hasActor(gameId);
+        release.countDown();
+        first.join();
+        second.join();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (actors.hasActor(gameId) && System.nanoTime() < deadline) Thread.sleep(1);
+
+        //ASSERT
+        assertTrue(busyWhileQueued);
+        assertFalse(actors.hasActor(gameId));
+        assertEquals(3, actors.call(gameId, () -> 3));
+        actors.shutdown();
+    }
+
+    @Test
+    void call_ShouldRethrowExceptionOfCommand_GivenFailingCommand() {
+        //ARRANGE
+        var gameId = UUID.randomUUID();
+
+        //ACT & ASSERT
+        var exception = assertThrows(IllegalStateException.class, () -> tableActors.call(gameId, () -> {
+            throw new IllegalStateException("not your turn");
+        }));
+        assertEquals("not your turn", exception.getMessage());
+    }
+}
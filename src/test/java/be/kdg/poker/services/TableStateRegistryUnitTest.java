@@ -0,0 +1,194 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.TestcontainersConfiguration;
+import be.kdg.poker.domain.Game;
+import be.kdg.poker.domain.Player;
+import be.kdg.poker.domain.Round;
+import be.kdg.poker.domain.Turn;
+import be.kdg.poker.domain.enums.Phase;
+import be.kdg.poker.domain.enums.PlayerStatus;
+import be.kdg.poker.engine.ActionRecord;
+import be.kdg.poker.engine.TableState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class TableStateRegistryUnitTest {
+    @Autowired
+    private TableStateRegistry tableStateRegistry;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Game game;
+    private Round round;
+    private Player dealer;
+    private Player smallBlind;
+    private Player bigBlind;
+
+    @BeforeEach
+    void setUp() {
+        game = new Game();
+        game.setId(UUID.randomUUID());
+
+        dealer = createPlayer(0, 100);
+        smallBlind = createPlayer(1, 95);
+        bigBlind = createPlayer(2, 90);
+        game.setPlayers(new ArrayList<>(List.of(bigBlind, dealer, smallBlind)));
+
+        round = new Round(Phase.PRE_FLOP, game);
+        round.setId(UUID.randomUUID());
+        round.setDealerIndex(0);
+        round.getTurns().add(createTurn(smallBlind, PlayerStatus.SMALL_BLIND, 5));
+        round.getTurns().add(createTurn(bigBlind, PlayerStatus.BIG_BLIND, 10));
+        round.getTurns().add(createTurn(dealer, PlayerStatus.ON_MOVE, 0));
+    }
+
+    @Test
+    void load_ShouldRebuildBetsAndPlayerOnMove_GivenTurnsOfRound() {
+        //ACT
+        var table = tableStateRegistry.load(game, round).orElseThrow();
+
+        //ASSERT
+        var state = table.state();
+        assertEquals(15, state.pot());
+        assertEquals(10, state.currentBet());
+        assertEquals(95, state.stack(table.seatOf(smallBlind.getId())));
+        assertTrue(table.isOnMove(dealer));
+        assertTrue(tableStateRegistry.find(game.getId(), round.getId()).isPresent());
+        assertTrue(tableStateRegistry.find(game.getId(), UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void apply_ShouldGiveBigBlindTheOptionBeforeNextStreet_GivenAllPlayersCalled() {
+        //ARRANGE
+        var table = tableStateRegistry.load(game, round).orElseThrow();
+        var state = table.state();
+
+        //ACT
+        var afterDealer = state.apply(table.seatOf(dealer.getId()), PlayerStatus.CALL, 10);
+        var afterSmallBlind = state.apply(table.seatOf(smallBlind.getId()), PlayerStatus.CALL, 5);
+        boolean bigBlindOnMove = table.isOnMove(bigBlind);
+        var afterBigBlind = state.apply(table.seatOf(bigBlind.getId()), PlayerStatus.CHECK, 0);
+
+        //ASSERT
+        assertEquals(TableState.Transition.NEXT_PLAYER, afterDealer);
+        assertEquals(TableState.Transition.NEXT_PLAYER, afterSmallBlind);
+        assertTrue(bigBlindOnMove);
+        assertEquals(TableState.Transition.NEXT_STREET, afterBigBlind);
+        assertEquals(30, state.pot());
+    }
+
+    @Test
+    void apply_ShouldFinishRound_GivenEveryoneButOnePlayerFolded() {
+        //ARRANGE
+        var table = tableStateRegistry.load(game, round).orElseThrow();
+        var state = table.state();
+
+        //ACT
+        state.apply(table.seatOf(dealer.getId()), PlayerStatus.FOLD, 0);
+        var transition = state.apply(table.seatOf(smallBlind.getId()), PlayerStatus.FOLD, 0);
+
+        //ASSERT
+        assertEquals(TableState.Transition.FINISHED, transition);
+        assertEquals(1, state.playersInHand());
+    }
+
+    @Test
+    void apply_ShouldRunOutBoard_GivenAllInCalledByEveryone() {
+        //ARRANGE
+        var table = tableStateRegistry.load(game, round).orElseThrow();
+        var state = table.state();
+
+        //ACT
+        state.apply(table.seatOf(dealer.getId()), PlayerStatus.ALL_IN, 100);
+        state.apply(table.seatOf(smallBlind.getId()), PlayerStatus.ALL_IN, 95);
+        var transition = state.apply(table.seatOf(bigBlind.getId()), PlayerStatus.CALL, 90);
+
+        //ASSERT
+        assertEquals(TableState.Transition.RUN_OUT, transition);
+        assertEquals(0, state.stack(table.seatOf(bigBlind.getId())));
+    }
+
+    @Test
+    void load_ShouldNotKeepTable_GivenTurnsWithoutPhase() {
+        //ARRANGE
+        round.getTurns().get(0).setMadeInPhase(null);
+
+        //ACT
+        var table = tableStateRegistry.load(game, round);
+
+        //ASSERT
+        assertTrue(table.isEmpty());
+        assertTrue(tableStateRegistry.find(game.getId(), round.getId()).isEmpty());
+    }
+
+    @Test
+    void restore_ShouldRebuildTableFromSnapshotAndLoggedActions_GivenTableWasEvicted() {
+        //ARRANGE
+        var table = tableStateRegistry.load(game, round).orElseThrow();
+        tableStateRegistry.apply(table, new ActionRecord(table.seatOf(dealer.getId()), PlayerStatus.CALL, 10));
+        tableStateRegistry.evict(game.getId());
+
+        //ACT
+        var restored = tableStateRegistry.restore(round).orElseThrow();
+
+        //ASSERT
+        assertEquals(25, restored.state().pot());
+        assertEquals(90, restored.state().stack(restored.seatOf(dealer.getId())));
+        assertTrue(restored.isOnMove(smallBlind));
+        assertTrue(tableStateRegistry.find(game.getId(), round.getId()).isPresent());
+    }
+
+    @Test
+    void apply_ShouldEvictTable_GivenTransactionRolledBack() {
+        //ARRANGE
+        var table = tableStateRegistry.load(game, round).orElseThrow();
+
+        //ACT
+        transactionTemplate.executeWithoutResult(status -> {
+            tableStateRegistry.apply(table, new ActionRecord(table.seatOf(dealer.getId()), PlayerStatus.CALL, 10));
+            status.setRollbackOnly();
+        });
+
+        //ASSERT
+        assertTrue(tableStateRegistry.find(game.getId(), round.getId()).isEmpty());
+    }
+
+    @Test
+    void apply_ShouldKeepTable_GivenTransactionCommitted() {
+        //ARRANGE
+        var table = tableStateRegistry.load(game, round).orElseThrow();
+
+        //ACT
+        transactionTemplate.executeWithoutResult(status ->
+                tableStateRegistry.apply(table, new ActionRecord(table.seatOf(dealer.getId()), PlayerStatus.CALL, 10)));
+
+        //ASSERT
+        assertSame(table, tableStateRegistry.find(game.getId(), round.getId()).orElseThrow());
+        assertEquals(25, table.state().pot());
+    }
+
+    private Player createPlayer(int position, int money) {
+        var player = new Player(UUID.randomUUID(), money);
+        player.setPosition(position);
+        player.setGame(game);
+        return player;
+    }
+
+    private Turn createTurn(Player player, PlayerStatus move, int moneyGambled) {
+        var turn = new Turn(player, move, round, Phase.PRE_FLOP);
+        turn.setMoneyGambled(moneyGambled);
+        return turn;
+    }
+}
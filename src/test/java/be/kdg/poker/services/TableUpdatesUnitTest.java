@@ -0,0 +1,167 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.TestcontainersConfiguration;
+import be.kdg.poker.domain.Game;
+import be.kdg.poker.domain.Player;
+import be.kdg.poker.domain.Round;
+import be.kdg.poker.domain.Turn;
+import be.kdg.poker.domain.enums.Phase;
+import be.kdg.poker.domain.enums.PlayerStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class TableUpdatesUnitTest {
+    @Autowired
+    private TableStateRegistry tableStateRegistry;
+    @Autowired
+    private ShuffleService shuffleService;
+
+    private TableUpdates tableUpdates;
+    private UUID gameId;
+    private Round round;
+    private Turn turn;
+
+    @BeforeEach
+    void setUp() {
+        tableUpdates = new TableUpdates(tableStateRegistry, shuffleService, 4, 1000, 4, 1000);
+        gameId = UUID.randomUUID();
+        round = new Round();
+        round.setId(UUID.randomUUID());
+        round.setPhase(Phase.PRE_FLOP);
+        round.setTurns(new ArrayList<>());
+        round.setCommunityCards(new ArrayList<>());
+
+        var player = new Player(UUID.randomUUID(), 100);
+        turn = new Turn(player, PlayerStatus.CALL, round, Phase.PRE_FLOP);
+        turn.setMoneyGambled(10);
+        round.getTurns().add(turn);
+    }
+
+    @Test
+    void since_ShouldReturnOnlyMissedUpdates_GivenKnownVersion() {
+        //ARRANGE
+        tableUpdates.subscribe(gameId);
+        tableUpdates.publish(gameId, round, null);
+        long known = tableUpdates.version(gameId);
+
+        //ACT
+        tableUpdates.publish(gameId, round, turn);
+        var missed = tableUpdates.since(gameId, known).orElseThrow();
+
+        //ASSERT
+        assertEquals(1, missed.size());
+        assertEquals(known + 1, missed.get(0).version());
+        assertEquals(PlayerStatus.CALL, missed.get(0).move());
+        assertEquals(10, missed.get(0).pot());
+        assertTrue(tableUpdates.since(gameId, tableUpdates.version(gameId)).orElseThrow().isEmpty());
+    }
+
+    @Test
+    void since_ShouldAskForFullState_GivenVersionNoLongerKept() {
+        //ARRANGE
+        tableUpdates.subscribe(gameId);
+        tableUpdates.publish(gameId, round, null);
+        long first = tableUpdates.version(gameId);
+
+        //ACT
+        for (int i = 0; i < 4; i++) tableUpdates.publish(gameId, round, turn);
+
+        //ASSERT
+        assertTrue(tableUpdates.since(gameId, first - 1).isEmpty());
+        assertEquals(4, tableUpdates.since(gameId, first).orElseThrow().size());
+        assertTrue(tableUpdates.since(gameId, 0).isEmpty());
+        assertTrue(tableUpdates.since(UUID.randomUUID(), first).isEmpty());
+    }
+
+    @Test
+    void publish_ShouldSkipGame_GivenNobodyFollowsIt() {
+        //ACT
+        tableUpdates.publish(gameId, round, turn);
+
+        //ASSERT
+        assertEquals(0, tableUpdates.version(gameId));
+        assertTrue(tableUpdates.since(gameId, 0).isEmpty());
+    }
+
+    @Test
+    void expireHistories_ShouldKeepUpdates_GivenGameWithSubscriber() {
+        //ARRANGE
+        tableUpdates.subscribe(gameId);
+        tableUpdates.publish(gameId, round, turn);
+        long version = tableUpdates.version(gameId);
+
+        //ACT
+        tableUpdates.expireHistories(System.currentTimeMillis() + 5000);
+
+        //ASSERT
+        assertEquals(version, tableUpdates.version(gameId));
+        assertTrue(tableUpdates.since(gameId, version - 1).isPresent());
+    }
+
+    @Test
+    void expireHistories_ShouldDropUpdatesAndStopFollowingGame_GivenNoSubscribersForRetentionPeriod() {
+        //ARRANGE
+        tableUpdates.subscribe(gameId);
+        tableUpdates.publish(gameId, round, turn);
+        long version = tableUpdates.version(gameId);
+        tableUpdates.unsubscribeAll(gameId);
+        long left = System.currentTimeMillis();
+
+        //ACT
+        tableUpdates.expireHistories(left + 500);
+        long versionWithinRetention = tableUpdates.version(gameId);
+        tableUpdates.expireHistories(left + 5000);
+        tableUpdates.publish(gameId, round, turn);
+
+        //ASSERT
+        assertEquals(version, versionWithinRetention);
+        assertEquals(0, tableUpdates.subscriberCount(gameId));
+        assertEquals(0, tableUpdates.version(gameId));
+        assertTrue(tableUpdates.since(gameId, version).isEmpty());
+    }
+
+    @Test
+    void publish_ShouldReadPotAndStacksFromTable_GivenTableInMemory() {
+        //ARRANGE
+        var game = new Game();
+        game.setId(gameId);
+        var smallBlind = new Player(UUID.randomUUID(), 95);
+        smallBlind.setPosition(0);
+        var bigBlind = new Player(UUID.randomUUID(), 90);
+        bigBlind.setPosition(1);
+        game.setPlayers(new ArrayList<>(List.of(smallBlind, bigBlind)));
+        var smallBlindTurn = new Turn(smallBlind, PlayerStatus.SMALL_BLIND, round, Phase.PRE_FLOP);
+        smallBlindTurn.setMoneyGambled(5);
+        var bigBlindTurn = new Turn(bigBlind, PlayerStatus.BIG_BLIND, round, Phase.PRE_FLOP);
+        bigBlindTurn.setMoneyGambled(10);
+        round.setTurns(new ArrayList<>(List.of(smallBlindTurn, bigBlindTurn)));
+        var table = tableStateRegistry.load(game, round).orElseThrow();
+        var onMove = new Turn(smallBlind, PlayerStatus.ON_MOVE, round, Phase.PRE_FLOP);
+        onMove.setId(UUID.randomUUID());
+        round.setTurns(null);
+        tableUpdates.subscribe(gameId);
+
+        //ACT
+        tableUpdates.publish(table, round, bigBlindTurn, onMove);
+
+        //ASSERT
+        var update = tableUpdates.since(gameId, tableUpdates.version(gameId) - 1).orElseThrow().get(0);
+        assertEquals(15, update.pot());
+        assertEquals(95, update.stacks().get(smallBlind.getId()));
+        assertEquals(90, update.stacks().get(bigBlind.getId()));
+        assertEquals(onMove.getId(), update.turnOnMove());
+        assertEquals(smallBlind.getId(), update.playerOnMove());
+        tableStateRegistry.evict(gameId);
+    }
+}
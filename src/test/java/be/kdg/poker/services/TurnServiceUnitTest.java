@@ -317,8 +317,7 @@ class TurnServiceUnitTest {
         assertEquals(85, smallBlindPlayer.getMoney());
         assertEquals(75, bigBlindPlayer.getMoney());
 
-        verify(turnRepository, times(1)).save(smallBlindTurn);
-        verify(turnRepository, times(1)).save(bigBlindTurn);
+        verify(turnRepository, times(1)).saveAll(List.of(smallBlindTurn, bigBlindTurn));
 
         verify(playerRepository, times(1)).saveAll(List.of(smallBlindPlayer, bigBlindPlayer));
     }
@@ -0,0 +1,135 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.TestcontainersConfiguration;
+import be.kdg.poker.domain.*;
+import be.kdg.poker.domain.enums.Phase;
+import be.kdg.poker.domain.enums.PlayerStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class TurnTimeoutSchedulerUnitTest {
+    @Autowired
+    private TurnTimeoutScheduler turnTimeoutScheduler;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Game game;
+    private Turn turn;
+
+    @BeforeEach
+    void setUp() {
+        var settings = new Configuration();
+        settings.setTimer(true);
+        game = new Game();
+        game.setId(UUID.randomUUID());
+        game.setSettings(settings);
+
+        var round = new Round();
+        round.setId(UUID.randomUUID());
+        turn = new Turn(new Player(UUID.randomUUID(), 100), PlayerStatus.ON_MOVE, round, Phase.PRE_FLOP);
+        turn.setId(UUID.randomUUID());
+    }
+
+    @Test
+    void remainingSeconds_ShouldCountDownFromTurnTimer_GivenScheduledTurn() {
+        //ACT
+        turnTimeoutScheduler.schedule(turn, game);
+
+        //ASSERT
+        int remaining = turnTimeoutScheduler.remainingSeconds(turn.getId()).orElseThrow();
+        assertTrue(remaining <= turnTimeoutScheduler.turnSeconds() && remaining >= turnTimeoutScheduler.turnSeconds() - 2);
+        turnTimeoutScheduler.cancel(turn.getId());
+        assertTrue(turnTimeoutScheduler.remainingSeconds(turn.getId()).isEmpty());
+    }
+
+    @Test
+    void schedule_ShouldHandOverDeadline_GivenExpiredTurnOfGameWithTimer() throws InterruptedException {
+        //ARRANGE
+        var scheduler = new TurnTimeoutScheduler(1, 10);
+        var expired = new AtomicReference<TurnTimeoutScheduler.TurnDeadline>();
+        var latch = new CountDownLatch(1);
+        scheduler.onExpiry(deadline -> {
+            expired.set(deadline);
+            latch.countDown();
+        });
+
+        //ACT
+        scheduler.schedule(turn, game);
+
+        //ASSERT
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(turn.getId(), expired.get().turnId());
+        assertEquals(game.getId(), expired.get().gameId());
+        assertTrue(scheduler.remainingSeconds(turn.getId()).isEmpty());
+        scheduler.shutdown();
+    }
+
+    @Test
+    void cancel_ShouldNotHandOverDeadline_GivenMoveBeforeExpiry() throws InterruptedException {
+        //ARRANGE
+        var scheduler = new TurnTimeoutScheduler(1, 10);
+        var latch = new CountDownLatch(1);
+        scheduler.onExpiry(deadline -> latch.countDown());
+        scheduler.schedule(turn, game);
+
+        //ACT
+        scheduler.cancel(turn.getId());
+
+        //ASSERT
+        assertFalse(latch.await(1500, TimeUnit.MILLISECONDS));
+        scheduler.shutdown();
+    }
+
+    @Test
+    void cancel_ShouldKeepDeadline_GivenTransactionRolledBack() {
+        //ARRANGE
+        turnTimeoutScheduler.schedule(turn, game);
+
+        //ACT
+        transactionTemplate.executeWithoutResult(status -> {
+            turnTimeoutScheduler.cancel(turn.getId());
+            status.setRollbackOnly();
+        });
+
+        //ASSERT
+        assertTrue(turnTimeoutScheduler.remainingSeconds(turn.getId()).isPresent());
+        turnTimeoutScheduler.cancel(turn.getId());
+        assertTrue(turnTimeoutScheduler.remainingSeconds(turn.getId()).isEmpty());
+    }
+
+    @Test
+    void cancelRound_ShouldStopEveryTimerOfRound_GivenTransactionCommitted() {
+        //ARRANGE
+        var otherTurn = new Turn(new Player(UUID.randomUUID(), 100), PlayerStatus.ON_MOVE, turn.getRound(), Phase.FLOP);
+        otherTurn.setId(UUID.randomUUID());
+        var otherRound = new Round();
+        otherRound.setId(UUID.randomUUID());
+        var turnOfOtherRound = new Turn(new Player(UUID.randomUUID(), 100), PlayerStatus.ON_MOVE, otherRound, Phase.PRE_FLOP);
+        turnOfOtherRound.setId(UUID.randomUUID());
+        turnTimeoutScheduler.schedule(turn, game);
+        turnTimeoutScheduler.schedule(otherTurn, game);
+        turnTimeoutScheduler.schedule(turnOfOtherRound, game);
+
+        //ACT
+        transactionTemplate.executeWithoutResult(status -> turnTimeoutScheduler.cancelRound(turn.getRound().getId()));
+
+        //ASSERT
+        assertTrue(turnTimeoutScheduler.remainingSeconds(turn.getId()).isEmpty());
+        assertTrue(turnTimeoutScheduler.remainingSeconds(otherTurn.getId()).isEmpty());
+        assertTrue(turnTimeoutScheduler.remainingSeconds(turnOfOtherRound.getId()).isPresent());
+        turnTimeoutScheduler.cancel(turnOfOtherRound.getId());
+    }
+}
@@ -0,0 +1,247 @@
+package be.kdg.poker.services;
+
+import be.kdg.poker.TestcontainersConfiguration;
+import be.kdg.poker.domain.Card;
+import be.kdg.poker.domain.Game;
+import be.kdg.poker.domain.Player;
+import be.kdg.poker.domain.Round;
+import be.kdg.poker.domain.Turn;
+import be.kdg.poker.domain.enums.Phase;
+import be.kdg.poker.domain.enums.PlayerStatus;
+import be.kdg.poker.domain.enums.Suit;
+import be.kdg.poker.repositories.GameRepository;
+import be.kdg.poker.repositories.PlayerRepository;
+import be.kdg.poker.repositories.RoundRepository;
+import be.kdg.poker.repositories.TurnRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * There is no separate write layer: the persistence context of the transaction is the unit of work of an action. Its
+ * writes wait until the flush (or until a query reads a table with pending writes) and are then sent grouped per table
+ * as JDBC batches. These tests record every statement prepared on a connection, where one batch is one statement, and
+ * assert exactly which write statements each service call sends.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class WriteBatchingTest {
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+    private static final Pattern WRITE = Pattern.compile("(insert into|update|delete from)\\s+\"?(\\w+)", Pattern.CASE_INSENSITIVE);
+
+    @Autowired
+    private TurnService turnService;
+    @Autowired
+    private GameRoundService gameRoundService;
+    @Autowired
+    private RoundService roundService;
+    @Autowired
+    private TableStateRegistry tableStateRegistry;
+    @Autowired
+    private TurnRepository turnRepository;
+    @Autowired
+    private GameRepository gameRepository;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private RoundRepository roundRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void addSmallAndBigBlindsToRound_ShouldFlushOneBatchPerTable_GivenNewRound() {
+        //ARRANGE
+        var game = gameRepository.findByIdWithPlayers(UUID.fromString("3e8c27df-6e15-426b-9c76-5825d61183f7")).orElseThrow();
+        var round = roundRepository.save(new Round(Phase.PRE_FLOP, game));
+        entityManager.flush();
+        startCounting();
+
+        //ACT
+        turnService.addSmallAndBigBlindsToRound(round, game);
+        entityManager.flush();
+
+        //ASSERT
+        // two turns carrying their round column and the two blind players: one batch per table instead of four statements
+        assertEquals(2, statistics.getEntityStatistics(Turn.class.getName()).getInsertCount());
+        assertEquals(2, statistics.getEntityStatistics(Player.class.getName()).getUpdateCount());
+        assertEquals(Map.of("insert into turn", 1L, "update player", 1L), writeStatements(), STATEMENTS::toString);
+    }
+
+    @Test
+    void giveAllPlayersTwoCardsFromTheDeck_ShouldStoreTheHandInThePlayerRow_GivenSeededRound() {
+        //ARRANGE
+        var round = roundRepository.findById(UUID.fromString("668bbee6-eeca-4123-a5d5-a3217f96c26a")).orElseThrow();
+        var player = playerRepository.findById(UUID.fromString("fbe9bdbf-4329-4fea-9bed-0449d5677804")).orElseThrow();
+        startCounting();
+
+        //ACT
+        gameRoundService.giveAllPlayersTwoCardsFromTheDeck(round, player);
+        entityManager.flush();
+        entityManager.clear();
+
+        //ASSERT
+        // the hand is written with the player row and the deck cursor with the round row, without join table rows
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getEntityStatistics(Player.class.getName()).getUpdateCount());
+        assertEquals(1, statistics.getEntityStatistics(Round.class.getName()).getUpdateCount());
+        assertEquals(Map.of("update player", 1L, "update round", 1L), writeStatements(), STATEMENTS::toString);
+        var hand = playerRepository.findById(player.getId()).orElseThrow().getHand();
+        // the first two cards the seed of the round deals
+        assertEquals(List.of(new Card(Suit.HEARTS, 3), new Card(Suit.SPADES, 7)), hand);
+        // every card keeps the id of its row in the card table
+        hand.forEach(card -> assertEquals(card, entityManager.find(Card.class, card.getId())));
+    }
+
+    @Test
+    void handleTurnAction_ShouldWriteOneStatementPerTable_GivenCheckOnTableInMemory() {
+        //ACT & ASSERT
+        assertActionStatements(turn -> turnService.check(turn), PlayerStatus.CHECK);
+    }
+
+    @Test
+    void handleTurnAction_ShouldWriteOneStatementPerTable_GivenCallOnTableInMemory() {
+        //ACT & ASSERT
+        assertActionStatements(turn -> turnService.call(turn, 10), PlayerStatus.CALL);
+    }
+
+    @Test
+    void handleTurnAction_ShouldWriteOneStatementPerTable_GivenRaiseOnTableInMemory() {
+        //ACT & ASSERT
+        assertActionStatements(turn -> turnService.raise(turn, 20), PlayerStatus.RAISE);
+    }
+
+    /**
+     * Starts a round of the seeded four player game with its table in memory, lets the first player act and counts the
+     * statements of the action. Every action writes four rows with one statement each: the move of the turn, the
+     * logged action, the next turn on move and the notification of the player on move.
+     */
+    private void assertActionStatements(Consumer<Turn> action, PlayerStatus expectedMove) {
+        //ARRANGE
+        var game = gameRepository.findByIdWithPlayers(UUID.fromString("7fabf988-a888-4dc6-8423-4cd9f620ff00")).orElseThrow();
+        var round = roundRepository.save(new Round(Phase.PRE_FLOP, game));
+        turnService.addSmallAndBigBlindsToRound(round, game);
+        var firstTurn = TurnService.addFirstPlayer(round, game, turnRepository, roundRepository);
+        entityManager.flush();
+        tableStateRegistry.load(game, round).orElseThrow();
+        entityManager.flush();
+        entityManager.clear();
+        startCounting();
+
+        //ACT
+        roundService.handleTurnAction(firstTurn.getId(), game.getId(), round.getId(), action);
+        entityManager.flush();
+
+        //ASSERT
+        assertEquals(3, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(Map.of(
+                "update turn", 1L,
+                "insert into round_action", 1L,
+                "insert into turn", 1L,
+                "insert into notification", 1L
+        ), writeStatements(), STATEMENTS::toString);
+        entityManager.clear();
+        assertEquals(expectedMove, turnRepository.findById(firstTurn.getId()).orElseThrow().getMoveMade());
+        assertTrue(tableStateRegistry.find(game.getId(), round.getId()).orElseThrow().isOnMove(playerAtPosition(game, 0)));
+    }
+
+    private static Player playerAtPosition(Game game, int position) {
+        return game.getPlayers().stream().filter(player -> player.getPosition() == position).findFirst().orElseThrow();
+    }
+
+    private void startCounting() {
+        statistics.clear();
+        STATEMENTS.clear();
+    }
+
+    /**
+     * @return the number of write statements per kind and table since counting started, e.g. "insert into turn"
+     */
+    private static Map<String, Long> writeStatements() {
+        return STATEMENTS.stream()
+                .map(sql -> WRITE.matcher(sql.strip()))
+                .filter(Matcher::lookingAt)
+                .collect(Collectors.groupingBy(write -> (write.group(1) + " " + write.group(2)).toLowerCase(), Collectors.counting()));
+    }
+
+    /**
+     * Records the SQL of every statement prepared on a connection of the data source.
+     */
+    @TestConfiguration
+    static class StatementRecording {
+        @Bean
+        static BeanPostProcessor recordPreparedStatements() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? recording(dataSource) : bean;
+                }
+            };
+        }
+
+        private static DataSource recording(DataSource dataSource) {
+            return proxy(DataSource.class, (method, args) -> {
+                var result = invoke(dataSource, method, args);
+                return result instanceof Connection connection ? recording(connection) : result;
+            });
+        }
+
+        private static Connection recording(Connection connection) {
+            return proxy(Connection.class, (method, args) -> {
+                if (method.getName().equals("prepareStatement")) STATEMENTS.add((String) args[0]);
+                return invoke(connection, method, args);
+            });
+        }
+
+        private static <T> T proxy(Class<T> type, Invocation invocation) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> invocation.invoke(method, args)));
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private interface Invocation {
+            Object invoke(Method method, Object[] args) throws Throwable;
+        }
+    }
+}